@@ -0,0 +1,80 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.AngleMath;
+import com.futurestats.astronomy.angles.Degrees;
+import com.futurestats.astronomy.angles.MutableAngle;
+
+/**
+ * The same small angle computation (add a longitude, normalize, convert to
+ * hours and take a sine) done with Angle objects, with the primitive 
+ * AngleMath functions and with a reused MutableAngle.  Scores are per 
+ * batch of 1000 angles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AngleBenchmark {
+
+	static final int SIZE = 1000;
+	
+	double [] values = new double[SIZE];
+	Angle longitude = Degrees.of(-84.512);
+	MutableAngle mutable = new MutableAngle();
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(17);
+		for (int i=0; i<SIZE; i++)
+			values[i] = random.nextDouble() * 720 - 360;
+	}
+	
+	@Benchmark
+	public double angleObjects() {
+		double sum = 0;
+		for (int i=0; i<SIZE; i++) {
+			Angle a = Degrees.of(values[i]).add(longitude).normalize();
+			sum += a.toHours().value() + a.sin();
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public double angleMath() {
+		double lon = longitude.degreesValue();
+		double sum = 0;
+		for (int i=0; i<SIZE; i++) {
+			double deg = AngleMath.normalizeDegrees(values[i] + lon);
+			sum += AngleMath.degreesToHours(deg) + AngleMath.sinDegrees(deg);
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public double mutableAngle() {
+		double sum = 0;
+		for (int i=0; i<SIZE; i++) {
+			mutable.set(values[i]).add(longitude).normalize();
+			sum += mutable.hours() + mutable.sin();
+		}
+		return sum;
+	}
+	
+}
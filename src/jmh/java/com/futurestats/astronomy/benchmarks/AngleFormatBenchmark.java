@@ -0,0 +1,116 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.algos.meeus.Utils;
+import com.futurestats.astronomy.angles.AngleFormat;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * Formatting 1000 declinations and right ascensions as text with the 
+ * original string methods and with AngleFormat writing into reused 
+ * buffers, and parsing them back.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AngleFormatBenchmark {
+
+	static final int SIZE = 1000;
+	
+	double [] dec = new double[SIZE];
+	double [] ra = new double[SIZE];
+	
+	AngleFormat hms = new AngleFormat(3);
+	AngleFormat dms = new AngleFormat(2);
+	
+	StringBuilder text = new StringBuilder(SIZE * 40);
+	ByteBuffer bytes = ByteBuffer.allocate(SIZE * 40);
+	int [] ends = new int[SIZE * 2];
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(19);
+		for (int i=0; i<SIZE; i++) {
+			dec[i] = random.nextDouble() * 180 - 90;
+			ra[i] = random.nextDouble() * 360;
+		}
+		
+		bytes.clear();
+		for (int i=0; i<SIZE; i++) {
+			hms.putHms(bytes, ra[i]);
+			ends[2*i] = bytes.position();
+			dms.putDms(bytes, dec[i]);
+			ends[2*i + 1] = bytes.position();
+		}
+	}
+	
+	@Benchmark
+	public int angleStrings() {
+		int length = 0;
+		for (int i=0; i<SIZE; i++) {
+			length += Degrees.of(ra[i]).toHmsString().length();
+			length += Degrees.of(dec[i]).toDmsString().length();
+		}
+		return length;
+	}
+	
+	@Benchmark
+	public int utilsStrings() {
+		int length = 0;
+		for (int i=0; i<SIZE; i++) {
+			length += Utils.degreesToHmsString(ra[i]).length();
+			length += Utils.degreesToDmsString(dec[i]).length();
+		}
+		return length;
+	}
+	
+	@Benchmark
+	public int appendStringBuilder() {
+		text.setLength(0);
+		for (int i=0; i<SIZE; i++) {
+			hms.appendHms(text, ra[i]).append(',');
+			dms.appendDms(text, dec[i]).append('\n');
+		}
+		return text.length();
+	}
+	
+	@Benchmark
+	public int putByteBuffer() {
+		bytes.clear();
+		for (int i=0; i<SIZE; i++) {
+			hms.putHms(bytes, ra[i]).put((byte)',');
+			dms.putDms(bytes, dec[i]).put((byte)'\n');
+		}
+		return bytes.position();
+	}
+	
+	@Benchmark
+	public double parseByteBuffer() {
+		double sum = 0;
+		int start = 0;
+		for (int i=0; i<SIZE; i++) {
+			sum += AngleFormat.parseHms(bytes, start, ends[2*i]);
+			sum += AngleFormat.parseDms(bytes, ends[2*i], ends[2*i + 1]);
+			start = ends[2*i + 1];
+		}
+		return sum;
+	}
+	
+}
@@ -0,0 +1,35 @@
+package com.futurestats.astronomy.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for benchmarks.jar.  This behaves like the standard JMH main
+ * class (all of the usual command line options are accepted) except that the
+ * GC profiler is always attached so that the allocation rate (gc.alloc.rate.norm)
+ * is reported next to the throughput of each benchmark.  This makes the cost
+ * of the Angle objects in the main package visible next to the raw double
+ * math in algos.meeus.
+ * 
+ * Usage:
+ *   mvn -P benchmarks package
+ *   java -jar target/benchmarks.jar [regexp] [jmh options]
+ */
+public class BenchmarkRunner {
+
+	public static void main(String [] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		Options options = new OptionsBuilder()
+				.parent(cmdOptions)
+				.addProfiler(GCProfiler.class)
+				.build();
+		
+		new Runner(options).run();
+	}
+	
+}
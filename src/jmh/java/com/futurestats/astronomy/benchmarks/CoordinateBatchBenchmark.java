@@ -0,0 +1,152 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.EclipticalCoordinate;
+import com.futurestats.astronomy.EquatorialCoordinate;
+import com.futurestats.astronomy.GalacticCoordinate;
+import com.futurestats.astronomy.PrecessionEngine;
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.algos.meeus.Chapter21;
+import com.futurestats.astronomy.algos.meeus.Structs;
+import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * Columnar (batch) Chapter 13 conversions (ecliptic and galactic) and 
+ * Chapter 21 precession of a star catalog compared with converting each star on its own.  Scores are
+ * per batch of 'size' stars.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoordinateBatchBenchmark {
+
+	@Param({"2500000"})
+	int size;
+	
+	double epsilon = 23.4392911;
+	Angle epsilonAngle = Degrees.of(epsilon);
+	
+	double jd0 = 2451545.0;
+	double jd = 2462088.69;
+	PrecessionEngine engine = new PrecessionEngine(PrecessionEngine.DEFAULT_CACHE_SIZE);
+	double [] galactic = Chapter13.galacticMatrixJ2000();
+	
+	double [] alpha;
+	double [] delta;
+	double [] lambda;
+	double [] beta;
+	
+	@Setup
+	public void setup() {
+		alpha = new double[size];
+		delta = new double[size];
+		lambda = new double[size];
+		beta = new double[size];
+		
+		Random random = new Random(13);
+		for (int i=0; i<size; i++) {
+			alpha[i] = random.nextDouble() * 360;
+			delta[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+	}
+	
+	@Benchmark
+	public double [] facadeEquatorialToEcliptic() {
+		for (int i=0; i<size; i++) {
+			EclipticalCoordinate y = EquatorialCoordinate.fromDegrees(alpha[i], delta[i])
+					.toEclipticalCoordinate(epsilonAngle);
+			lambda[i] = y.getLongitude().toDegrees().value();
+			beta[i] = y.getLatitude().toDegrees().value();
+		}
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] batchEquatorialToEcliptic() {
+		Chapter13.equatorialToEcliptic(alpha, delta, epsilon, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] parallelEquatorialToEcliptic() {
+		Chapter13.equatorialToEclipticParallel(alpha, delta, epsilon, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] batchEclipticToEquatorial() {
+		Chapter13.eclipticToEquatorial(alpha, delta, epsilon, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] parallelEclipticToEquatorial() {
+		Chapter13.eclipticToEquatorialParallel(alpha, delta, epsilon, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] chapter21Precession() {
+		for (int i=0; i<size; i++) {
+			Structs.EquatorialCoordinate y = Chapter21.adjust(
+					new Structs.EquatorialCoordinate(alpha[i], delta[i]), jd0, jd);
+			lambda[i] = y.rightAscension;
+			beta[i] = y.declination;
+		}
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] batchPrecession() {
+		Chapter21.adjust(engine.matrixFor(jd0, jd), alpha, delta, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] parallelPrecession() {
+		engine.adjust(jd0, jd, alpha, delta, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] facadeEquatorialToGalactic() {
+		for (int i=0; i<size; i++) {
+			GalacticCoordinate y = EquatorialCoordinate.fromDegrees(alpha[i], delta[i])
+					.toGalacticCoordinate();
+			lambda[i] = y.getLongitude().toDegrees().value();
+			beta[i] = y.getLatitude().toDegrees().value();
+		}
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] batchEquatorialToGalactic() {
+		Chapter13.equatorialToGalactic(galactic, alpha, delta, lambda, beta);
+		return beta;
+	}
+	
+	@Benchmark
+	public double [] parallelEquatorialToGalactic() {
+		Chapter13.equatorialToGalacticParallel(galactic, alpha, delta, lambda, beta);
+		return beta;
+	}
+	
+}
@@ -0,0 +1,87 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.EclipticalCoordinate;
+import com.futurestats.astronomy.EquatorialCoordinate;
+import com.futurestats.astronomy.JulianDate;
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.algos.meeus.Chapter21;
+import com.futurestats.astronomy.algos.meeus.Structs;
+import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * Chapter 13 (Transformation of Coordinates) and Chapter 21 (Precession)
+ * compared with the EquatorialCoordinate and EclipticalCoordinate facades.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CoordinateBenchmark {
+
+	double alpha = 116.328942;
+	double delta = 28.026183;
+	double epsilon = 23.4392911;
+	double lambda = 113.215630;
+	double beta = 6.684170;
+	double jd0 = 2451545.0;
+	double jd = 2462088.69;
+	
+	Structs.EquatorialCoordinate equatorial = new Structs.EquatorialCoordinate(alpha, delta);
+	Structs.EclipticalCoordinate ecliptical = new Structs.EclipticalCoordinate(lambda, beta);
+	
+	EquatorialCoordinate equatorialFacade = EquatorialCoordinate.fromDegrees(alpha, delta);
+	EclipticalCoordinate eclipticalFacade = EclipticalCoordinate.fromDegrees(lambda, beta);
+	Angle epsilonAngle = Degrees.of(epsilon);
+	JulianDate julianDate0 = JulianDate.of(jd0);
+	JulianDate julianDate = JulianDate.of(jd);
+	
+	// --- Chapter 13 ---------------------------------------------------------
+	
+	@Benchmark
+	public Structs.EclipticalCoordinate chapter13EquatorialToEcliptic() {
+		return Chapter13.equatorialToEcliptic(equatorial, epsilon);
+	}
+	
+	@Benchmark
+	public EclipticalCoordinate equatorialToEclipticalCoordinate() {
+		return equatorialFacade.toEclipticalCoordinate(epsilonAngle);
+	}
+	
+	@Benchmark
+	public Structs.EquatorialCoordinate chapter13EclipticToEquatorial() {
+		return Chapter13.eclipticToEquatorial(ecliptical, epsilon);
+	}
+	
+	@Benchmark
+	public EquatorialCoordinate eclipticalToEquatorialCoordinate() {
+		return eclipticalFacade.toEquatorialCoordinate(epsilonAngle);
+	}
+	
+	// --- Chapter 21 ---------------------------------------------------------
+	
+	@Benchmark
+	public Structs.EquatorialCoordinate chapter21Adjust() {
+		return Chapter21.adjust(equatorial, jd0, jd);
+	}
+	
+	@Benchmark
+	public EquatorialCoordinate equatorialAdjustForPrecession() {
+		return equatorialFacade.adjustForPrecession(julianDate0, julianDate);
+	}
+	
+}
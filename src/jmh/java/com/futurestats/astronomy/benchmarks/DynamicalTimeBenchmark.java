@@ -0,0 +1,71 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.DeltaTTable;
+import com.futurestats.astronomy.DynamicalTime;
+import com.futurestats.astronomy.algos.meeus.Chapter10;
+
+/**
+ * Chapter 10 (Dynamical Time) formulas compared with the interpolated
+ * DeltaTTable, for single values and for a batch of 100,000 timestamps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DynamicalTimeBenchmark {
+
+	int year = 1987;
+	double decimalYear = 1987.27;
+	double jd = 2446895.5;
+	
+	DeltaTTable table = DeltaTTable.DEFAULT;
+	
+	double [] batch;
+	double [] batchOut;
+	
+	@Setup
+	public void setup() {
+		batch = new double[100000];
+		batchOut = new double[batch.length];
+		for (int i=0; i<batch.length; i++)
+			batch[i] = jd + i * 0.01;
+	}
+	
+	@Benchmark
+	public double dynamicalTimeOffsetForYear() {
+		return DynamicalTime.offsetForYear(year);
+	}
+	
+	@Benchmark
+	public double chapter10EstimateDynamicTimeOffset() {
+		return Chapter10.estimateDynamicTimeOffset(decimalYear);
+	}
+	
+	@Benchmark
+	public double deltaTTableOffsetFor() {
+		return table.offsetFor(jd);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public double [] deltaTTableToDynamicalTimeBatch() {
+		table.toDynamicalTime(batch, batchOut);
+		return batchOut;
+	}
+	
+}
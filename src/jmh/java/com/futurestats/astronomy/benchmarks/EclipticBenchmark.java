@@ -0,0 +1,103 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.Ecliptic;
+import com.futurestats.astronomy.JulianDate;
+import com.futurestats.astronomy.NutationTable;
+import com.futurestats.astronomy.algos.meeus.Chapter22;
+import com.futurestats.astronomy.algos.meeus.Structs;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * Chapter 22 (Nutation and Obliquity of the Ecliptic) compared with the
+ * Ecliptic facade.  Nutation is compared in three modes: the full series
+ * (exact), the approximate formula and interpolation from a NutationTable
+ * (cached).  The 'Hourly' benchmarks compute a year of hourly values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EclipticBenchmark {
+
+	double jde = 2446895.5;
+	
+	JulianDate julianDate = JulianDate.of(jde);
+	
+	NutationTable table = NutationTable.getDefault();
+	
+	double [] hourly = new double[365 * 24];
+	
+	@Benchmark
+	public Structs.Nutation chapter22Nutation() {
+		return Chapter22.nutation(jde);
+	}
+	
+	@Benchmark
+	public Structs.Nutation chapter22NutationApprox() {
+		return Chapter22.nutationApprox(jde);
+	}
+	
+	@Benchmark
+	public Structs.Nutation nutationTable() {
+		return table.nutationFor(jde);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public double [] nutationHourlyExact() {
+		for (int i=0; i<hourly.length; i++)
+			hourly[i] = Chapter22.nutation(jde + i / 24.0).longitude;
+		return hourly;
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public double [] nutationHourlyApprox() {
+		for (int i=0; i<hourly.length; i++)
+			hourly[i] = Chapter22.nutationApprox(jde + i / 24.0).longitude;
+		return hourly;
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public double [] nutationHourlyCached() {
+		for (int i=0; i<hourly.length; i++)
+			hourly[i] = table.longitudeFor(jde + i / 24.0);
+		return hourly;
+	}
+	
+	@Benchmark
+	public Ecliptic.Nutation eclipticGetNutationFor() {
+		return Ecliptic.getNutationFor(julianDate);
+	}
+	
+	@Benchmark
+	public double chapter22Obliquity() {
+		return Chapter22.meanObliquityOfEcliptic(jde) + Chapter22.nutation(jde).obliquity / 3600;
+	}
+	
+	@Benchmark
+	public Angle eclipticGetObliquity() {
+		return Ecliptic.getObliquity(julianDate);
+	}
+	
+	@Benchmark
+	public Angle eclipticGetObliquityCached() {
+		return Ecliptic.getObliquity(julianDate, table);
+	}
+	
+}
@@ -0,0 +1,95 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.HorizontalGrid;
+import com.futurestats.astronomy.JulianDate;
+import com.futurestats.astronomy.algos.meeus.Chapter12;
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.algos.meeus.Structs;
+
+/**
+ * Altitude/azimuth for 'targets' objects at 'times' times over a night 
+ * using HorizontalGrid compared with calling Chapter 13 for every pair.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HorizontalGridBenchmark {
+
+	@Param({"10000"})
+	int targets;
+	
+	@Param({"600"})
+	int times;
+	
+	GeoContext context = GeoContext.CINCINNATI;
+	HorizontalGrid grid = new HorizontalGrid(context);
+	JulianDate start = JulianDate.from(2022, 8, 6.0);
+	double step = 0.5 / 600;
+	
+	double [] ra;
+	double [] dec;
+	double [] altitude;
+	double [] azimuth;
+	
+	@Setup
+	public void setup() {
+		ra = new double[targets];
+		dec = new double[targets];
+		altitude = new double[targets * times];
+		azimuth = new double[targets * times];
+		
+		Random random = new Random(15);
+		for (int i=0; i<targets; i++) {
+			ra[i] = random.nextDouble() * 360;
+			dec[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+	}
+	
+	@Benchmark
+	public double [] chapter13Loop() {
+		double latitude = context.getLatitude().toDegrees().value();
+		double longitude = context.getLongitude().toDegrees().value();
+		for (int t=0; t<times; t++) {
+			double lmst = Chapter12.gmst(start.value() + t * step) + longitude;
+			for (int i=0; i<targets; i++) {
+				Structs.HorizontalCoordinate y = Chapter13.equatorialToHorizontal(
+						new Structs.EquatorialCoordinate(ra[i], dec[i]), lmst, latitude);
+				altitude[t * targets + i] = y.altitude;
+				azimuth[t * targets + i] = y.azimuth;
+			}
+		}
+		return altitude;
+	}
+	
+	@Benchmark
+	public double [] grid() {
+		grid.compute(ra, dec, start, step, times, altitude, azimuth);
+		return altitude;
+	}
+	
+	@Benchmark
+	public double [] gridAltitudeOnly() {
+		grid.compute(ra, dec, start, step, times, altitude, null);
+		return altitude;
+	}
+	
+}
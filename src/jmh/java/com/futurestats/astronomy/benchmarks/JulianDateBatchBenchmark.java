@@ -0,0 +1,106 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.AstronomicalDate;
+import com.futurestats.astronomy.JulianDate;
+import com.futurestats.astronomy.algos.meeus.Chapter7;
+
+/**
+ * Columnar (batch) Chapter 7 conversions in both directions compared with
+ * converting each row through the JulianDate facade.  Scores are per batch of 'size' rows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JulianDateBatchBenchmark {
+
+	@Param({"1000000"})
+	int size;
+	
+	int [] year;
+	int [] month;
+	double [] day;
+	double [] jd;
+	
+	int [] yearOut;
+	int [] monthOut;
+	double [] dayOut;
+	
+	@Setup
+	public void setup() {
+		year = new int[size];
+		month = new int[size];
+		day = new double[size];
+		jd = new double[size];
+		yearOut = new int[size];
+		monthOut = new int[size];
+		dayOut = new double[size];
+		
+		for (int i=0; i<size; i++) {
+			year[i] = 1900 + (i % 200);
+			month[i] = 1 + (i % 12);
+			day[i] = 1 + (i % 28) + 0.25;
+		}
+		
+		Chapter7.julianDateFor(year, month, day, jd);
+	}
+	
+	@Benchmark
+	public double [] facadeToJulianDate() {
+		for (int i=0; i<size; i++)
+			jd[i] = JulianDate.from(AstronomicalDate.of(year[i], month[i], day[i])).value();
+		return jd;
+	}
+	
+	@Benchmark
+	public double [] batchToJulianDate() {
+		Chapter7.julianDateFor(year, month, day, jd);
+		return jd;
+	}
+	
+	@Benchmark
+	public double [] parallelToJulianDate() {
+		Chapter7.julianDateForParallel(year, month, day, jd);
+		return jd;
+	}
+	
+	@Benchmark
+	public double [] facadeToCalendar() {
+		for (int i=0; i<size; i++) {
+			AstronomicalDate date = JulianDate.of(jd[i]).toAstronomicalDate();
+			yearOut[i] = date.getYear();
+			monthOut[i] = date.getMonthValue();
+			dayOut[i] = date.getDayOfMonth();
+		}
+		return dayOut;
+	}
+	
+	@Benchmark
+	public double [] batchToCalendar() {
+		Chapter7.julianDateToCalendar(jd, yearOut, monthOut, dayOut);
+		return dayOut;
+	}
+	
+	@Benchmark
+	public double [] parallelToCalendar() {
+		Chapter7.julianDateToCalendarParallel(jd, yearOut, monthOut, dayOut);
+		return dayOut;
+	}
+	
+}
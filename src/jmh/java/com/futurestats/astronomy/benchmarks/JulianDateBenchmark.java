@@ -0,0 +1,114 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.AstronomicalDate;
+import com.futurestats.astronomy.JulianDate;
+import com.futurestats.astronomy.PreciseJulianDate;
+import com.futurestats.astronomy.SeasonTable;
+import com.futurestats.astronomy.algos.meeus.Chapter27;
+import com.futurestats.astronomy.algos.meeus.Chapter7;
+import com.futurestats.astronomy.algos.meeus.Structs;
+
+/**
+ * Chapter 7 (Julian Day) and Chapter 27 (Equinoxes and Solstices) compared
+ * with the JulianDate facade, plus Instant conversions for JulianDate and
+ * PreciseJulianDate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JulianDateBenchmark {
+
+	int year = 1987;
+	int month = 6;
+	double day = 19.5;
+	double jd = 2446966.0;
+	
+	Instant instant = Instant.parse("2022-08-05T06:41:51.227357958Z");
+	long epochSecond = instant.getEpochSecond();
+	int nano = instant.getNano();
+	
+	SeasonTable seasons = new SeasonTable(1000, 3000);
+	
+	// --- Chapter 7 ----------------------------------------------------------
+	
+	@Benchmark
+	public double chapter7JulianDateFor() {
+		return Chapter7.julianDateFor(year, month, day);
+	}
+	
+	@Benchmark
+	public JulianDate julianDateFrom() {
+		return JulianDate.from(AstronomicalDate.of(year, month, day));
+	}
+	
+	@Benchmark
+	public Structs.AstronomicalDate chapter7JulianDateToCalendar() {
+		return Chapter7.julianDateToCalendar(jd);
+	}
+	
+	@Benchmark
+	public AstronomicalDate julianDateToAstronomicalDate() {
+		return JulianDate.of(jd).toAstronomicalDate();
+	}
+	
+	// --- Instant conversions ------------------------------------------------
+	
+	@Benchmark
+	public JulianDate julianDateFromInstant() {
+		return JulianDate.from(instant);
+	}
+	
+	@Benchmark
+	public PreciseJulianDate preciseJulianDateFromInstant() {
+		return PreciseJulianDate.from(instant);
+	}
+	
+	@Benchmark
+	public double preciseJulianDateValueOfEpochSecond() {
+		return PreciseJulianDate.valueOfEpochSecond(epochSecond, nano);
+	}
+	
+	@Benchmark
+	public Instant preciseJulianDateToInstant() {
+		return PreciseJulianDate.ofEpochSecond(epochSecond, nano).toInstant();
+	}
+	
+	// --- Chapter 27 ---------------------------------------------------------
+	
+	@Benchmark
+	public double chapter27JdeForEvent() {
+		return Chapter27.jdeForEvent(year, Chapter27.Target.MARCH_EQUINOX);
+	}
+	
+	@Benchmark
+	public JulianDate julianDateForMarchEquinox() {
+		return JulianDate.forMarchEquinox(year);
+	}
+	
+	@Benchmark
+	public double seasonTableJdeFor() {
+		return seasons.jdeFor(year, Chapter27.Target.MARCH_EQUINOX);
+	}
+	
+	@Benchmark
+	public int seasonTableNearestEvent() {
+		return seasons.nearestEvent(jd);
+	}
+	
+}
@@ -0,0 +1,81 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.EquatorialCoordinate;
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.RiseTransitSet;
+
+/**
+ * Rise, transit and set times for a catalog of 'targets' objects for one
+ * night, one target at a time and with the batch method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RiseTransitSetBenchmark {
+
+	@Param({"100000"})
+	int targets;
+	
+	RiseTransitSet calculator = new RiseTransitSet(GeoContext.CINCINNATI);
+	LocalDate date = LocalDate.of(2022, 8, 5);
+	
+	double [] ra;
+	double [] dec;
+	double [] transit;
+	double [] rise;
+	double [] set;
+	int [] status;
+	
+	@Setup
+	public void setup() {
+		ra = new double[targets];
+		dec = new double[targets];
+		transit = new double[targets];
+		rise = new double[targets];
+		set = new double[targets];
+		status = new int[targets];
+		
+		Random random = new Random(15);
+		for (int i=0; i<targets; i++) {
+			ra[i] = random.nextDouble() * 360;
+			dec[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+	}
+	
+	@Benchmark
+	public int objects() {
+		int count = 0;
+		for (int i=0; i<targets; i++) {
+			RiseTransitSet.Times times = calculator.computeForNight(EquatorialCoordinate.fromDegrees(ra[i], dec[i]), date);
+			if (times.getRise() != null)
+				count++;
+		}
+		return count;
+	}
+	
+	@Benchmark
+	public double [] batch() {
+		calculator.computeForNight(ra, dec, date, transit, rise, set, status);
+		return rise;
+	}
+	
+}
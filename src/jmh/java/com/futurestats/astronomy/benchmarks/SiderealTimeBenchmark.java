@@ -0,0 +1,111 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.JulianDate;
+import com.futurestats.astronomy.SiderealTime;
+import com.futurestats.astronomy.algos.meeus.Chapter12;
+import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.Degrees;
+import com.futurestats.astronomy.angles.Hours;
+
+/**
+ * Chapter 12 (Sidereal Time at Greenwich) compared with the SiderealTime
+ * facade.  The 'Year' benchmarks fill one GMST per minute for a year
+ * or solve LMST -> local time for every day of a year.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SiderealTimeBenchmark {
+
+	double jd = 2446896.30625;
+	double longitude = -84.51;
+	
+	JulianDate date = JulianDate.of(jd);
+	Angle longitudeAngle = Degrees.of(longitude);
+	
+	//one value per minute for a year:
+	double step = 1.0 / 1440;
+	int count = 365 * 1440;
+	double [] grid = new double[count];
+	
+	Hours lmstTarget = Hours.of(13.5);
+	LocalDate startDate = LocalDate.of(2022, 1, 1);
+	LocalTime [] localTimes = new LocalTime[365];
+	double [] lmstHours = new double[365];
+	long [] nanosOfDay = new long[365];
+	ZoneId zoneId = ZoneId.of("America/New_York");
+	
+	@Setup
+	public void setup() {
+		Arrays.fill(lmstHours, 13.5);
+	}
+	
+	@Benchmark
+	public double chapter12Gmst() {
+		return Chapter12.gmst(jd);
+	}
+	
+	@Benchmark
+	public Angle siderealTimeGmst() {
+		return SiderealTime.gmst(JulianDate.of(jd));
+	}
+	
+	@Benchmark
+	public double chapter12Lmst() {
+		return Chapter12.gmst(jd) + longitude;
+	}
+	
+	@Benchmark
+	public Angle siderealTimeLmst() {
+		return SiderealTime.lmst(date, longitudeAngle);
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public double [] chapter12GmstYearDirect() {
+		for (int k=0; k<count; k++)
+			grid[k] = Chapter12.gmst(jd + k * step);
+		return grid;
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public double [] chapter12GmstYearStepped() {
+		Chapter12.gmst(jd, step, count, grid);
+		return grid;
+	}
+	
+	@Benchmark
+	public LocalTime [] lmstToLocalTimeYear() {
+		for (int i=0; i<localTimes.length; i++)
+			localTimes[i] = SiderealTime.lmstToLocalTime(lmstTarget, startDate.plusDays(i), longitudeAngle);
+		return localTimes;
+	}
+	
+	@Benchmark
+	public long [] lmstToLocalTimesYear() {
+		SiderealTime.lmstToLocalTimes(lmstHours, longitude, zoneId, startDate, nanosOfDay, null);
+		return nanosOfDay;
+	}
+	
+}
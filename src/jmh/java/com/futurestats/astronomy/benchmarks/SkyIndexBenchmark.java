@@ -0,0 +1,100 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.catalog.SkyIndex;
+
+/**
+ * Field-of-view lookups (cone searches of 'radius' degrees around random
+ * centers) in a catalog of 'size' stars using a SkyIndex compared with a
+ * full scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SkyIndexBenchmark {
+
+	@Param({"2500000"})
+	int size;
+	
+	@Param({"1"})
+	double radius;
+	
+	double [] ra;
+	double [] dec;
+	double [] x;
+	double [] y;
+	double [] z;
+	SkyIndex index;
+	
+	Random random = new Random(14);
+	
+	@Setup
+	public void setup() {
+		ra = new double[size];
+		dec = new double[size];
+		x = new double[size];
+		y = new double[size];
+		z = new double[size];
+		for (int i=0; i<size; i++) {
+			ra[i] = random.nextDouble() * 360;
+			dec[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+			x[i] = Math.cos(Math.toRadians(dec[i])) * Math.cos(Math.toRadians(ra[i]));
+			y[i] = Math.cos(Math.toRadians(dec[i])) * Math.sin(Math.toRadians(ra[i]));
+			z[i] = Math.sin(Math.toRadians(dec[i]));
+		}
+		index = SkyIndex.build(ra, dec);
+	}
+	
+	@Benchmark
+	public int [] indexConeSearch() {
+		return index.coneSearch(random.nextDouble() * 360, random.nextDouble() * 180 - 90, radius);
+	}
+	
+	@Benchmark
+	public int indexBoxSearch() {
+		double ra0 = random.nextDouble() * 360;
+		double dec0 = random.nextDouble() * 170 - 85;
+		return index.boxSearch(ra0, ra0 + 2 * radius, dec0, dec0 + 2 * radius, row -> {});
+	}
+	
+	@Benchmark
+	public int fullScanConeSearch() {
+		double ra0 = Math.toRadians(random.nextDouble() * 360);
+		double dec0 = Math.toRadians(random.nextDouble() * 180 - 90);
+		double cx = Math.cos(dec0) * Math.cos(ra0);
+		double cy = Math.cos(dec0) * Math.sin(ra0);
+		double cz = Math.sin(dec0);
+		double minDot = Math.cos(Math.toRadians(radius));
+		
+		int count = 0;
+		for (int i=0; i<size; i++) {
+			if (x[i] * cx + y[i] * cy + z[i] * cz >= minDot)
+				count++;
+		}
+		return count;
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public SkyIndex build() {
+		return SkyIndex.build(ra, dec);
+	}
+	
+}
@@ -0,0 +1,99 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.catalog.MappedStarCatalog;
+import com.futurestats.astronomy.catalog.StarCatalogWriter;
+
+/**
+ * Opening and scanning a memory-mapped star catalog with 'size' stars.
+ * The 'open' benchmark only maps the file, so its cost should not depend
+ * on the size of the catalog.  'convertChunked' converts the whole
+ * catalog to ecliptic coordinates in chunks without loading it on the 
+ * heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StarCatalogBenchmark {
+
+	static final int CHUNK_SIZE = 8192;
+	
+	@Param({"2500000"})
+	int size;
+	
+	Path file;
+	MappedStarCatalog catalog;
+	
+	double [] ra = new double[CHUNK_SIZE];
+	double [] dec = new double[CHUNK_SIZE];
+	
+	@Setup
+	public void setup() throws IOException {
+		Random random = new Random(13);
+		StarCatalogWriter writer = new StarCatalogWriter(size);
+		for (int i=0; i<size; i++) {
+			writer.add(i, random.nextDouble() * 360, Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1)), 
+					(float)(random.nextDouble() * 12), 0, 0);
+		}
+		
+		file = Files.createTempFile("benchmark", ".cat");
+		writer.write(file);
+		catalog = MappedStarCatalog.open(file);
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		catalog.close();
+		Files.delete(file);
+	}
+	
+	@Benchmark
+	public int open() throws IOException {
+		try (MappedStarCatalog catalog = MappedStarCatalog.open(file)) {
+			return catalog.size();
+		}
+	}
+	
+	@Benchmark
+	public double sumMagnitudes() {
+		double sum = 0;
+		for (int i=0; i<size; i++)
+			sum += catalog.getMagnitude(i);
+		return sum;
+	}
+	
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public double [] convertChunked() {
+		for (int from=0; from<size; from+=CHUNK_SIZE) {
+			int length = Math.min(CHUNK_SIZE, size - from);
+			catalog.readRightAscensions(from, ra, 0, length);
+			catalog.readDeclinations(from, dec, 0, length);
+			Chapter13.equatorialToEcliptic(ra, dec, Chapter13.EPSILON_J2000, ra, dec, 0, length);
+		}
+		return dec;
+	}
+	
+}
@@ -0,0 +1,86 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.ImmutableSunriseSunsetCalculator;
+import com.futurestats.astronomy.SunriseSunsetCalculator;
+import com.futurestats.astronomy.TwilightTimeline;
+import com.futurestats.astronomy.algos.SunriseSunset;
+
+/**
+ * algos.SunriseSunset compared with the SunriseSunsetCalculator facade and
+ * ImmutableSunriseSunsetCalculator, and
+ * sunrise/sunset plus three twilights from eight calls compared with one
+ * TwilightTimeline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SunriseSunsetBenchmark {
+
+	int year = 2022;
+	int month = 8;
+	int day = 5;
+	double latitude = 39.103700;
+	double longitude = -84.513610;
+	
+	LocalDate date = LocalDate.of(year, month, day);
+	SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(GeoContext.CINCINNATI);
+	ImmutableSunriseSunsetCalculator immutableCalculator = new ImmutableSunriseSunsetCalculator(GeoContext.CINCINNATI);
+	TwilightTimeline timeline = new TwilightTimeline(GeoContext.CINCINNATI);
+	
+	double [] zeniths = {
+		SunriseSunset.OFFICIAL_ZENITH, SunriseSunset.CIVIL_ZENITH, 
+		SunriseSunset.NAUTICAL_ZENITH, SunriseSunset.ASTRONOMICAL_ZENITH
+	};
+	double [] sunrise = new double[4];
+	double [] sunset = new double[4];
+	
+	@Benchmark
+	public double sunriseSunsetCalculate() {
+		return SunriseSunset.calculate(year, month, day, 
+				latitude, longitude, SunriseSunset.OFFICIAL_ZENITH, true);
+	}
+	
+	@Benchmark
+	public ZonedDateTime sunriseSunsetCalculatorSunrise() {
+		return calculator.calculateSunrise(date);
+	}
+	
+	@Benchmark
+	public ZonedDateTime immutableCalculatorSunrise() {
+		return immutableCalculator.calculateSunrise(date);
+	}
+	
+	@Benchmark
+	public double [] twilightCalls() {
+		for (int k=0; k<zeniths.length; k++) {
+			sunrise[k] = SunriseSunset.calculate(year, month, day, latitude, longitude, zeniths[k], true);
+			sunset[k] = SunriseSunset.calculate(year, month, day, latitude, longitude, zeniths[k], false);
+		}
+		return sunrise;
+	}
+	
+	@Benchmark
+	public double [] twilightTimeline() {
+		timeline.computeHours(date, sunrise, sunset);
+		return sunrise;
+	}
+	
+}
@@ -0,0 +1,71 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.SunriseSunsetCache;
+import com.futurestats.astronomy.SunriseSunsetCalculator;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * Repeated sunrise queries for a fixed set of locations and dates,
+ * answered by SunriseSunsetCalculator and by a warm SunriseSunsetCache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SunriseSunsetCacheBenchmark {
+	
+	static final int QUERIES = 1024;
+	
+	GeoContext [] contexts = new GeoContext[QUERIES];
+	LocalDate [] dates = new LocalDate[QUERIES];
+	SunriseSunsetCache cache = new SunriseSunsetCache(4096);
+	int index;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(24);
+		GeoContext [] locations = new GeoContext[16];
+		for (int j=0; j<locations.length; j++) {
+			locations[j] = new GeoContext(Degrees.of(26 + random.nextDouble() * 22),
+					Degrees.of(-75 - random.nextDouble() * 15), ZoneId.of("America/New_York"));
+		}
+		for (int q=0; q<QUERIES; q++) {
+			contexts[q] = locations[random.nextInt(locations.length)];
+			dates[q] = LocalDate.of(2022, 1, 1).plusDays(random.nextInt(60));
+			cache.get(contexts[q], dates[q]);
+		}
+	}
+	
+	@Benchmark
+	public ZonedDateTime calculator() {
+		int q = (index++) & (QUERIES - 1);
+		return new SunriseSunsetCalculator(contexts[q]).calculateSunrise(dates[q]);
+	}
+	
+	@Benchmark
+	public ZonedDateTime cache() {
+		int q = (index++) & (QUERIES - 1);
+		return cache.getSunrise(contexts[q], dates[q]);
+	}
+	
+}
@@ -0,0 +1,105 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.ImmutableSunriseSunsetCalculator;
+import com.futurestats.astronomy.SunriseSunsetCalculator;
+
+/**
+ * TASKS requests that each calculate one day's sunrise and sunset,
+ * submitted to a virtual-thread-per-task executor.  Compares a new
+ * SunriseSunsetCalculator per request with one shared
+ * ImmutableSunriseSunsetCalculator.
+ * 
+ * The code is compiled for Java 8, so the virtual thread executor is
+ * looked up by reflection.  On JVMs without virtual threads (before
+ * Java 21) a cached platform thread pool is used instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SunriseSunsetConcurrencyBenchmark {
+	
+	static final int TASKS = 10000;
+	
+	LocalDate start = LocalDate.of(2022, 1, 1);
+	ImmutableSunriseSunsetCalculator shared = new ImmutableSunriseSunsetCalculator(GeoContext.CINCINNATI);
+	ExecutorService executor;
+	
+	@Setup
+	public void setup() {
+		executor = newExecutor();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		executor.shutdown();
+	}
+	
+	static ExecutorService newExecutor() {
+		try {
+			return (ExecutorService)Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+		}
+		catch (ReflectiveOperationException e) {
+			return Executors.newCachedThreadPool();
+		}
+	}
+	
+	@Benchmark
+	public long calculatorPerRequest() throws Exception {
+		List<Future<Long>> futures = new ArrayList<>(TASKS);
+		for (int i=0; i<TASKS; i++) {
+			LocalDate date = start.plusDays(i % 365);
+			futures.add(executor.submit(() -> {
+				SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(GeoContext.CINCINNATI);
+				return calculator.calculateSunrise(date).toEpochSecond() +
+						calculator.calculateSunset(date).toEpochSecond();
+			}));
+		}
+		return sum(futures);
+	}
+	
+	@Benchmark
+	public long sharedImmutable() throws Exception {
+		List<Future<Long>> futures = new ArrayList<>(TASKS);
+		for (int i=0; i<TASKS; i++) {
+			LocalDate date = start.plusDays(i % 365);
+			futures.add(executor.submit(() ->
+				shared.calculateSunrise(date).toEpochSecond() +
+				shared.calculateSunset(date).toEpochSecond()));
+		}
+		return sum(futures);
+	}
+	
+	static long sum(List<Future<Long>> futures) throws Exception {
+		long sum = 0;
+		for (Future<Long> future : futures)
+			sum += future.get();
+		return sum;
+	}
+	
+}
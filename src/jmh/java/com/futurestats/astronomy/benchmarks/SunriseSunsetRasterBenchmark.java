@@ -0,0 +1,100 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.SunriseSunsetCalculator;
+import com.futurestats.astronomy.SunriseSunsetRaster;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * Global sunrise/sunset maps.  A 1 degree map using a 
+ * SunriseSunsetCalculator per cell and SunriseSunsetRaster, and a 0.1 
+ * degree map (6.5 million cells) using SunriseSunsetRaster into arrays and
+ * into a memory-mapped file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SunriseSunsetRasterBenchmark {
+
+	LocalDate date = LocalDate.of(2022, 8, 5);
+	ZoneId utc = ZoneId.of("UTC");
+	
+	SunriseSunsetRaster coarse = SunriseSunsetRaster.global(1);
+	SunriseSunsetRaster fine = SunriseSunsetRaster.global(0.1);
+	
+	float [] sunrise;
+	float [] sunset;
+	float [] dayLength;
+	Path file;
+	
+	@Setup
+	public void setup() throws IOException {
+		int cells = fine.getRows() * fine.getColumns();
+		sunrise = new float[cells];
+		sunset = new float[cells];
+		dayLength = new float[cells];
+		file = Files.createTempFile("raster", ".bin");
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+	
+	@Benchmark
+	public long coarseCalculator() {
+		long sum = 0;
+		for (int r=0; r<coarse.getRows(); r++) {
+			for (int c=0; c<coarse.getColumns(); c++) {
+				GeoContext context = new GeoContext(Degrees.of(coarse.latitude(r)), Degrees.of(coarse.longitude(c)), utc);
+				SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(context);
+				ZonedDateTime rise = calculator.calculateSunrise(date);
+				ZonedDateTime set = calculator.calculateSunset(date);
+				sum += rise.toEpochSecond() + set.toEpochSecond();
+			}
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public float [] coarseRaster() {
+		coarse.compute(date, SunriseSunsetCalculator.OFFICIAL_ZENITH, sunrise, sunset, dayLength);
+		return dayLength;
+	}
+	
+	@Benchmark
+	public float [] fineRaster() {
+		fine.compute(date, SunriseSunsetCalculator.OFFICIAL_ZENITH, sunrise, sunset, dayLength);
+		return dayLength;
+	}
+	
+	@Benchmark
+	public Path fineRasterFile() throws IOException {
+		fine.write(date, SunriseSunsetCalculator.OFFICIAL_ZENITH, file);
+		return file;
+	}
+	
+}
@@ -0,0 +1,103 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.GeoContext;
+import com.futurestats.astronomy.SunriseSunsetCalculator;
+import com.futurestats.astronomy.SunriseSunsetTable;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * A year of sunrise and sunset times for 'locations' locations in the
+ * continental US, using SunriseSunsetCalculator for every day and
+ * SunriseSunsetTable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SunriseSunsetTableBenchmark {
+
+	static final String [] ZONES = {
+		"America/New_York", "America/Chicago", "America/Denver", "America/Los_Angeles"
+	};
+	
+	@Param({"1000"})
+	int locations;
+	
+	LocalDate start = LocalDate.of(2022, 1, 1);
+	int days = 365;
+	
+	GeoContext [] contexts;
+	SunriseSunsetTable table;
+	
+	double [] sunriseHours;
+	double [] sunsetHours;
+	long [] sunriseSeconds;
+	long [] sunsetSeconds;
+	
+	@Setup
+	public void setup() {
+		contexts = new GeoContext[locations];
+		Random random = new Random(21);
+		for (int j=0; j<locations; j++) {
+			int zone = random.nextInt(ZONES.length);
+			double longitude = -75 - 15 * zone - random.nextDouble() * 15;
+			double latitude = 26 + random.nextDouble() * 22;
+			contexts[j] = new GeoContext(Degrees.of(latitude), Degrees.of(longitude), ZoneId.of(ZONES[zone]));
+		}
+		table = new SunriseSunsetTable(contexts);
+		
+		sunriseHours = new double[locations * days];
+		sunsetHours = new double[locations * days];
+		sunriseSeconds = new long[locations * days];
+		sunsetSeconds = new long[locations * days];
+	}
+	
+	@Benchmark
+	public long calculator() {
+		long sum = 0;
+		for (int j=0; j<locations; j++) {
+			SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(contexts[j]);
+			LocalDate date = start;
+			for (int i=0; i<days; i++) {
+				ZonedDateTime sunrise = calculator.calculateSunrise(date);
+				ZonedDateTime sunset = calculator.calculateSunset(date);
+				sum += sunrise.toEpochSecond() + sunset.toEpochSecond();
+				date = date.plusDays(1);
+			}
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public double [] tableHours() {
+		table.computeHours(start, days, sunriseHours, sunsetHours);
+		return sunriseHours;
+	}
+	
+	@Benchmark
+	public long [] tableEpochSeconds() {
+		table.computeEpochSeconds(start, days, sunriseSeconds, sunsetSeconds);
+		return sunriseSeconds;
+	}
+	
+}
@@ -0,0 +1,80 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.TimeScale;
+import com.futurestats.astronomy.TimeScaleConverter;
+
+/**
+ * Cost per conversion of the TimeScaleConverter (average time, so the
+ * scores read directly as nanoseconds per conversion).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeScaleBenchmark {
+
+	static final int BATCH_SIZE = 100000;
+	
+	TimeScaleConverter converter = TimeScaleConverter.DEFAULT;
+	
+	double jd = 2459796.779;
+	Instant instant = Instant.parse("2022-08-05T06:41:51.227357958Z");
+	long epochSecond = instant.getEpochSecond();
+	int nano = instant.getNano();
+	
+	double [] batch;
+	double [] batchOut;
+	
+	@Setup
+	public void setup() {
+		batch = new double[BATCH_SIZE];
+		batchOut = new double[BATCH_SIZE];
+		for (int i=0; i<BATCH_SIZE; i++)
+			batch[i] = 2440000.5 + i * 0.2;
+	}
+	
+	@Benchmark
+	public double utcToTT() {
+		return converter.convert(jd, TimeScale.UTC, TimeScale.TT);
+	}
+	
+	@Benchmark
+	public double ttToUtc() {
+		return converter.convert(jd, TimeScale.TT, TimeScale.UTC);
+	}
+	
+	@Benchmark
+	public double utcToUT1() {
+		return converter.convert(jd, TimeScale.UTC, TimeScale.UT1);
+	}
+	
+	@Benchmark
+	public double epochSecondToTT() {
+		return converter.julianDateOf(epochSecond, nano, TimeScale.TT);
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public double [] utcToTTBatch() {
+		converter.convert(batch, batchOut, TimeScale.UTC, TimeScale.TT);
+		return batchOut;
+	}
+	
+}
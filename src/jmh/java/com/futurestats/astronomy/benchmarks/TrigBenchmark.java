@@ -0,0 +1,144 @@
+package com.futurestats.astronomy.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.algos.meeus.TrigBackend;
+import com.futurestats.astronomy.algos.meeus.TrigDegrees;
+
+/**
+ * Speed of each TrigBackend tier for 1000 arguments, and of a Chapter 13
+ * batch conversion with the backend selected through TrigDegrees.  The 
+ * worst-case error of the tier against java.lang.Math is printed when each
+ * trial starts (look for "max error" in the output).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TrigBenchmark {
+
+	static final int SIZE = 1000;
+	
+	@Param({"exact", "strict", "fast"})
+	String backend;
+	
+	TrigBackend trig;
+	TrigBackend original;
+	
+	double [] degrees = new double[SIZE];
+	double [] values = new double[SIZE];
+	double [] out = new double[SIZE];
+	double [] out2 = new double[SIZE];
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(18);
+		for (int i=0; i<SIZE; i++) {
+			degrees[i] = random.nextDouble() * 720 - 360;
+			values[i] = random.nextDouble() * 2 - 1;
+		}
+		
+		trig = TrigBackend.forName(backend);
+		original = TrigDegrees.getBackend();
+		TrigDegrees.setBackend(trig);
+		
+		System.out.println();
+		System.out.println(backend + " max error vs Math: sin/cos " + maxSinError(trig) 
+				+ ", asin/acos/atan2 " + maxInverseError(trig) + " degrees");
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		TrigDegrees.setBackend(original);
+	}
+	
+	static double maxSinError(TrigBackend trig) {
+		double max = 0;
+		for (int i=0; i<=3600000; i++) {
+			double deg = i / 10000.0 - 180;
+			max = Math.max(max, Math.abs(trig.sin(deg) - Math.sin(deg * TrigDegrees.DEG_TO_RAD)));
+			max = Math.max(max, Math.abs(trig.cos(deg) - Math.cos(deg * TrigDegrees.DEG_TO_RAD)));
+		}
+		return max;
+	}
+	
+	static double maxInverseError(TrigBackend trig) {
+		double max = 0;
+		for (int i=0; i<=2000000; i++) {
+			double x = i / 1000000.0 - 1;
+			max = Math.max(max, Math.abs(trig.asin(x) - Math.asin(x) / TrigDegrees.DEG_TO_RAD));
+			max = Math.max(max, Math.abs(trig.acos(x) - Math.acos(x) / TrigDegrees.DEG_TO_RAD));
+			max = Math.max(max, Math.abs(trig.atan2(x, 0.3) - Math.atan2(x, 0.3) / TrigDegrees.DEG_TO_RAD));
+			max = Math.max(max, Math.abs(trig.atan2(0.7, x) - Math.atan2(0.7, x) / TrigDegrees.DEG_TO_RAD));
+		}
+		return max;
+	}
+	
+	@Benchmark
+	public double sin() {
+		double sum = 0;
+		for (int i=0; i<SIZE; i++)
+			sum += trig.sin(degrees[i]);
+		return sum;
+	}
+	
+	@Benchmark
+	public double sinAndCos() {
+		double sum = 0;
+		for (int i=0; i<SIZE; i++)
+			sum += trig.sin(degrees[i]) * trig.cos(degrees[i]);
+		return sum;
+	}
+	
+	@Benchmark
+	public double sincos() {
+		double [] sincos = new double[2];
+		double sum = 0;
+		for (int i=0; i<SIZE; i++) {
+			trig.sincos(degrees[i], sincos);
+			sum += sincos[0] * sincos[1];
+		}
+		return sum;
+	}
+	
+	@Benchmark
+	public double atan2() {
+		double sum = 0;
+		for (int i=0; i<SIZE; i++)
+			sum += trig.atan2(values[i], degrees[i]);
+		return sum;
+	}
+	
+	@Benchmark
+	public double asin() {
+		double sum = 0;
+		for (int i=0; i<SIZE; i++)
+			sum += trig.asin(values[i]);
+		return sum;
+	}
+	
+	@Benchmark
+	public double [] equatorialToEcliptic() {
+		Chapter13.equatorialToEcliptic(degrees, values, Chapter13.EPSILON_J2000, out, out2);
+		return out2;
+	}
+	
+}
@@ -0,0 +1,137 @@
+package com.futurestats.astronomy;
+
+import com.futurestats.astronomy.algos.meeus.Chapter10;
+import com.futurestats.astronomy.algos.meeus.Utils;
+
+/**
+ * A precomputed table of Delta-T (TD - UT, in seconds) that answers queries
+ * for arbitrary Julian Dates with an O(1) index-and-interpolate lookup.
+ * 
+ * The table is built once from Chapter10.estimateDynamicTimeOffset() with
+ * nodes every 'step' days between two Julian Dates.  Delta-T changes by no
+ * more than a few seconds per year, so linear interpolation between monthly
+ * nodes adds no meaningful error to the underlying estimate.  Dates outside
+ * of the table fall back to the formula.
+ * 
+ * The values are filled in by the constructor and never written again, so
+ * DEFAULT can be read from any thread without locking.
+ */
+public class DeltaTTable {
+
+	static final double DAYS_PER_YEAR = 365.25;
+	
+	/**
+	 * Table with monthly nodes from the year -2000 to 3000.
+	 */
+	public static final DeltaTTable DEFAULT = new DeltaTTable(
+			jdForYear(-2000), jdForYear(3000), DAYS_PER_YEAR / 12);
+	
+	private final double jdStart;
+	private final double step;
+	private final double inverseStep;
+	private final double [] values;
+	
+	/**
+	 * Builds a table covering [jdStart, jdEnd] with nodes every 'step' days.
+	 */
+	public DeltaTTable(double jdStart, double jdEnd, double step) {
+		if (!(jdEnd > jdStart) || !(step > 0))
+			throw new IllegalArgumentException("Invalid table range: " + jdStart + " to " + jdEnd + " by " + step);
+		
+		this.jdStart = jdStart;
+		this.step = step;
+		this.inverseStep = 1.0 / step;
+		
+		int count = (int)Math.ceil((jdEnd - jdStart) / step) + 1;
+		this.values = new double[count];
+		for (int i=0; i<count; i++)
+			values[i] = Chapter10.estimateDynamicTimeOffset(yearFor(jdStart + i * step));
+	}
+	
+	public double getStart() {
+		return jdStart;
+	}
+	public double getEnd() {
+		return jdStart + (values.length - 1) * step;
+	}
+	public double getStep() {
+		return step;
+	}
+	
+	/**
+	 * Returns Delta-T (TD - UT) in seconds for the given Julian Date.
+	 */
+	public double offsetFor(double jd) {
+		double x = (jd - jdStart) * inverseStep;
+		if (!(x >= 0 && x < values.length - 1))
+			return Chapter10.estimateDynamicTimeOffset(yearFor(jd));
+		
+		int index = (int)x;
+		double f = x - index;
+		return values[index] + f * (values[index+1] - values[index]);
+	}
+	
+	/**
+	 * Converts a Julian Date in Universal Time to a Julian Ephemeris Day
+	 * (Dynamical Time).
+	 */
+	public double toDynamicalTime(double jd) {
+		return jd + offsetFor(jd) / Utils.SECONDS_PER_DAY;
+	}
+	
+	/**
+	 * Converts a Julian Ephemeris Day (Dynamical Time) to a Julian Date in
+	 * Universal Time.  Delta-T is looked up at the estimated UT so this is
+	 * the inverse of toDynamicalTime().
+	 */
+	public double toUniversalTime(double jde) {
+		double jd = jde - offsetFor(jde) / Utils.SECONDS_PER_DAY;
+		return jde - offsetFor(jd) / Utils.SECONDS_PER_DAY;
+	}
+	
+	// --- Batch conversions --------------------------------------------------
+	
+	/**
+	 * Converts each Julian Date (UT) in 'jd' to a JDE (TD) in 'jde'.  The
+	 * arrays may be the same to convert in place.
+	 */
+	public void toDynamicalTime(double [] jd, double [] jde) {
+		toDynamicalTime(jd, jde, 0, jd.length);
+	}
+	public void toDynamicalTime(double [] jd, double [] jde, int from, int to) {
+		for (int i=from; i<to; i++)
+			jde[i] = toDynamicalTime(jd[i]);
+	}
+	public void toDynamicalTimeParallel(double [] jd, double [] jde) {
+		Utils.parallelFor(jd.length, (from, to) -> toDynamicalTime(jd, jde, from, to));
+	}
+	
+	/**
+	 * Converts each JDE (TD) in 'jde' to a Julian Date (UT) in 'jd'.  The
+	 * arrays may be the same to convert in place.
+	 */
+	public void toUniversalTime(double [] jde, double [] jd) {
+		toUniversalTime(jde, jd, 0, jde.length);
+	}
+	public void toUniversalTime(double [] jde, double [] jd, int from, int to) {
+		for (int i=from; i<to; i++)
+			jd[i] = toUniversalTime(jde[i]);
+	}
+	public void toUniversalTimeParallel(double [] jde, double [] jd) {
+		Utils.parallelFor(jde.length, (from, to) -> toUniversalTime(jde, jd, from, to));
+	}
+	
+	// --- Helpers ------------------------------------------------------------
+	
+	/**
+	 * Returns the decimal year for a Julian Date (using Julian years from
+	 * J2000).  This is precise enough for estimating Delta-T.
+	 */
+	static double yearFor(double jd) {
+		return 2000 + (jd - Utils.JD_J2000) / DAYS_PER_YEAR;
+	}
+	static double jdForYear(double year) {
+		return Utils.JD_J2000 + (year - 2000) * DAYS_PER_YEAR;
+	}
+	
+}
@@ -12,6 +12,28 @@ public class DynamicalTime {
 	public static double offsetForYear(int year) {
 		return Chapter10.estimateDynamicTimeOffsetForYear(year);
 	}
-		
+	
+	/**
+	 * Estimates the difference between Dynamic Time (TD) and Universal
+	 * Time (UT) on the given date.  The result is in seconds.  This uses
+	 * the interpolated DeltaTTable.DEFAULT.
+	 */
+	public static double offsetFor(JulianDate date) {
+		return DeltaTTable.DEFAULT.offsetFor(date.value());
+	}
+	
+	/**
+	 * Converts a JulianDate in Universal Time to a Julian Ephemeris Day.
+	 */
+	public static JulianDate toDynamicalTime(JulianDate jd) {
+		return JulianDate.of(DeltaTTable.DEFAULT.toDynamicalTime(jd.value()));
+	}
+	
+	/**
+	 * Converts a Julian Ephemeris Day to a JulianDate in Universal Time.
+	 */
+	public static JulianDate toUniversalTime(JulianDate jde) {
+		return JulianDate.of(DeltaTTable.DEFAULT.toUniversalTime(jde.value()));
+	}
 	
 }
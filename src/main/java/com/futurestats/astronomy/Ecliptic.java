@@ -29,10 +29,23 @@ public class Ecliptic {
 	}
 	
 	/**
-	 * Returns the nutational values for the given date (JDE).
+	 * Returns the nutational values for the given date (JDE).  This uses
+	 * the full series from Chapter 22.
 	 */
 	public static Nutation getNutationFor(JulianDate jde) {
-		Structs.Nutation nutation = Chapter22.nutation(jde.value());
+		return toNutation(Chapter22.nutation(jde.value()));
+	}
+	
+	/**
+	 * Returns the nutational values for the given date (JDE) interpolated
+	 * from the given table.  This is much faster when called for many
+	 * dates.
+	 */
+	public static Nutation getNutationFor(JulianDate jde, NutationTable table) {
+		return toNutation(table.nutationFor(jde.value()));
+	}
+	
+	static Nutation toNutation(Structs.Nutation nutation) {
 		return new Nutation(
 				Degrees.of(nutation.longitude / 3600), 
 				Degrees.of(nutation.obliquity / 3600));
@@ -55,5 +68,14 @@ public class Ecliptic {
 		return Degrees.of(meanObliquity + (nutation.obliquity / 3600));
 	}
 	
+	/**
+	 * Returns the true obliquity of the ecliptic for the given date (JDE)
+	 * using nutation interpolated from the given table.
+	 */
+	public static Angle getObliquity(JulianDate jde, NutationTable table) {
+		double meanObliquity = Chapter22.meanObliquityOfEcliptic(jde.value());
+		return Degrees.of(meanObliquity + (table.obliquityFor(jde.value()) / 3600));
+	}
+	
 	
 }
@@ -38,11 +38,11 @@ public class EclipticalCoordinate {
 	 */
 	public EquatorialCoordinate toEquatorialCoordinate(Angle epsilon) {
 		Structs.EclipticalCoordinate x = new Structs.EclipticalCoordinate(
-				longitude.toDegrees().value(),
-				latitude.toDegrees().value());
+				longitude.degreesValue(),
+				latitude.degreesValue());
 		
 		Structs.EquatorialCoordinate y = Chapter13.eclipticToEquatorial(
-				x, epsilon.toDegrees().value());
+				x, epsilon.degreesValue());
 		
 		return EquatorialCoordinate.fromDegrees(y.rightAscension, y.declination);
 	}
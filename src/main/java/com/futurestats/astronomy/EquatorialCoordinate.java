@@ -4,7 +4,6 @@ import com.futurestats.astronomy.angles.Angle;
 import com.futurestats.astronomy.angles.Degrees;
 
 import com.futurestats.astronomy.algos.meeus.Chapter13;
-import com.futurestats.astronomy.algos.meeus.Chapter21;
 import com.futurestats.astronomy.algos.meeus.Structs;
 
 public class EquatorialCoordinate {
@@ -34,27 +33,48 @@ public class EquatorialCoordinate {
 	 */
 	public EclipticalCoordinate toEclipticalCoordinate(Angle epsilon) {
 		Structs.EquatorialCoordinate x = new Structs.EquatorialCoordinate(
-				rightAscension.toDegrees().value(),
-				declination.toDegrees().value());
+				rightAscension.degreesValue(),
+				declination.degreesValue());
 		
 		Structs.EclipticalCoordinate y = Chapter13.equatorialToEcliptic(
-				x, epsilon.toDegrees().value());
+				x, epsilon.degreesValue());
 		
 		return EclipticalCoordinate.fromDegrees(y.longitude, y.latitude);
 	}
 	
+	/**
+	 * Converts J2000 coordinates to their Galactic representation.
+	 */
+	public GalacticCoordinate toGalacticCoordinate() {
+		Structs.GalacticCoordinate y = Chapter13.equatorialToGalacticJ2000(toStruct());
+		return GalacticCoordinate.fromDegrees(y.longitude, y.latitude);
+	}
+	
+	/**
+	 * Converts coordinates referred to the B1950.0 equinox to their 
+	 * Galactic representation.  (Meeus formulas 13.7 & 13.8)
+	 */
+	public GalacticCoordinate toGalacticCoordinateB1950() {
+		Structs.GalacticCoordinate y = Chapter13.equatorialToGalactic(toStruct());
+		return GalacticCoordinate.fromDegrees(y.longitude, y.latitude);
+	}
+	
+	Structs.EquatorialCoordinate toStruct() {
+		return new Structs.EquatorialCoordinate(
+				rightAscension.degreesValue(),
+				declination.degreesValue());
+	}
+	
 	/**
 	 * Adjusts the coordinates to account for precession.  jd0 indicates the
 	 * JulianDate corresponding with the coordinates' current date and 'jd'
 	 * indicates the target date.
+	 * 
+	 * This uses the rotation matrices of PrecessionEngine.DEFAULT so the 
+	 * result agrees with converting a whole catalog with that engine.
 	 */
 	public EquatorialCoordinate adjustForPrecession(JulianDate jd0, JulianDate jd) {
-		Structs.EquatorialCoordinate x = new Structs.EquatorialCoordinate(
-				rightAscension.toDegrees().value(),
-				declination.toDegrees().value());
-		
-		Structs.EquatorialCoordinate y = Chapter21.adjust(x, jd0.value(), jd.value());
-		return fromDegrees(y.rightAscension, y.declination);
+		return PrecessionEngine.DEFAULT.adjust(this, jd0, jd);
 	}
 	
 	
@@ -1,9 +1,15 @@
 package com.futurestats.astronomy;
 
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.algos.meeus.Structs;
 import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.Degrees;
 
 /**
+ * Celestial coordinates given with respect to the plane of the Milky Way.
+ * Longitude is measured from the direction of the galactic center.
  * 
+ * https://en.wikipedia.org/wiki/Galactic_coordinate_system
  */
 public class GalacticCoordinate {
 
@@ -15,6 +21,15 @@ public class GalacticCoordinate {
 		this.longitude = longitude;
 	}
 	
+	/**
+	 * Creates galactic coordinates from degrees.  Note that longitude comes
+	 * first here (as it does in the other coordinate classes) even though
+	 * the constructor takes latitude first.
+	 */
+	public static GalacticCoordinate fromDegrees(double longitude, double latitude) {
+		return new GalacticCoordinate(Degrees.of(latitude), Degrees.of(longitude));
+	}
+	
 	public Angle getLatitude() {
 		return latitude;
 	}
@@ -22,6 +37,29 @@ public class GalacticCoordinate {
 		return longitude;
 	}
 	
+	/**
+	 * Converts the coordinates to J2000 Equatorial coordinates.
+	 */
+	public EquatorialCoordinate toEquatorialCoordinate() {
+		Structs.EquatorialCoordinate y = Chapter13.galacticToEquatorialJ2000(toStruct());
+		return EquatorialCoordinate.fromDegrees(y.rightAscension, y.declination);
+	}
+	
+	/**
+	 * Converts the coordinates to Equatorial coordinates referred to the 
+	 * B1950.0 equinox.  (Meeus formulas 13.9 & 13.10)
+	 */
+	public EquatorialCoordinate toEquatorialCoordinateB1950() {
+		Structs.EquatorialCoordinate y = Chapter13.galacticToEquatorial(toStruct());
+		return EquatorialCoordinate.fromDegrees(y.rightAscension, y.declination);
+	}
+	
+	Structs.GalacticCoordinate toStruct() {
+		return new Structs.GalacticCoordinate(
+				longitude.degreesValue(),
+				latitude.degreesValue());
+	}
+	
 	public String toString() {
 		return "(lat, lon) = (" + latitude.toDmsString() + ", " + longitude.toDmsString() + ")";
 	}
@@ -0,0 +1,133 @@
+package com.futurestats.astronomy;
+
+import com.futurestats.astronomy.algos.meeus.Chapter12;
+import com.futurestats.astronomy.algos.meeus.Utils;
+
+/**
+ * Computes horizontal coordinates (altitude and azimuth) for many targets
+ * at many times from one location.  This gives the same results as calling
+ * Chapter13.equatorialToHorizontal() for every target and time, but:
+ * 
+ *  - the sine and cosine of the observer's latitude are computed once
+ *  - the sines and cosines of each target's right ascension and 
+ *    declination are computed once per target
+ *  - the sine and cosine of the sidereal time are computed once per time
+ *    (the hour angle terms are combined with the angle difference 
+ *    identities)
+ * 
+ * so each (target, time) cell only costs two atan2() calls.  Times are 
+ * processed in parallel.
+ * 
+ * Results are in degrees in a flat array with one row per time: the value
+ * for target i at time t is at index (t * targets + i).  As in Chapter 13,
+ * azimuth is measured westward from the South (-180 to 180).
+ */
+public class HorizontalGrid {
+
+	private final GeoContext context;
+	private final double longitude;
+	private final double sinLatitude;
+	private final double cosLatitude;
+	
+	public HorizontalGrid(GeoContext context) {
+		this.context = context;
+		this.longitude = context.getLongitude().degreesValue();
+		
+		double latitude = Math.toRadians(context.getLatitude().degreesValue());
+		this.sinLatitude = Math.sin(latitude);
+		this.cosLatitude = Math.cos(latitude);
+	}
+	
+	public GeoContext getContext() {
+		return context;
+	}
+	
+	/**
+	 * Computes altitude and azimuth for targets with the given right 
+	 * ascension and declination (in degrees) at 'count' times starting at
+	 * 'start' (UT) and spaced 'step' days apart.  Either output array may 
+	 * be null if it isn't needed.  Each output array must hold 
+	 * (count * ra.length) values.
+	 */
+	public void compute(double [] ra, double [] dec, JulianDate start, double step, int count, 
+			double [] altitude, double [] azimuth) {
+		
+		double [] lmst = new double[count];
+		Chapter12.gmst(start.value(), step, count, lmst);
+		for (int t=0; t<count; t++)
+			lmst[t] += longitude;
+		
+		computeForSiderealTimes(ra, dec, lmst, altitude, azimuth);
+	}
+	
+	/**
+	 * Same as compute(double[], double[], JulianDate, double, int, double[],
+	 * double[]) but for arbitrary times given as Julian Dates (UT).
+	 */
+	public void compute(double [] ra, double [] dec, double [] jd, double [] altitude, double [] azimuth) {
+		double [] lmst = new double[jd.length];
+		for (int t=0; t<jd.length; t++)
+			lmst[t] = Chapter12.gmst(jd[t]) + longitude;
+		
+		computeForSiderealTimes(ra, dec, lmst, altitude, azimuth);
+	}
+	
+	/**
+	 * Computes the grid given the local sidereal time (in degrees) of each
+	 * row.
+	 */
+	void computeForSiderealTimes(double [] ra, double [] dec, double [] lmst, 
+			double [] altitude, double [] azimuth) {
+		
+		if (ra.length != dec.length)
+			throw new IllegalArgumentException("Column lengths differ: " + ra.length + " != " + dec.length);
+		
+		int targets = ra.length;
+		int times = lmst.length;
+		
+		//per target terms
+		double [] sinRa = new double[targets];
+		double [] cosRa = new double[targets];
+		double [] sinDec = new double[targets];
+		double [] cosDec = new double[targets];
+		for (int i=0; i<targets; i++) {
+			double alpha = Math.toRadians(ra[i]);
+			double delta = Math.toRadians(dec[i]);
+			sinRa[i] = Math.sin(alpha);
+			cosRa[i] = Math.cos(alpha);
+			sinDec[i] = Math.sin(delta);
+			cosDec[i] = Math.cos(delta);
+		}
+		
+		double sin_psi = sinLatitude;
+		double cos_psi = cosLatitude;
+		
+		Utils.parallelFor(times, Math.max(1, Utils.PARALLEL_CHUNK_SIZE / Math.max(1, targets)), (from, to) -> {
+			for (int t=from; t<to; t++) {
+				double theta = Math.toRadians(lmst[t]);
+				double sin_theta = Math.sin(theta);
+				double cos_theta = Math.cos(theta);
+				int offset = t * targets;
+				
+				for (int i=0; i<targets; i++) {
+					//H = theta - alpha
+					double sin_H = sin_theta * cosRa[i] - cos_theta * sinRa[i];
+					double cos_H = cos_theta * cosRa[i] + sin_theta * sinRa[i];
+					
+					//formula 13.5 with both arguments multiplied by cos(delta)
+					//and 13.6; (x, y, z) is a unit vector so the altitude can
+					//use atan2 (which is much faster than asin)
+					double x = (cos_H * cosDec[i] * sin_psi) - (sinDec[i] * cos_psi);
+					double y = sin_H * cosDec[i];
+					double z = (sin_psi * sinDec[i]) + (cos_psi * cosDec[i] * cos_H);
+					
+					if (azimuth != null)
+						azimuth[offset + i] = Math.toDegrees(Math.atan2(y, x));
+					if (altitude != null)
+						altitude[offset + i] = Math.toDegrees(Math.atan2(z, Math.sqrt(x * x + y * y)));
+				}
+			}
+		});
+	}
+	
+}
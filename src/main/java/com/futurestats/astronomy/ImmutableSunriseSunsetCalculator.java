@@ -0,0 +1,95 @@
+package com.futurestats.astronomy;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * An immutable version of SunriseSunsetCalculator that can be created
+ * once per location and shared by any number of threads (for example the
+ * request handlers of a server).  The longitude in hours, the sine and
+ * cosine of the latitude and the cosine of the zenith are computed when
+ * the calculator is created instead of on every call.  The results are
+ * exactly the same as SunriseSunsetCalculator's.
+ * 
+ * withGeoContext() and withZenith() take the place of the setters and
+ * return new calculators.
+ */
+public final class ImmutableSunriseSunsetCalculator {
+	
+	private final GeoContext context;
+	private final Angle zenith;
+	
+	private final double lngHour;
+	private final double sinLatitude;
+	private final double cosLatitude;
+	private final double cosZenith;
+	
+	public ImmutableSunriseSunsetCalculator(GeoContext context, Angle zenith) {
+		this.context = context;
+		this.zenith = zenith;
+		this.lngHour = context.getLongitude().degreesValue() / 15;
+		this.sinLatitude = SunriseSunset.sin(context.getLatitude().degreesValue());
+		this.cosLatitude = SunriseSunset.cos(context.getLatitude().degreesValue());
+		this.cosZenith = SunriseSunset.cos(zenith.degreesValue());
+	}
+	public ImmutableSunriseSunsetCalculator(GeoContext context) {
+		this(context, SunriseSunsetCalculator.OFFICIAL_ZENITH);
+	}
+	
+	public GeoContext getGeoContext() {
+		return context;
+	}
+	public Angle getZenith() {
+		return zenith;
+	}
+	
+	/**
+	 * Returns a calculator for another position with the same zenith.
+	 */
+	public ImmutableSunriseSunsetCalculator withGeoContext(GeoContext context) {
+		return new ImmutableSunriseSunsetCalculator(context, zenith);
+	}
+	
+	/**
+	 * Returns a calculator for the same position with another zenith.
+	 */
+	public ImmutableSunriseSunsetCalculator withZenith(Angle zenith) {
+		return new ImmutableSunriseSunsetCalculator(context, zenith);
+	}
+	
+	/**
+	 * Returns the time of sunrise or sunset in hours UT (NaN if the sun
+	 * does not rise or set on that day).
+	 */
+	public double calculateHours(LocalDate date, boolean sunrise) {
+		int N = SunriseSunset.dayOfYear(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+		return SunriseSunset.calculate(N, lngHour, sinLatitude, cosLatitude, cosZenith, sunrise);
+	}
+	
+	public ZonedDateTime calculate(LocalDate date, boolean sunrise) {
+		double UT = calculateHours(date, sunrise);
+		return SunriseSunsetCalculator.toZonedDateTime(date, UT, context.getZoneId());
+	}
+	
+	public ZonedDateTime calculateSunrise(LocalDate date) {
+		return calculate(date, true);
+	}
+	public ZonedDateTime calculateSunset(LocalDate date) {
+		return calculate(date, false);
+	}
+	
+	public ZonedDateTime calculate(int year, int month, int day, boolean sunrise) {
+		return calculate(LocalDate.of(year, month, day), sunrise);
+	}
+	
+	public ZonedDateTime calculateSunrise(int year, int month, int day) {
+		return calculate(year, month, day, true);
+	}
+	public ZonedDateTime calculateSunset(int year, int month, int day) {
+		return calculate(year, month, day, false);
+	}
+	
+}
@@ -1,6 +1,5 @@
 package com.futurestats.astronomy;
 
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -27,8 +26,9 @@ import java.time.ZoneOffset;
  * seconds.  This may cause small errors (less than a minute) due to leap
  * seconds.  As long as the dates in question occur after 1852-10-15 we do
  * not need to worry about the conversion from the Julian to Gregorian calendar
- * that occurred prior to this.  The reference date we use is in fact 1852-10-15
- * with JD 2397776.5.
+ * that occurred prior to this.  The reference dates we use are the Unix epoch
+ * (JD 2440587.5) and 1852-10-15 (JD 2397776.5).  PreciseJulianDate can be
+ * used when sub-second precision must be kept.
  * 
  * The book "Astronomical Algorithms" specifies the algorithm using the concept
  * of an "astronomical date" where the day 1852-10-04 is immediately followed
@@ -104,16 +104,15 @@ public class JulianDate {
 	
 	/**
 	 * Converts the java.time.Instant to a JulianDate.  This is done by 
-	 * finding the number of days and seconds elapsed between the given 
-	 * instant and the start of the Gregorian calendar (1852-10-15,
-	 * corresponding with JD 2397776.5).  This calculation assumes that 1
-	 * Julian Day is a constant 86,400 seconds.  
+	 * finding the number of whole days and nanoseconds elapsed between the
+	 * Unix epoch (1970-01-01, corresponding with JD 2440587.5) and the given
+	 * instant.  This calculation assumes that 1 Julian Day is a constant
+	 * 86,400 seconds.  Use PreciseJulianDate if the sub-second part must
+	 * survive a round trip.
 	 */
 	public static JulianDate from(Instant instant) {
-		long seconds = Duration.between(GREGORIAN_START_INSTANT, instant).getSeconds();
-		long days = seconds / 86400;
-		double fraction = (seconds - (days * 86400)) / 86400.0;
-		return new JulianDate(days + GREGORIAN_START_JD + fraction);
+		return new JulianDate(PreciseJulianDate.valueOfEpochSecond(
+				instant.getEpochSecond(), instant.getNano()));
 	}
 	
 	/**
@@ -139,7 +138,14 @@ public class JulianDate {
 	}
 	
 	/**
-	 * Converts the JulianDate to a LocalDate.
+	 * Converts the JulianDate to a PreciseJulianDate.
+	 */
+	public PreciseJulianDate toPreciseJulianDate() {
+		return PreciseJulianDate.of(this.value);
+	}
+	
+	/**
+	 * Converts the JulianDate to an Instant (truncated to whole seconds).
 	 */
 	public Instant toInstant() {
 		double seconds = (this.value - GREGORIAN_START_JD) * 86400;
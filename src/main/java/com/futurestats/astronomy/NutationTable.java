@@ -0,0 +1,150 @@
+package com.futurestats.astronomy;
+
+import com.futurestats.astronomy.algos.meeus.Chapter22;
+import com.futurestats.astronomy.algos.meeus.Structs;
+import com.futurestats.astronomy.algos.meeus.Utils;
+
+/**
+ * A precomputed table of nutation in longitude and obliquity that samples
+ * the full Chapter22.nutation() series at a fixed interval and answers 
+ * queries with cubic interpolation.
+ * 
+ * The shortest-period term of any size (13.66 days, 0.23") is sampled 
+ * often enough at the default interval of half a day that interpolation
+ * adds less than 0.0001" of error, which is below the accuracy of the 
+ * series itself.  A lookup costs a handful of multiplications instead of 
+ * 63 sines and cosines, so this is cheaper than even nutationApprox().
+ * Dates outside of the table fall back to the series.
+ * 
+ * The parallel workers that fill the samples finish before the constructor
+ * returns and the arrays are only read afterwards, so the default table
+ * needs no locking.
+ */
+public class NutationTable {
+
+	public static final double DEFAULT_INTERVAL = 0.5;
+	
+	private final double jdeStart;
+	private final double interval;
+	private final double inverseInterval;
+	private final double [] longitude;
+	private final double [] obliquity;
+	
+	/**
+	 * Builds a table covering [jdeStart, jdeEnd] with samples every 
+	 * 'interval' days.  The samples are computed in parallel.
+	 */
+	public NutationTable(double jdeStart, double jdeEnd, double interval) {
+		if (!(jdeEnd > jdeStart) || !(interval > 0))
+			throw new IllegalArgumentException("Invalid table range: " + jdeStart + " to " + jdeEnd + " by " + interval);
+		
+		this.jdeStart = jdeStart;
+		this.interval = interval;
+		this.inverseInterval = 1.0 / interval;
+		
+		//one extra sample on each end for the interpolation
+		int count = (int)Math.ceil((jdeEnd - jdeStart) / interval) + 3;
+		this.longitude = new double[count];
+		this.obliquity = new double[count];
+		
+		Utils.parallelFor(count, 1024, (from, to) -> {
+			for (int i=from; i<to; i++) {
+				Structs.Nutation nutation = Chapter22.nutation(jdeStart + (i - 1) * interval);
+				longitude[i] = nutation.longitude;
+				obliquity[i] = nutation.obliquity;
+			}
+		});
+	}
+	
+	/**
+	 * Returns a table sampled every half day from 1900 to 2100 (about 2 MB).
+	 * It is built on the first call, so custom tables don't pay for it.
+	 */
+	public static NutationTable getDefault() {
+		return DefaultHolder.TABLE;
+	}
+	
+	private static class DefaultHolder {
+		
+		static final NutationTable TABLE = new NutationTable(2415020.5, 2488069.5, DEFAULT_INTERVAL);
+		
+	}
+	
+	public double getStart() {
+		return jdeStart;
+	}
+	public double getEnd() {
+		return jdeStart + (longitude.length - 3) * interval;
+	}
+	public double getInterval() {
+		return interval;
+	}
+	
+	/**
+	 * Returns the nutation in longitude (delta psi) in seconds.
+	 */
+	public double longitudeFor(double jde) {
+		double x = (jde - jdeStart) * inverseInterval + 1;
+		if (!(x >= 1 && x < longitude.length - 2))
+			return Chapter22.nutation(jde).longitude;
+		
+		int index = (int)x;
+		return interpolate(longitude, index, x - index);
+	}
+	
+	/**
+	 * Returns the nutation in obliquity (delta epsilon) in seconds.
+	 */
+	public double obliquityFor(double jde) {
+		double x = (jde - jdeStart) * inverseInterval + 1;
+		if (!(x >= 1 && x < obliquity.length - 2))
+			return Chapter22.nutation(jde).obliquity;
+		
+		int index = (int)x;
+		return interpolate(obliquity, index, x - index);
+	}
+	
+	/**
+	 * Returns the nutation for the given date.  Values are in seconds.
+	 */
+	public Structs.Nutation nutationFor(double jde) {
+		double x = (jde - jdeStart) * inverseInterval + 1;
+		if (!(x >= 1 && x < longitude.length - 2))
+			return Chapter22.nutation(jde);
+		
+		int index = (int)x;
+		double f = x - index;
+		return new Structs.Nutation(interpolate(longitude, index, f), interpolate(obliquity, index, f));
+	}
+	
+	/**
+	 * Fills 'longitude' and 'obliquity' (either may be null) with the 
+	 * nutation for each date in 'jde'.  Values are in seconds.
+	 */
+	public void nutationFor(double [] jde, double [] longitude, double [] obliquity) {
+		for (int i=0; i<jde.length; i++) {
+			if (longitude != null)
+				longitude[i] = longitudeFor(jde[i]);
+			if (obliquity != null)
+				obliquity[i] = obliquityFor(jde[i]);
+		}
+	}
+	
+	/**
+	 * Cubic (four point Lagrange) interpolation between values[index] and
+	 * values[index+1] at fraction 'f'.
+	 */
+	static double interpolate(double [] values, int index, double f) {
+		double y0 = values[index-1];
+		double y1 = values[index];
+		double y2 = values[index+1];
+		double y3 = values[index+2];
+		
+		double fm1 = f - 1;
+		double fm2 = f - 2;
+		double fp1 = f + 1;
+		return (-y0 * f * fm1 * fm2 + y3 * fp1 * f * fm1) / 6
+				+ (y1 * fp1 * fm1 * fm2 - y2 * fp1 * f * fm2) / 2;
+	}
+	
+}
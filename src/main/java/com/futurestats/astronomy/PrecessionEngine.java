@@ -0,0 +1,163 @@
+package com.futurestats.astronomy;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.futurestats.astronomy.algos.meeus.Chapter21;
+import com.futurestats.astronomy.algos.meeus.Structs;
+
+/**
+ * Applies precession (Chapter 21) to single coordinates or whole catalogs
+ * using rotation matrices.  The matrix for a pair of dates only needs to
+ * be computed once, so the engine keeps a small cache of the matrices for
+ * recently used (jd0, jd) pairs.
+ * 
+ * Instances are thread-safe.  Cache lookups are a ConcurrentHashMap get()
+ * and do not lock, so the shared DEFAULT engine is not a point of
+ * contention.  Only adding a matrix takes a lock, to evict an entry with
+ * CLOCK (second chance) eviction like SunriseSunsetCache.
+ */
+public class PrecessionEngine {
+
+	public static final int DEFAULT_CACHE_SIZE = 16;
+	
+	/**
+	 * Shared engine used by EquatorialCoordinate.adjustForPrecession().
+	 */
+	public static final PrecessionEngine DEFAULT = new PrecessionEngine(DEFAULT_CACHE_SIZE);
+	
+	private final int maxSize;
+	private final ConcurrentHashMap<EpochPair, Entry> cache;
+	
+	//CLOCK ring in insertion order (guarded by 'ring')
+	private final Entry [] ring;
+	private int count;
+	private int hand;
+	
+	/**
+	 * Creates an engine that caches matrices for up to 'cacheSize' pairs of
+	 * dates.
+	 */
+	public PrecessionEngine(int cacheSize) {
+		if (cacheSize < 1)
+			throw new IllegalArgumentException("Invalid cache size: " + cacheSize);
+		
+		this.maxSize = cacheSize;
+		this.cache = new ConcurrentHashMap<>(cacheSize * 2);
+		this.ring = new Entry[cacheSize];
+	}
+	
+	/**
+	 * Returns a copy of the rotation matrix (9 values in row-major order)
+	 * that converts coordinates from jd0 to jd.
+	 */
+	public double [] matrixFor(double jd0, double jd) {
+		return getMatrix(jd0, jd).clone();
+	}
+	
+	/**
+	 * Returns the cached matrix.  Callers must not modify it.
+	 */
+	double [] getMatrix(double jd0, double jd) {
+		EpochPair key = new EpochPair(jd0, jd);
+		Entry entry = cache.get(key);
+		if (entry != null) {
+			if (!entry.referenced)
+				entry.referenced = true;
+			return entry.matrix;
+		}
+		
+		entry = new Entry(key, Chapter21.precessionMatrix(jd0, jd));
+		Entry existing = cache.putIfAbsent(key, entry);
+		if (existing != null)
+			return existing.matrix;
+		
+		synchronized (ring) {
+			if (count < maxSize) {
+				ring[count++] = entry;
+			}
+			else {
+				//second chance for entries that were used since the last sweep
+				while (ring[hand].referenced) {
+					ring[hand].referenced = false;
+					hand = (hand + 1) % maxSize;
+				}
+				cache.remove(ring[hand].key, ring[hand]);
+				ring[hand] = entry;
+				hand = (hand + 1) % maxSize;
+			}
+		}
+		return entry.matrix;
+	}
+	
+	/**
+	 * Returns the number of matrices in the cache.
+	 */
+	public int cacheSize() {
+		return cache.size();
+	}
+	
+	/**
+	 * Converts the coordinates from their locations on jd0 to jd.
+	 */
+	public EquatorialCoordinate adjust(EquatorialCoordinate coord, JulianDate jd0, JulianDate jd) {
+		Structs.EquatorialCoordinate x = new Structs.EquatorialCoordinate(
+				coord.getRightAscension().degreesValue(),
+				coord.getDeclination().degreesValue());
+		
+		Structs.EquatorialCoordinate y = Chapter21.adjust(x, getMatrix(jd0.value(), jd.value()));
+		return EquatorialCoordinate.fromDegrees(y.rightAscension, y.declination);
+	}
+	
+	/**
+	 * Converts columns of right ascension and declination (in degrees) from
+	 * their locations on jd0 to jd.  The results are written to the same
+	 * index of 'raOut' and 'decOut' (which may be the input arrays).  Large
+	 * arrays are processed in parallel.
+	 */
+	public void adjust(double jd0, double jd, double [] ra, double [] dec, double [] raOut, double [] decOut) {
+		Chapter21.adjustParallel(getMatrix(jd0, jd), ra, dec, raOut, decOut);
+	}
+	
+	static final class Entry {
+		
+		final EpochPair key;
+		final double [] matrix;
+		
+		//CLOCK flag: a plain field since a lost update only costs an entry
+		//its second chance
+		boolean referenced;
+		
+		Entry(EpochPair key, double [] matrix) {
+			this.key = key;
+			this.matrix = matrix;
+		}
+		
+	}
+	
+	static final class EpochPair {
+		
+		final double jd0;
+		final double jd;
+		
+		EpochPair(double jd0, double jd) {
+			this.jd0 = jd0;
+			this.jd = jd;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof EpochPair))
+				return false;
+			
+			EpochPair other = (EpochPair)obj;
+			return Double.compare(jd0, other.jd0) == 0 && Double.compare(jd, other.jd) == 0;
+		}
+		
+		@Override
+		public int hashCode() {
+			return 31 * Double.hashCode(jd0) + Double.hashCode(jd);
+		}
+		
+	}
+	
+}
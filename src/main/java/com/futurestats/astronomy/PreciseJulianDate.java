@@ -0,0 +1,244 @@
+package com.futurestats.astronomy;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * A high-resolution JulianDate.  JulianDate stores its value in a single
+ * double which only resolves about 40 microseconds for modern dates.  This
+ * class stores the integer Julian Day Number and the nanoseconds elapsed
+ * since the start of that day (noon UTC) separately, so conversions to and
+ * from java.time.Instant are exact and arithmetic keeps nanosecond precision.
+ * 
+ * Like JulianDate, every day is assumed to have 86,400 seconds (leap seconds
+ * are ignored).
+ * 
+ * The static methods convert between epoch seconds/nanos and the
+ * (day, nanoOfDay) pair using only primitive arithmetic.  They are intended
+ * for tight loops (such as a tracking pipeline sampling at 10 Hz) where
+ * creating objects for every sample is not desirable.
+ */
+public class PreciseJulianDate implements Comparable<PreciseJulianDate> {
+
+	public static final long NANOS_PER_SECOND = 1000000000L;
+	public static final long SECONDS_PER_DAY = 86400L;
+	public static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+	
+	/**
+	 * Julian Day Number of the day that contains 1970-01-01T00:00:00Z
+	 * (JD 2440587.5).  This day began at noon on 1969-12-31.
+	 */
+	static final long EPOCH_DAY_NUMBER = 2440587L;
+	
+	/**
+	 * Seconds between the start of EPOCH_DAY_NUMBER and the Unix epoch.
+	 */
+	static final long EPOCH_SECONDS_OFFSET = SECONDS_PER_DAY / 2;
+	
+	public static final PreciseJulianDate J2000 = PreciseJulianDate.of(2451545L, 0L);
+	
+	private final long day;
+	private final long nanoOfDay;
+	
+	private PreciseJulianDate(long day, long nanoOfDay) {
+		this.day = day;
+		this.nanoOfDay = nanoOfDay;
+	}
+	
+	/**
+	 * Creates a date from the Julian Day Number and the nanoseconds elapsed
+	 * since the start of that day (noon UTC).  nanoOfDay may be outside of
+	 * [0, NANOS_PER_DAY) and will be carried into the day.
+	 */
+	public static PreciseJulianDate of(long day, long nanoOfDay) {
+		return new PreciseJulianDate(
+				day + Math.floorDiv(nanoOfDay, NANOS_PER_DAY), 
+				Math.floorMod(nanoOfDay, NANOS_PER_DAY));
+	}
+	
+	/**
+	 * Creates a date from a Julian Date value.  The fraction is rounded to
+	 * the nearest nanosecond, but note that the double value itself may not
+	 * be that precise.
+	 */
+	public static PreciseJulianDate of(double value) {
+		double day = Math.floor(value);
+		long nanos = Math.round((value - day) * NANOS_PER_DAY);
+		return of((long)day, nanos);
+	}
+	
+	public static PreciseJulianDate of(JulianDate date) {
+		return of(date.value());
+	}
+	
+	/**
+	 * Converts seconds and nanoseconds since the Unix epoch 
+	 * (1970-01-01T00:00:00Z) to a date.
+	 */
+	public static PreciseJulianDate ofEpochSecond(long epochSecond, long nanoAdjustment) {
+		return of(dayFromEpochSecond(epochSecond),
+				  nanoOfDayFromEpochSecond(epochSecond, nanoAdjustment));
+	}
+	
+	/**
+	 * Converts the Instant without any loss of precision.
+	 */
+	public static PreciseJulianDate from(Instant instant) {
+		return ofEpochSecond(instant.getEpochSecond(), instant.getNano());
+	}
+	
+	public static PreciseJulianDate now() {
+		return from(Instant.now());
+	}
+	
+	/**
+	 * Returns the Julian Day Number.  The day starts at noon UTC.
+	 */
+	public long getDay() {
+		return day;
+	}
+	
+	/**
+	 * Returns the nanoseconds elapsed since the start of the day (noon UTC).
+	 * This is always in the range [0, NANOS_PER_DAY).
+	 */
+	public long getNanoOfDay() {
+		return nanoOfDay;
+	}
+	
+	/**
+	 * Returns the elapsed fraction of the day in the range [0, 1).
+	 */
+	public double fraction() {
+		return nanoOfDay / (double)NANOS_PER_DAY;
+	}
+	
+	/**
+	 * Returns the Julian Date as a single double.  This loses precision.
+	 */
+	public double value() {
+		return value(day, nanoOfDay);
+	}
+	
+	public JulianDate toJulianDate() {
+		return JulianDate.of(value());
+	}
+	
+	public long getEpochSecond() {
+		return toEpochSecond(day, nanoOfDay);
+	}
+	
+	public int getNano() {
+		return toNano(nanoOfDay);
+	}
+	
+	public Instant toInstant() {
+		return Instant.ofEpochSecond(getEpochSecond(), getNano());
+	}
+	
+	// --- Arithmetic ---------------------------------------------------------
+	
+	public PreciseJulianDate plusNanos(long nanos) {
+		return of(day, nanoOfDay + nanos);
+	}
+	
+	public PreciseJulianDate plusSeconds(double seconds) {
+		return plusNanos(Math.round(seconds * NANOS_PER_SECOND));
+	}
+	
+	/**
+	 * Adds the (possibly fractional) number of days.  The whole days are
+	 * added exactly and the fraction is rounded to the nearest nanosecond.
+	 */
+	public PreciseJulianDate plusDays(double days) {
+		double whole = Math.floor(days);
+		long nanos = Math.round((days - whole) * NANOS_PER_DAY);
+		return of(day + (long)whole, nanoOfDay + nanos);
+	}
+	
+	public PreciseJulianDate minusDays(double days) {
+		return plusDays(-days);
+	}
+	
+	/**
+	 * Returns the number of nanoseconds from this date to the other date.
+	 */
+	public long nanosUntil(PreciseJulianDate other) {
+		return (other.day - this.day) * NANOS_PER_DAY + (other.nanoOfDay - this.nanoOfDay);
+	}
+	
+	/**
+	 * Returns the number of days from this date to the other date.  The 
+	 * whole days and the fraction are subtracted separately so the result
+	 * keeps sub-microsecond precision for differences of many years.
+	 */
+	public double daysUntil(PreciseJulianDate other) {
+		return (other.day - this.day) + (other.nanoOfDay - this.nanoOfDay) / (double)NANOS_PER_DAY;
+	}
+	
+	// --- Primitive conversions ----------------------------------------------
+	
+	/**
+	 * Returns the Julian Day Number containing the given epoch second.
+	 */
+	public static long dayFromEpochSecond(long epochSecond) {
+		return EPOCH_DAY_NUMBER + Math.floorDiv(epochSecond + EPOCH_SECONDS_OFFSET, SECONDS_PER_DAY);
+	}
+	
+	/**
+	 * Returns the nanoseconds elapsed since the start of the Julian Day
+	 * containing the given epoch second.  The result is only in the range
+	 * [0, NANOS_PER_DAY) if nanoAdjustment is in [0, NANOS_PER_SECOND).
+	 */
+	public static long nanoOfDayFromEpochSecond(long epochSecond, long nanoAdjustment) {
+		long secondOfDay = Math.floorMod(epochSecond + EPOCH_SECONDS_OFFSET, SECONDS_PER_DAY);
+		return secondOfDay * NANOS_PER_SECOND + nanoAdjustment;
+	}
+	
+	/**
+	 * Returns the Julian Date value for the given epoch second and nanos.
+	 */
+	public static double valueOfEpochSecond(long epochSecond, long nanoAdjustment) {
+		return value(dayFromEpochSecond(epochSecond), 
+				nanoOfDayFromEpochSecond(epochSecond, nanoAdjustment));
+	}
+	
+	public static double value(long day, long nanoOfDay) {
+		return day + nanoOfDay / (double)NANOS_PER_DAY;
+	}
+	
+	public static long toEpochSecond(long day, long nanoOfDay) {
+		return (day - EPOCH_DAY_NUMBER) * SECONDS_PER_DAY 
+				+ Math.floorDiv(nanoOfDay, NANOS_PER_SECOND)
+				- EPOCH_SECONDS_OFFSET;
+	}
+	
+	public static int toNano(long nanoOfDay) {
+		return (int)Math.floorMod(nanoOfDay, NANOS_PER_SECOND);
+	}
+	
+	// --- Object -------------------------------------------------------------
+	
+	public int compareTo(PreciseJulianDate other) {
+		int cmp = Long.compare(this.day, other.day);
+		return (cmp != 0) ? cmp : Long.compare(this.nanoOfDay, other.nanoOfDay);
+	}
+	
+	public boolean equals(Object obj) {
+		if (!(obj instanceof PreciseJulianDate))
+			return false;
+		
+		PreciseJulianDate other = (PreciseJulianDate)obj;
+		return this.day == other.day && this.nanoOfDay == other.nanoOfDay;
+	}
+	
+	public int hashCode() {
+		return Long.hashCode(day) * 31 + Long.hashCode(nanoOfDay);
+	}
+	
+	public String toString() {
+		String fraction = String.format(Locale.ROOT, "%.14f", fraction());
+		return "JD " + day + fraction.substring(fraction.indexOf('.'));
+	}
+	
+}
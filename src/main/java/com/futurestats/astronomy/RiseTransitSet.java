@@ -0,0 +1,151 @@
+package com.futurestats.astronomy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.futurestats.astronomy.algos.meeus.Chapter12;
+import com.futurestats.astronomy.algos.meeus.Chapter15;
+import com.futurestats.astronomy.algos.meeus.Structs;
+import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.Degrees;
+
+/**
+ * Computes the times at which fixed targets (stars, galaxies, etc.) rise,
+ * transit and set for an observer (Meeus chapter 15).  Each event is the
+ * first one after a starting time.  computeForNight() starts at local noon
+ * so that the events fall in the evening, night and morning that follow.
+ * 
+ * The batch compute() is meant for catalogs: the sidereal time at the
+ * start and the sines and cosines of the latitude and standard altitude
+ * are computed once and shared by all targets, which are processed in
+ * parallel.
+ */
+public class RiseTransitSet {
+	
+	/**
+	 * Standard altitude for stars and planets (-0.5667 degrees, which
+	 * accounts for refraction at the horizon).
+	 */
+	public static final Angle STANDARD_ALTITUDE = Degrees.of(Chapter15.STANDARD_ALTITUDE_STARS);
+	
+	private final GeoContext context;
+	private final Angle altitude;
+	
+	public RiseTransitSet(GeoContext context, Angle altitude) {
+		this.context = context;
+		this.altitude = altitude;
+	}
+	public RiseTransitSet(GeoContext context) {
+		this(context, STANDARD_ALTITUDE);
+	}
+	
+	public GeoContext getContext() {
+		return context;
+	}
+	public Angle getAltitude() {
+		return altitude;
+	}
+	
+	/**
+	 * Returns local noon on the given date in the context's time zone.
+	 */
+	public JulianDate nightStart(LocalDate date) {
+		return JulianDate.from(date.atTime(LocalTime.NOON).atZone(context.getZoneId()));
+	}
+	
+	/**
+	 * Computes the first transit, rising and setting of the target after
+	 * 'start'.
+	 */
+	public Times compute(EquatorialCoordinate target, JulianDate start) {
+		Structs.RiseTransitSet m = Chapter15.riseTransitSet(
+				target.toStruct(),
+				Chapter12.gmst(start.value()),
+				context.getLatitude().degreesValue(),
+				context.getLongitude().degreesValue(),
+				altitude.degreesValue());
+		
+		return new Times(start, m.transit, m.rise, m.set, m.status);
+	}
+	
+	/**
+	 * Computes the transit, rising and setting of the target in the 24
+	 * hours after local noon on the given date.
+	 */
+	public Times computeForNight(EquatorialCoordinate target, LocalDate date) {
+		return compute(target, nightStart(date));
+	}
+	
+	/**
+	 * Computes the times for targets with the given right ascension and
+	 * declination (in degrees).  Times are written as days after 'start'
+	 * to the same index of 'transit', 'rise' and 'set'.  Rise and set are
+	 * NaN for targets that are circumpolar or never rise, which is recorded
+	 * in 'status' (see Chapter15.RISES_AND_SETS).  Any of the output arrays
+	 * may be null if it isn't needed.
+	 */
+	public void compute(double [] ra, double [] dec, JulianDate start,
+			double [] transit, double [] rise, double [] set, int [] status) {
+		
+		if (ra.length != dec.length)
+			throw new IllegalArgumentException("Column lengths differ: " + ra.length + " != " + dec.length);
+		
+		Chapter15.riseTransitSetParallel(ra, dec,
+				Chapter12.gmst(start.value()),
+				context.getLatitude().degreesValue(),
+				context.getLongitude().degreesValue(),
+				altitude.degreesValue(),
+				transit, rise, set, status);
+	}
+	
+	/**
+	 * Same as compute(double[], double[], JulianDate, double[], double[],
+	 * double[], int[]) starting at local noon on the given date.
+	 */
+	public void computeForNight(double [] ra, double [] dec, LocalDate date,
+			double [] transit, double [] rise, double [] set, int [] status) {
+		compute(ra, dec, nightStart(date), transit, rise, set, status);
+	}
+	
+	/**
+	 * The times of one target's events.  getRise() and getSet() return null
+	 * when the target is circumpolar or never rises.
+	 */
+	public static class Times {
+		
+		final JulianDate transit;
+		final JulianDate rise;
+		final JulianDate set;
+		final int status;
+		
+		Times(JulianDate start, double transit, double rise, double set, int status) {
+			this.transit = JulianDate.of(start.value() + transit);
+			this.rise = Double.isNaN(rise) ? null : JulianDate.of(start.value() + rise);
+			this.set = Double.isNaN(set) ? null : JulianDate.of(start.value() + set);
+			this.status = status;
+		}
+		
+		public JulianDate getTransit() {
+			return transit;
+		}
+		public JulianDate getRise() {
+			return rise;
+		}
+		public JulianDate getSet() {
+			return set;
+		}
+		
+		public boolean isCircumpolar() {
+			return status == Chapter15.CIRCUMPOLAR;
+		}
+		public boolean neverRises() {
+			return status == Chapter15.NEVER_RISES;
+		}
+		
+		public String toString() {
+			return "transit=" + transit + ", rise=" + rise + ", set=" + set;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,172 @@
+package com.futurestats.astronomy;
+
+import com.futurestats.astronomy.algos.meeus.Chapter27;
+import com.futurestats.astronomy.algos.meeus.Utils;
+
+/**
+ * A precomputed table of the equinoxes and solstices for a range of years.
+ * 
+ * All four events of every year are calculated once (in parallel) with
+ * Chapter27.jdeForEvent() and stored in chronological order in a single
+ * double array.  Later queries are answered from this array, so they do 
+ * not re-evaluate the periodic terms.  Chapter 27 supports the years -1000
+ * to 3000.
+ * 
+ * All values are Julian Ephemeris Days (Dynamical Time).  The event array
+ * is filled by the constructor and never written again, so a table can be
+ * read from several threads.
+ */
+public class SeasonTable {
+
+	static final Chapter27.Target [] TARGETS = Chapter27.Target.values();
+	static final int EVENTS_PER_YEAR = TARGETS.length;
+	
+	/**
+	 * Years computed by a single fork/join task.
+	 */
+	static final int YEARS_PER_TASK = 16;
+	
+	private final int startYear;
+	private final int endYear;
+	
+	/**
+	 * Events in chronological order followed by the March equinox of the
+	 * year after endYear (NaN if that year is not supported).
+	 */
+	private final double [] jde;
+	
+	/**
+	 * Creates a table of events from startYear to endYear (inclusive).
+	 */
+	public SeasonTable(int startYear, int endYear) {
+		if (endYear < startYear)
+			throw new IllegalArgumentException("Invalid year range: " + startYear + " to " + endYear);
+		
+		this.startYear = startYear;
+		this.endYear = endYear;
+		
+		int years = endYear - startYear + 1;
+		double [] jde = new double[years * EVENTS_PER_YEAR + 1];
+		Utils.parallelFor(years, YEARS_PER_TASK, (from, to) -> {
+			for (int i=from; i<to; i++) {
+				for (int t=0; t<EVENTS_PER_YEAR; t++)
+					jde[i * EVENTS_PER_YEAR + t] = Chapter27.jdeForEvent(startYear + i, TARGETS[t]);
+			}
+		});
+		
+		try {
+			jde[jde.length - 1] = Chapter27.jdeForEvent(endYear + 1, Chapter27.Target.MARCH_EQUINOX);
+		}
+		catch(IllegalArgumentException e) {
+			jde[jde.length - 1] = Double.NaN;
+		}
+		
+		this.jde = jde;
+	}
+	
+	public int getStartYear() {
+		return startYear;
+	}
+	public int getEndYear() {
+		return endYear;
+	}
+	
+	/**
+	 * Returns the number of events in the table.
+	 */
+	public int size() {
+		return jde.length - 1;
+	}
+	
+	// --- Lookups ------------------------------------------------------------
+	
+	/**
+	 * Returns the index of the event in the table.
+	 */
+	public int indexOf(int year, Chapter27.Target target) {
+		if (year < startYear || year > endYear)
+			throw new IllegalArgumentException("Year not in table: " + year);
+		
+		return (year - startYear) * EVENTS_PER_YEAR + target.ordinal();
+	}
+	
+	/**
+	 * Returns the JDE of the event at the given index.
+	 */
+	public double jdeAt(int index) {
+		return jde[index];
+	}
+	public int yearAt(int index) {
+		return startYear + index / EVENTS_PER_YEAR;
+	}
+	public Chapter27.Target targetAt(int index) {
+		return TARGETS[index % EVENTS_PER_YEAR];
+	}
+	
+	/**
+	 * Returns the JDE of the event.  This is the same value returned by
+	 * Chapter27.jdeForEvent().
+	 */
+	public double jdeFor(int year, Chapter27.Target target) {
+		return jde[indexOf(year, target)];
+	}
+	
+	public JulianDate getEvent(int year, Chapter27.Target target) {
+		return JulianDate.of(jdeFor(year, target));
+	}
+	
+	/**
+	 * Returns the length (in days) of the season that begins with the 
+	 * given event.
+	 */
+	public double seasonLength(int year, Chapter27.Target target) {
+		int index = indexOf(year, target);
+		return jde[index + 1] - jde[index];
+	}
+	
+	/**
+	 * Returns the lengths (in days) of every season in the table, in the
+	 * same order as the events.  The last one is NaN if the next year is
+	 * not supported by Chapter 27.
+	 */
+	public double [] seasonLengths() {
+		double [] lengths = new double[size()];
+		for (int i=0; i<lengths.length; i++)
+			lengths[i] = jde[i+1] - jde[i];
+		return lengths;
+	}
+	
+	/**
+	 * Returns the index of the event closest to the given JDE.  Dates before
+	 * or after the table return the first or last event.
+	 */
+	public int nearestEvent(double jde) {
+		int before = seasonContaining(jde);
+		int after = before + 1;
+		if (before < 0)
+			return 0;
+		if (after >= size())
+			return size() - 1;
+		
+		return (jde - this.jde[before] <= this.jde[after] - jde) ? before : after;
+	}
+	
+	/**
+	 * Returns the index of the last event at or before the given JDE (the
+	 * event that started the season containing it), or -1 if the date comes
+	 * before the table.
+	 */
+	public int seasonContaining(double jde) {
+		int low = 0;
+		int high = size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (this.jde[mid] <= jde)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		return high;
+	}
+	
+}
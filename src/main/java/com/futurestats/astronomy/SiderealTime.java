@@ -3,10 +3,12 @@ package com.futurestats.astronomy;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.Arrays;
 
 import com.futurestats.astronomy.algos.meeus.Chapter12;
+import com.futurestats.astronomy.algos.meeus.Utils;
 import com.futurestats.astronomy.angles.Angle;
+import com.futurestats.astronomy.angles.AngleMath;
 import com.futurestats.astronomy.angles.Degrees;
 
 /**
@@ -36,26 +38,157 @@ public class SiderealTime {
 	 * it based on the (East) longitude of the local location.
 	 */
 	public static Angle lmst(JulianDate date, Angle longitude) {
-		Angle gmst = gmst(date);
-		Angle lmst = gmst.add(longitude);
-		return lmst.normalize();
+		double lmst = Chapter12.gmst(date.value()) + longitude.degreesValue();
+		return Degrees.of(AngleMath.normalizeDegrees(lmst));
 	}
 	
 	/**
-	 * Converts the given LMST to a LocalTime on the given date/longitude.
-	 * This uses the calculation given here:
+	 * Returns GMST (in degrees, 0 to 360) for 'count' dates starting at
+	 * 'start' and spaced 'step' days apart.  This uses the incremental
+	 * Chapter12.gmst() which is much faster than calling gmst(JulianDate)
+	 * for every date and stays within Chapter12.GMST_STEP_MAX_ERROR degrees
+	 * of it.
+	 */
+	public static double [] gmst(JulianDate start, double step, int count) {
+		double [] gmst = new double[count];
+		Chapter12.gmst(start.value(), step, count, gmst);
+		return gmst;
+	}
+	
+	/**
+	 * Returns LMST (in degrees, 0 to 360) on a uniform time grid for many
+	 * (East) longitudes at once.  'longitudes' are given in degrees.  The
+	 * result has 'count' values for each longitude: the value for longitude
+	 * j at time k is at index (j * count + k).
+	 * 
+	 * GMST is computed once for the time grid (see gmst(JulianDate, double,
+	 * int)) and then shifted for each longitude in parallel.
+	 */
+	public static double [] lmst(JulianDate start, double step, int count, double [] longitudes) {
+		double [] lmst = new double[longitudes.length * count];
+		lmst(start, step, count, longitudes, lmst);
+		return lmst;
+	}
+	
+	/**
+	 * Same as lmst(JulianDate, double, int, double[]) but writes the result
+	 * into the given array.
+	 */
+	public static void lmst(JulianDate start, double step, int count, double [] longitudes, double [] lmst) {
+		double [] gmst = gmst(start, step, count);
+		
+		Utils.parallelFor(longitudes.length, Math.max(1, Utils.PARALLEL_CHUNK_SIZE / Math.max(1, count)), 
+				(from, to) -> {
+			for (int j=from; j<to; j++) {
+				double longitude = longitudes[j];
+				int offset = j * count;
+				for (int k=0; k<count; k++) {
+					double deg = gmst[k] + longitude;
+					lmst[offset + k] = deg - 360 * Math.floor(deg / 360);
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Seconds from 1970-01-01T00:00:00Z to J2000 (2000-01-01T12:00:00 TT, 
+	 * treated as UT like the rest of this class).
+	 */
+	static final long J2000_EPOCH_SECOND = 946728000L;
+	
+	static final long NANOS_PER_SECOND = 1000000000L;
+	static final long NANOS_PER_DAY = 86400L * NANOS_PER_SECOND;
+	
+	/**
+	 * Converts the given LMST to a LocalTime on the given date/longitude
+	 * in the system default time zone.  This returns the first time after
+	 * local midnight at which the LMST occurs (see lmstToLocalTimes()).
+	 * 
+	 * Earlier versions used the approximation given here:
 	 * 
 	 * https://astronomy.stackexchange.com/questions/29471/how-to-convert-sidereal-time-to-local-time
 	 * 
-	 * which isn't exact, but it's pretty close (within a few seconds on the
-	 * sample I tried).
+	 * which was within a few seconds of the exact answer.
 	 */
 	public static LocalTime lmstToLocalTime(Angle lmst, LocalDate date, Angle longitude) {
-		ZonedDateTime zdate = ZonedDateTime.of(date, LocalTime.NOON, ZoneId.systemDefault());
-		Angle lmst0 = lmst(JulianDate.from(zdate), longitude);
-		double hours = lmst.subtract(lmst0).toHours().value() / 1.00273790935;
-		double nanos = hours * 3600000000000L;
-		return zdate.plusNanos((long)nanos).toLocalTime();
+		long [] nanosOfDay = new long[1];
+		lmstToLocalTimes(new double [] {lmst.hoursValue()}, longitude.degreesValue(), 
+				ZoneId.systemDefault(), date, nanosOfDay, null);
+		return LocalTime.ofNanoOfDay(nanosOfDay[0]);
+	}
+	
+	/**
+	 * Returns the local clock time (in nanoseconds of the day) at which the
+	 * given LMST occurs on each of 'days' consecutive days starting at
+	 * 'start'.  Use LocalTime.ofNanoOfDay() to convert the values.
+	 */
+	public static long [] lmstToLocalTimes(Angle lmst, Angle longitude, ZoneId zoneId, LocalDate start, int days) {
+		double [] lmstHours = new double[days];
+		Arrays.fill(lmstHours, lmst.hoursValue());
+		
+		long [] nanosOfDay = new long[days];
+		lmstToLocalTimes(lmstHours, longitude.degreesValue(), zoneId, start, nanosOfDay, null);
+		return nanosOfDay;
+	}
+	
+	/**
+	 * Inverse of lmst(): finds the time at which the target LMST
+	 * lmstHours[i] (in hours) occurs on the local date start + i days at 
+	 * the given (East) longitude (in degrees) and time zone.
+	 * 
+	 * The results are written as the local clock time in nanoseconds of the
+	 * day to 'nanosOfDay' and (if not null) as the UTC epoch second to 
+	 * 'epochSeconds'.  Either array may be null.
+	 * 
+	 * Since a sidereal day is about 4 minutes shorter than a solar day the
+	 * target occurs once on most dates and twice on a few.  This returns
+	 * the first occurrence after local midnight.  On a date shortened by a 
+	 * daylight saving time transition the first occurrence may fall on the
+	 * next date, in which case its clock time is still returned.
+	 * 
+	 * The zone offsets are cached in a ZoneOffsetTable and formula 12.4 is
+	 * solved with one Newton step, so the result is exact to well under a
+	 * millisecond and no objects are created per day.
+	 */
+	public static void lmstToLocalTimes(double [] lmstHours, double longitude, ZoneId zoneId, LocalDate start,
+			long [] nanosOfDay, long [] epochSeconds) {
+		
+		int days = lmstHours.length;
+		long startSecond = start.toEpochDay() * 86400L;
+		ZoneOffsetTable offsets = new ZoneOffsetTable(zoneId, 
+				startSecond - 2 * 86400L, startSecond + (days + 2) * 86400L);
+		
+		for (int i=0; i<days; i++) {
+			long localMidnight = startSecond + i * 86400L;
+			int midnightOffset = offsets.offsetForLocal(localMidnight);
+			long utcMidnight = localMidnight - midnightOffset;
+			
+			//days since J2000 at midnight and the rate of LMST (deg / day)
+			double days0 = (utcMidnight - J2000_EPOCH_SECOND) / 86400.0;
+			double rate = Chapter12.gmstRate(days0 + 2451545.0);
+			
+			double target = lmstHours[i] * 15;
+			double delta = target - (Chapter12.gmstForDaysSinceJ2000(days0) + longitude);
+			delta -= 360 * Math.floor(delta / 360);
+			double dt = delta / rate;
+			
+			//Newton step to absorb the (tiny) change in rate over the day
+			double error = target - (Chapter12.gmstForDaysSinceJ2000(days0 + dt) + longitude);
+			error -= 360 * Math.floor(error / 360 + 0.5);
+			dt += error / rate;
+			
+			long nanos = Math.round(dt * NANOS_PER_DAY);
+			long epochSecond = utcMidnight + Math.floorDiv(nanos, NANOS_PER_SECOND);
+			
+			if (epochSeconds != null)
+				epochSeconds[i] = epochSecond;
+			
+			if (nanosOfDay != null) {
+				//adjust for an offset change (DST) during the day
+				long offsetChange = offsets.offsetAt(epochSecond) - midnightOffset;
+				nanosOfDay[i] = Math.floorMod(nanos + offsetChange * NANOS_PER_SECOND, NANOS_PER_DAY);
+			}
+		}
 	}
 	
 }
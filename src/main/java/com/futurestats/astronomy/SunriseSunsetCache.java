@@ -0,0 +1,309 @@
+package com.futurestats.astronomy;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * A thread-safe cache of sunrise and sunset times for servers that answer
+ * the same questions over and over.  Entries are keyed by the location
+ * (latitude and longitude rounded to a multiple of the resolution), the
+ * time zone, the date and the zenith.  The times are calculated for the
+ * rounded location, so every query that maps to an entry gets the same
+ * answer.  With the default resolution of 0.001 degrees (about 100 m)
+ * this moves sunrise and sunset by well under a second.
+ * 
+ * Lookups are a ConcurrentHashMap get() and do not lock.  The number of
+ * entries is bounded with CLOCK eviction (an approximation of LRU): each
+ * entry has a "referenced" flag that is set when it is read, and when the
+ * cache is full a hand sweeps over the entries in insertion order,
+ * clearing flags until it finds an entry that hasn't been read since the
+ * last sweep and replaces it.  Only insertions take a lock.  The cache may
+ * briefly hold a few more than maxSize entries while other threads are
+ * inserting.
+ * 
+ * prefetchYear() fills a whole year for a location at once using
+ * SunriseSunsetTable, which is much faster than missing on every day.
+ * hits(), misses() and evictions() count the cache's activity.
+ */
+public class SunriseSunsetCache {
+	
+	public static final double DEFAULT_RESOLUTION = 0.001;
+	
+	private final int maxSize;
+	private final double resolution;
+	private final ConcurrentHashMap<Key, Times> map;
+	
+	//CLOCK ring in insertion order (guarded by 'ring')
+	private final Times [] ring;
+	private int count;
+	private int hand;
+	
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	
+	/**
+	 * Creates a cache for up to 'maxSize' entries that rounds locations to
+	 * a multiple of 'resolution' degrees.
+	 */
+	public SunriseSunsetCache(int maxSize, double resolution) {
+		if (maxSize < 1)
+			throw new IllegalArgumentException("Invalid cache size: " + maxSize);
+		if (!(resolution > 0))
+			throw new IllegalArgumentException("Invalid resolution: " + resolution);
+		
+		this.maxSize = maxSize;
+		this.resolution = resolution;
+		this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16) * 2);
+		this.ring = new Times[maxSize];
+	}
+	public SunriseSunsetCache(int maxSize) {
+		this(maxSize, DEFAULT_RESOLUTION);
+	}
+	
+	public int getMaxSize() {
+		return maxSize;
+	}
+	public double getResolution() {
+		return resolution;
+	}
+	
+	/**
+	 * Returns sunrise and sunset for the location and date.  The times are
+	 * those SunriseSunsetCalculator returns for the rounded location.
+	 */
+	public Times get(GeoContext context, LocalDate date, Angle zenith) {
+		Key key = new Key(
+				quantize(context.getLatitude().degreesValue()),
+				quantize(context.getLongitude().degreesValue()),
+				context.getZoneId(), date.toEpochDay(),
+				zenith.degreesValue());
+		
+		Times times = map.get(key);
+		if (times != null) {
+			hits.increment();
+			times.referenced = true;
+			return times;
+		}
+		
+		misses.increment();
+		double latitude = key.latitude * resolution;
+		double longitude = key.longitude * resolution;
+		double sunrise = SunriseSunset.calculate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+				latitude, longitude, key.zenith, true);
+		double sunset = SunriseSunset.calculate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+				latitude, longitude, key.zenith, false);
+		
+		return insert(new Times(key, date, sunrise, sunset));
+	}
+	
+	public Times get(GeoContext context, LocalDate date) {
+		return get(context, date, SunriseSunsetCalculator.OFFICIAL_ZENITH);
+	}
+	
+	public ZonedDateTime getSunrise(GeoContext context, LocalDate date) {
+		return get(context, date).getSunrise();
+	}
+	public ZonedDateTime getSunset(GeoContext context, LocalDate date) {
+		return get(context, date).getSunset();
+	}
+	
+	/**
+	 * Calculates and caches every day of the year for the location.  Days
+	 * that are already cached are left as they are.  If the year has more
+	 * days than the cache can hold, the earlier days are evicted.
+	 */
+	public void prefetchYear(GeoContext context, int year, Angle zenith) {
+		long latitude = quantize(context.getLatitude().degreesValue());
+		long longitude = quantize(context.getLongitude().degreesValue());
+		ZoneId zoneId = context.getZoneId();
+		
+		LocalDate start = LocalDate.of(year, 1, 1);
+		int days = start.lengthOfYear();
+		double [] sunrise = new double[days];
+		double [] sunset = new double[days];
+		SunriseSunsetTable table = new SunriseSunsetTable(
+				new double[] {latitude * resolution}, new double[] {longitude * resolution}, null);
+		table.compute(start, days, zenith, sunrise, sunset, null, null);
+		
+		for (int i=0; i<days; i++) {
+			LocalDate date = start.plusDays(i);
+			Key key = new Key(latitude, longitude, zoneId, date.toEpochDay(), zenith.degreesValue());
+			if (!map.containsKey(key))
+				insert(new Times(key, date, sunrise[i], sunset[i]));
+		}
+	}
+	
+	public void prefetchYear(GeoContext context, int year) {
+		prefetchYear(context, year, SunriseSunsetCalculator.OFFICIAL_ZENITH);
+	}
+	
+	long quantize(double degrees) {
+		return Math.round(degrees / resolution);
+	}
+	
+	/**
+	 * Adds the entry (unless another thread added the same key first) and
+	 * evicts an entry if the cache is full.  Returns the cached entry.
+	 */
+	private Times insert(Times times) {
+		Times existing = map.putIfAbsent(times.key, times);
+		if (existing != null)
+			return existing;
+		
+		synchronized (ring) {
+			if (count < maxSize) {
+				ring[count++] = times;
+				return times;
+			}
+			
+			//second chance for entries that were read since the last sweep
+			while (ring[hand].referenced) {
+				ring[hand].referenced = false;
+				hand = (hand + 1) % maxSize;
+			}
+			
+			map.remove(ring[hand].key, ring[hand]);
+			evictions.increment();
+			ring[hand] = times;
+			hand = (hand + 1) % maxSize;
+		}
+		return times;
+	}
+	
+	/**
+	 * Removes all entries.  The counters are not reset.
+	 */
+	public void clear() {
+		synchronized (ring) {
+			map.clear();
+			Arrays.fill(ring, null);
+			count = 0;
+			hand = 0;
+		}
+	}
+	
+	/**
+	 * Returns the number of cached entries.
+	 */
+	public int size() {
+		return map.size();
+	}
+	
+	public long hits() {
+		return hits.sum();
+	}
+	public long misses() {
+		return misses.sum();
+	}
+	public long evictions() {
+		return evictions.sum();
+	}
+	
+	/**
+	 * Sunrise and sunset for one location, date and zenith.  ZonedDateTimes
+	 * are created when they are first requested.
+	 */
+	public static class Times {
+		
+		final Key key;
+		final LocalDate date;
+		final double sunriseHours;
+		final double sunsetHours;
+		
+		//CLOCK flag: a plain field since a lost update only costs an entry
+		//its second chance
+		boolean referenced;
+		
+		private ZonedDateTime sunrise;
+		private ZonedDateTime sunset;
+		
+		Times(Key key, LocalDate date, double sunriseHours, double sunsetHours) {
+			this.key = key;
+			this.date = date;
+			this.sunriseHours = sunriseHours;
+			this.sunsetHours = sunsetHours;
+		}
+		
+		public LocalDate getDate() {
+			return date;
+		}
+		
+		/**
+		 * Returns sunrise in hours UT (NaN if the sun does not rise).
+		 */
+		public double getSunriseHours() {
+			return sunriseHours;
+		}
+		public double getSunsetHours() {
+			return sunsetHours;
+		}
+		
+		/**
+		 * Returns sunrise as SunriseSunsetCalculator would.  (ZonedDateTime
+		 * is immutable, so a race just creates an equal object twice.)
+		 */
+		public ZonedDateTime getSunrise() {
+			ZonedDateTime result = sunrise;
+			if (result == null)
+				sunrise = result = SunriseSunsetCalculator.toZonedDateTime(date, sunriseHours, key.zoneId);
+			return result;
+		}
+		public ZonedDateTime getSunset() {
+			ZonedDateTime result = sunset;
+			if (result == null)
+				sunset = result = SunriseSunsetCalculator.toZonedDateTime(date, sunsetHours, key.zoneId);
+			return result;
+		}
+		
+		public String toString() {
+			return "sunrise=" + getSunrise() + ", sunset=" + getSunset();
+		}
+		
+	}
+	
+	static final class Key {
+		
+		final long latitude;
+		final long longitude;
+		final ZoneId zoneId;
+		final long epochDay;
+		final double zenith;
+		
+		Key(long latitude, long longitude, ZoneId zoneId, long epochDay, double zenith) {
+			this.latitude = latitude;
+			this.longitude = longitude;
+			this.zoneId = zoneId;
+			this.epochDay = epochDay;
+			this.zenith = zenith;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			
+			Key other = (Key)obj;
+			return latitude == other.latitude && longitude == other.longitude &&
+					epochDay == other.epochDay && Double.compare(zenith, other.zenith) == 0 &&
+					zoneId.equals(other.zoneId);
+		}
+		
+		@Override
+		public int hashCode() {
+			long h = latitude * 31 + longitude;
+			h = h * 31 + epochDay;
+			h = h * 31 + Double.hashCode(zenith);
+			return (int)(h ^ (h >>> 32)) * 31 + zoneId.hashCode();
+		}
+		
+	}
+	
+}
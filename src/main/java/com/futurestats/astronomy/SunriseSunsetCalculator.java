@@ -58,22 +58,30 @@ public class SunriseSunsetCalculator {
 		
 		double UT = SunriseSunset.calculate(
 				date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
-				latitude.toDegrees().value(), longitude.toDegrees().value(),
-				zenith.toDegrees().value(), sunrise);
-		
-		
-		//convert to ZonedDateTime
+				latitude.degreesValue(), longitude.degreesValue(),
+				zenith.degreesValue(), sunrise);
 		
+		return toZonedDateTime(date, UT, context.getZoneId());
+	}
+	
+	/**
+	 * Converts a sunrise or sunset time (in hours UT, as returned by
+	 * SunriseSunset.calculate()) for the given date to the time zone.  The
+	 * result is always on the given local date: times that fall on the 
+	 * previous or next day in the time zone keep their local time but are
+	 * moved to the given date.
+	 */
+	public static ZonedDateTime toZonedDateTime(LocalDate date, double UT, ZoneId zoneId) {
 		long nanos = (long)(UT * 3600000000000L);
 		
 		LocalTime time = LocalTime.ofNanoOfDay(nanos);
 		ZonedDateTime result = ZonedDateTime.of(date, time, UTC)
-				.withZoneSameInstant(context.getZoneId());
+				.withZoneSameInstant(zoneId);
 		
 		//sometimes this steps LocalDate back a day, even though LocalTime
 		//is correct. force it back to original date.
 		if (!result.toLocalDate().equals(date))
-			result = ZonedDateTime.of(date, result.toLocalTime(), context.getZoneId());
+			result = ZonedDateTime.of(date, result.toLocalTime(), zoneId);
 		
 		return result;
 	}
@@ -0,0 +1,277 @@
+package com.futurestats.astronomy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+import com.futurestats.astronomy.algos.meeus.Utils;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * Generates maps of sunrise, sunset and day length for one date on a
+ * regular latitude/longitude grid (for example the whole world every 0.1
+ * degrees, which is 6.5 million cells).  The times are identical to
+ * SunriseSunset.calculate() for the center of each cell, but:
+ * 
+ *  - the Sun's position (steps 1 - 6 of the algorithm) only depends on the
+ *    date and longitude, so it is computed once per column
+ *  - the sine and cosine of the latitude are computed once per row
+ *  - each cell then only needs steps 7 - 9 for sunrise and sunset
+ * 
+ * The grid is split into tiles of TILE_ROWS rows that are computed on the
+ * common fork/join pool.  Each tile is written straight into the output
+ * arrays or into a memory-mapped file, so a global map does not need to
+ * be held on the heap.
+ * 
+ * Rows run from north to south and columns from west to east, and the
+ * value for (row, column) is at index (row * columns + column).  Times are
+ * hours UT as floats.  Sunrise and sunset are NaN where the Sun does not
+ * rise or set (polar day or night) and the day length is then 24 or 0.
+ * 
+ * The file written by write() is little-endian with a 64 byte header
+ * followed by three float layers of (rows * columns) values:
+ * 
+ * <pre>
+ *   header     int magic ("SUNR"), int version, int rows, int columns,
+ *              double north, double west, double step (degrees),
+ *              long epoch day, double zenith (degrees), 8 bytes reserved
+ *   sunrise    float[rows * columns]  hours UT (NaN if none)
+ *   sunset     float[rows * columns]  hours UT (NaN if none)
+ *   dayLength  float[rows * columns]  hours
+ * </pre>
+ */
+public class SunriseSunsetRaster {
+	
+	public static final int MAGIC = 0x53554E52;		//"SUNR"
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 64;
+	public static final int LAYERS = 3;
+	public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	
+	/**
+	 * Number of rows computed by each fork/join task.
+	 */
+	static final int TILE_ROWS = 8;
+	
+	private final double north;
+	private final double west;
+	private final double step;
+	private final int rows;
+	private final int columns;
+	
+	private final double [] lngHours;
+	private final double [] sinLatitudes;
+	private final double [] cosLatitudes;
+	
+	/**
+	 * Creates a grid of rows x columns cells that are 'step' degrees wide
+	 * with its north-west corner at the given latitude and (East)
+	 * longitude.  Values are computed for the center of each cell.
+	 */
+	public SunriseSunsetRaster(double north, double west, double step, int rows, int columns) {
+		if (!(step > 0) || rows <= 0 || columns <= 0)
+			throw new IllegalArgumentException("Invalid grid: " + rows + " x " + columns + " cells of " + step + " degrees");
+		if ((long)rows * columns * 4 > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Grid is too large: " + rows + " x " + columns);
+		
+		this.north = north;
+		this.west = west;
+		this.step = step;
+		this.rows = rows;
+		this.columns = columns;
+		
+		this.lngHours = new double[columns];
+		for (int c=0; c<columns; c++)
+			lngHours[c] = longitude(c) / 15;
+		
+		this.sinLatitudes = new double[rows];
+		this.cosLatitudes = new double[rows];
+		for (int r=0; r<rows; r++) {
+			sinLatitudes[r] = SunriseSunset.sin(latitude(r));
+			cosLatitudes[r] = SunriseSunset.cos(latitude(r));
+		}
+	}
+	
+	/**
+	 * Creates a grid covering the whole Earth with cells 'step' degrees
+	 * wide (180 / step rows and 360 / step columns).
+	 */
+	public static SunriseSunsetRaster global(double step) {
+		return new SunriseSunsetRaster(90, -180, step,
+				(int)Math.round(180 / step), (int)Math.round(360 / step));
+	}
+	
+	public int getRows() {
+		return rows;
+	}
+	public int getColumns() {
+		return columns;
+	}
+	public double getStep() {
+		return step;
+	}
+	
+	/**
+	 * Returns the latitude of the center of the given row.
+	 */
+	public double latitude(int row) {
+		return north - (row + 0.5) * step;
+	}
+	
+	/**
+	 * Returns the (East) longitude of the center of the given column.
+	 */
+	public double longitude(int column) {
+		return west + (column + 0.5) * step;
+	}
+	
+	/**
+	 * Computes the raster for the given date into arrays of
+	 * (rows * columns) values.  Any of the arrays may be null if it isn't
+	 * needed.
+	 */
+	public void compute(LocalDate date, Angle zenith, float [] sunrise, float [] sunset, float [] dayLength) {
+		compute(date, zenith, (row, rowSunrise, rowSunset, rowDayLength) -> {
+			int offset = row * columns;
+			if (sunrise != null)
+				System.arraycopy(rowSunrise, 0, sunrise, offset, columns);
+			if (sunset != null)
+				System.arraycopy(rowSunset, 0, sunset, offset, columns);
+			if (dayLength != null)
+				System.arraycopy(rowDayLength, 0, dayLength, offset, columns);
+		});
+	}
+	
+	/**
+	 * Computes the raster for the given date and writes it to a file in the
+	 * format described above (replacing the file if it exists).  Tiles are
+	 * written into the memory-mapped layers as they are completed.
+	 */
+	public void write(LocalDate date, Angle zenith, Path file) throws IOException {
+		long layerBytes = (long)rows * columns * 4;
+		
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+			header.putInt(MAGIC);
+			header.putInt(VERSION);
+			header.putInt(rows);
+			header.putInt(columns);
+			header.putDouble(north);
+			header.putDouble(west);
+			header.putDouble(step);
+			header.putLong(date.toEpochDay());
+			header.putDouble(zenith.degreesValue());
+			header.putLong(0);
+			header.flip();
+			while (header.hasRemaining())
+				channel.write(header, header.position());
+			
+			FloatBuffer [] layers = new FloatBuffer[LAYERS];
+			for (int i=0; i<LAYERS; i++) {
+				layers[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * layerBytes, layerBytes)
+						.order(BYTE_ORDER).asFloatBuffer();
+			}
+			
+			compute(date, zenith, (row, rowSunrise, rowSunset, rowDayLength) -> {
+				int offset = row * columns;
+				put(layers[0], offset, rowSunrise);
+				put(layers[1], offset, rowSunset);
+				put(layers[2], offset, rowDayLength);
+			});
+		}
+	}
+	
+	private static void put(FloatBuffer layer, int offset, float [] values) {
+		FloatBuffer target = layer.duplicate();
+		target.position(offset);
+		target.put(values);
+	}
+	
+	/**
+	 * Receives the values of one row.  The arrays are reused for the next
+	 * row of the tile.
+	 */
+	static interface RowWriter {
+		
+		public void write(int row, float [] sunrise, float [] sunset, float [] dayLength);
+		
+	}
+	
+	void compute(LocalDate date, Angle zenith, RowWriter writer) {
+		int N = SunriseSunset.dayOfYear(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+		double cosZenith = SunriseSunset.cos(zenith.degreesValue());
+		
+		//the Sun's position at the approximate time of each event in each
+		//column
+		double [] riseT = new double[columns];
+		double [] riseRA = new double[columns];
+		double [] riseSinDec = new double[columns];
+		double [] riseCosDec = new double[columns];
+		double [] setT = new double[columns];
+		double [] setRA = new double[columns];
+		double [] setSinDec = new double[columns];
+		double [] setCosDec = new double[columns];
+		
+		Utils.parallelFor(columns, 256, (from, to) -> {
+			for (int c=from; c<to; c++) {
+				riseT[c] = SunriseSunset.approximateTime(N, lngHours[c], true);
+				double L = SunriseSunset.trueLongitude(riseT[c]);
+				riseRA[c] = SunriseSunset.rightAscension(L);
+				riseSinDec[c] = SunriseSunset.sinDeclination(L);
+				riseCosDec[c] = SunriseSunset.cosDeclination(riseSinDec[c]);
+				
+				setT[c] = SunriseSunset.approximateTime(N, lngHours[c], false);
+				L = SunriseSunset.trueLongitude(setT[c]);
+				setRA[c] = SunriseSunset.rightAscension(L);
+				setSinDec[c] = SunriseSunset.sinDeclination(L);
+				setCosDec[c] = SunriseSunset.cosDeclination(setSinDec[c]);
+			}
+		});
+		
+		int tiles = (rows + TILE_ROWS - 1) / TILE_ROWS;
+		Utils.parallelFor(tiles, 1, (fromTile, toTile) -> {
+			float [] sunrise = new float[columns];
+			float [] sunset = new float[columns];
+			float [] dayLength = new float[columns];
+			
+			for (int r=fromTile*TILE_ROWS; r<Math.min(rows, toTile*TILE_ROWS); r++) {
+				double sinLatitude = sinLatitudes[r];
+				double cosLatitude = cosLatitudes[r];
+				
+				for (int c=0; c<columns; c++) {
+					double riseCosH = SunriseSunset.cosHourAngle(riseSinDec[c], riseCosDec[c], sinLatitude, cosLatitude, cosZenith);
+					double rise = SunriseSunset.eventTime(riseT[c], riseRA[c], riseCosH, lngHours[c], true);
+					double setCosH = SunriseSunset.cosHourAngle(setSinDec[c], setCosDec[c], sinLatitude, cosLatitude, cosZenith);
+					double set = SunriseSunset.eventTime(setT[c], setRA[c], setCosH, lngHours[c], false);
+					
+					double length;
+					if (!Double.isNaN(rise) && !Double.isNaN(set)) {
+						length = set - rise;
+						if (length < 0)
+							length += 24;
+					}
+					else {
+						//never rises (cos H > 1) or never sets
+						double cosH = Double.isNaN(rise) ? riseCosH : setCosH;
+						length = (cosH > 1) ? 0 : 24;
+					}
+					
+					sunrise[c] = (float)rise;
+					sunset[c] = (float)set;
+					dayLength[c] = (float)length;
+				}
+				
+				writer.write(r, sunrise, sunset, dayLength);
+			}
+		});
+	}
+	
+}
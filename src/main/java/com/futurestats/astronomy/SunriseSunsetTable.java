@@ -0,0 +1,221 @@
+package com.futurestats.astronomy;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+import com.futurestats.astronomy.algos.meeus.Utils;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * Calculates sunrise and sunset for many locations over a range of dates
+ * (for example a year of tables for thousands of stores).  This gives the
+ * same times as SunriseSunsetCalculator, but:
+ * 
+ *  - the longitude in hours and the sine and cosine of the latitude are
+ *    computed once per location and the day of the year once per date
+ *  - results are written into primitive arrays as hours UT and/or epoch
+ *    seconds without creating any objects
+ *  - time zone offsets come from a ZoneOffsetTable shared by all locations
+ *    in the same zone
+ *  - locations are processed in parallel
+ * 
+ * Results are stored with one row per location: the value for location j
+ * on day i is at index (j * days + i).  ZonedDateTimes can be created
+ * afterwards for the values that are needed with toZonedDateTime().
+ * 
+ * The constructor copies the zone column and keeps only arrays it computed
+ * itself, so changes to the caller's arrays do not affect a table and one
+ * table can be used by several threads.
+ */
+public class SunriseSunsetTable {
+	
+	/**
+	 * Epoch second written for days on which the sun does not rise or set.
+	 */
+	public static final long NO_EVENT = Long.MIN_VALUE;
+	
+	static final long NANOS_PER_SECOND = 1000000000L;
+	
+	private final ZoneId [] zoneIds;
+	private final double [] lngHours;
+	private final double [] sinLatitudes;
+	private final double [] cosLatitudes;
+	
+	/**
+	 * Creates a table for the given latitudes and (East) longitudes in
+	 * degrees.  'zoneIds' gives the time zone of each location.  It may be
+	 * null if only hours UT will be computed.
+	 */
+	public SunriseSunsetTable(double [] latitudes, double [] longitudes, ZoneId [] zoneIds) {
+		if (latitudes.length != longitudes.length)
+			throw new IllegalArgumentException("Column lengths differ: " + latitudes.length + " != " + longitudes.length);
+		if (zoneIds != null && zoneIds.length != latitudes.length)
+			throw new IllegalArgumentException("Column lengths differ: " + latitudes.length + " != " + zoneIds.length);
+		
+		int size = latitudes.length;
+		this.zoneIds = (zoneIds != null) ? zoneIds.clone() : null;
+		this.lngHours = new double[size];
+		this.sinLatitudes = new double[size];
+		this.cosLatitudes = new double[size];
+		for (int j=0; j<size; j++) {
+			lngHours[j] = longitudes[j] / 15;
+			sinLatitudes[j] = SunriseSunset.sin(latitudes[j]);
+			cosLatitudes[j] = SunriseSunset.cos(latitudes[j]);
+		}
+	}
+	
+	public SunriseSunsetTable(GeoContext [] contexts) {
+		this(column(contexts, true), column(contexts, false), zoneIds(contexts));
+	}
+	
+	static double [] column(GeoContext [] contexts, boolean latitude) {
+		double [] values = new double[contexts.length];
+		for (int j=0; j<contexts.length; j++) {
+			values[j] = latitude ?
+					contexts[j].getLatitude().degreesValue() :
+					contexts[j].getLongitude().degreesValue();
+		}
+		return values;
+	}
+	
+	static ZoneId [] zoneIds(GeoContext [] contexts) {
+		ZoneId [] zoneIds = new ZoneId[contexts.length];
+		for (int j=0; j<contexts.length; j++)
+			zoneIds[j] = contexts[j].getZoneId();
+		return zoneIds;
+	}
+	
+	/**
+	 * Returns the number of locations.
+	 */
+	public int size() {
+		return lngHours.length;
+	}
+	
+	/**
+	 * Calculates sunrise and sunset for every location on 'days'
+	 * consecutive dates starting at 'start'.  Times are written as hours UT
+	 * (NaN when the sun does not rise or set, as in
+	 * SunriseSunset.calculate()) and/or as epoch seconds (NO_EVENT when it
+	 * does not).  Any of the output arrays may be null if it isn't needed.
+	 * Each output array must hold (size() * days) values.
+	 * 
+	 * The epoch seconds are those of the ZonedDateTime returned by
+	 * SunriseSunsetCalculator (rounded down to the second), which is always
+	 * on the local date the time was calculated for.
+	 */
+	public void compute(LocalDate start, int days, Angle zenith,
+			double [] sunriseHours, double [] sunsetHours,
+			long [] sunriseSeconds, long [] sunsetSeconds) {
+		
+		boolean seconds = (sunriseSeconds != null || sunsetSeconds != null);
+		if (seconds && zoneIds == null)
+			throw new IllegalStateException("Time zones are required to compute epoch seconds");
+		
+		double cosZenith = SunriseSunset.cos(zenith.degreesValue());
+		
+		//per date terms
+		int [] dayOfYear = new int[days];
+		LocalDate date = start;
+		for (int i=0; i<days; i++) {
+			dayOfYear[i] = SunriseSunset.dayOfYear(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+			date = date.plusDays(1);
+		}
+		
+		//zone offsets shared by all locations in the same zone
+		long startDay = start.toEpochDay();
+		ZoneOffsetTable [] offsets = seconds ? offsetTables(startDay, days) : null;
+		
+		Utils.parallelFor(size(), Math.max(1, Utils.PARALLEL_CHUNK_SIZE / Math.max(1, days)), (from, to) -> {
+			for (int j=from; j<to; j++) {
+				double lngHour = lngHours[j];
+				double sinLatitude = sinLatitudes[j];
+				double cosLatitude = cosLatitudes[j];
+				int offset = j * days;
+				
+				for (int i=0; i<days; i++) {
+					double sunrise = SunriseSunset.calculate(dayOfYear[i], lngHour,
+							sinLatitude, cosLatitude, cosZenith, true);
+					double sunset = SunriseSunset.calculate(dayOfYear[i], lngHour,
+							sinLatitude, cosLatitude, cosZenith, false);
+					
+					if (sunriseHours != null)
+						sunriseHours[offset + i] = sunrise;
+					if (sunsetHours != null)
+						sunsetHours[offset + i] = sunset;
+					if (sunriseSeconds != null)
+						sunriseSeconds[offset + i] = toEpochSecond(startDay + i, sunrise, offsets[j]);
+					if (sunsetSeconds != null)
+						sunsetSeconds[offset + i] = toEpochSecond(startDay + i, sunset, offsets[j]);
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Same as compute(LocalDate, int, Angle, double[], double[], long[],
+	 * long[]) using the official zenith and only computing hours UT.
+	 */
+	public void computeHours(LocalDate start, int days, double [] sunriseHours, double [] sunsetHours) {
+		compute(start, days, SunriseSunsetCalculator.OFFICIAL_ZENITH, sunriseHours, sunsetHours, null, null);
+	}
+	
+	/**
+	 * Same as compute(LocalDate, int, Angle, double[], double[], long[],
+	 * long[]) using the official zenith and only computing epoch seconds.
+	 */
+	public void computeEpochSeconds(LocalDate start, int days, long [] sunriseSeconds, long [] sunsetSeconds) {
+		compute(start, days, SunriseSunsetCalculator.OFFICIAL_ZENITH, null, null, sunriseSeconds, sunsetSeconds);
+	}
+	
+	/**
+	 * Converts a time computed for the given location and date (in hours
+	 * UT) to the ZonedDateTime that SunriseSunsetCalculator would return.
+	 * Returns null if the time is NaN.
+	 */
+	public ZonedDateTime toZonedDateTime(int location, LocalDate date, double UT) {
+		if (Double.isNaN(UT))
+			return null;
+		return SunriseSunsetCalculator.toZonedDateTime(date, UT, zoneIds[location]);
+	}
+	
+	/**
+	 * Returns the ZoneOffsetTable of each location's zone, with one table
+	 * per distinct zone.
+	 */
+	ZoneOffsetTable [] offsetTables(long startDay, int days) {
+		long fromSecond = (startDay - 2) * 86400L;
+		long toSecond = (startDay + days + 2) * 86400L;
+		
+		Map<ZoneId, ZoneOffsetTable> tables = new HashMap<>();
+		ZoneOffsetTable [] offsets = new ZoneOffsetTable[zoneIds.length];
+		for (int j=0; j<zoneIds.length; j++)
+			offsets[j] = tables.computeIfAbsent(zoneIds[j], zone -> new ZoneOffsetTable(zone, fromSecond, toSecond));
+		return offsets;
+	}
+	
+	/**
+	 * Converts hours UT on the given date to an epoch second the same way
+	 * SunriseSunsetCalculator.toZonedDateTime() does, including moving
+	 * times that fall on another local date back to the given date.
+	 */
+	static long toEpochSecond(long epochDay, double UT, ZoneOffsetTable offsets) {
+		if (Double.isNaN(UT))
+			return NO_EVENT;
+		
+		long nanos = (long)(UT * 3600000000000L);
+		long utc = epochDay * 86400L + nanos / NANOS_PER_SECOND;
+		long local = utc + offsets.offsetAt(utc);
+		if (Math.floorDiv(local, 86400L) == epochDay)
+			return utc;
+		
+		//same local time on the requested date
+		long forced = epochDay * 86400L + Math.floorMod(local, 86400L);
+		return forced - offsets.offsetForLocal(forced);
+	}
+	
+}
@@ -0,0 +1,34 @@
+package com.futurestats.astronomy;
+
+/**
+ * Time scales that a JulianDate can be expressed in.  See TimeScaleConverter
+ * for conversions between them.
+ */
+public enum TimeScale {
+	
+	/**
+	 * Coordinated Universal Time.  This is civil time (and what Instant and
+	 * ZonedDateTime use).  It is kept within 0.9 seconds of UT1 by inserting
+	 * leap seconds.
+	 */
+	UTC,
+	
+	/**
+	 * International Atomic Time.  TAI - UTC is a whole number of seconds
+	 * since 1972 (37 seconds since 2017).
+	 */
+	TAI,
+	
+	/**
+	 * Terrestrial (Dynamical) Time.  TT = TAI + 32.184 seconds.  This is the
+	 * time scale of a Julian Ephemeris Day (JDE).
+	 */
+	TT,
+	
+	/**
+	 * Universal Time, following the rotation of the Earth.  This is derived
+	 * from TT using Delta-T (TT - UT1).
+	 */
+	UT1
+	
+}
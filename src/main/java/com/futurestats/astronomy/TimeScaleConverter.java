@@ -0,0 +1,265 @@
+package com.futurestats.astronomy;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.futurestats.astronomy.algos.meeus.Utils;
+
+/**
+ * Converts Julian Dates between the UTC, TAI, TT, and UT1 time scales.
+ * 
+ * UTC, TAI, and TT are related by an embedded table of leap seconds, which
+ * is searched with a binary search (O(log n) with fewer than 30 entries).
+ * UT1 is derived from TT using a DeltaTTable.  Before 1972 UTC did not use
+ * whole leap seconds, so UTC is treated as UT1 for those dates (this is
+ * continuous with the first entry of the table to within 0.1 seconds).
+ * 
+ * Julian Dates that fall inside a leap second cannot be represented in UTC
+ * and are converted as if they belonged to the following second.
+ * 
+ * The scalar and array methods do not allocate any objects.  The leap
+ * second tables are filled by the static initializer and the only instance
+ * field is a final DeltaTTable, so DEFAULT can be used from any thread.
+ */
+public class TimeScaleConverter {
+
+	/**
+	 * TT - TAI in seconds.
+	 */
+	public static final double TT_MINUS_TAI = 32.184;
+	
+	static final long TT_MINUS_TAI_NANOS = 32184000000L;
+	
+	/**
+	 * Dates (UTC) on which TAI - UTC changed to the matching value in 
+	 * LEAP_OFFSETS.  Source: IERS Bulletin C.  Add new leap seconds here.
+	 */
+	static final int [][] LEAP_DATES = new int [][] {
+		{1972, 1}, {1972, 7}, {1973, 1}, {1974, 1}, {1975, 1}, {1976, 1},
+		{1977, 1}, {1978, 1}, {1979, 1}, {1980, 1}, {1981, 7}, {1982, 7},
+		{1983, 7}, {1985, 7}, {1988, 1}, {1990, 1}, {1991, 1}, {1992, 7},
+		{1993, 7}, {1994, 7}, {1996, 1}, {1997, 7}, {1999, 1}, {2006, 1},
+		{2009, 1}, {2012, 7}, {2015, 7}, {2017, 1}
+	};
+	
+	static final int [] LEAP_OFFSETS = new int [] {
+		10, 11, 12, 13, 14, 15,
+		16, 17, 18, 19, 20, 21,
+		22, 23, 24, 25, 26, 27,
+		28, 29, 30, 31, 32, 33,
+		34, 35, 36, 37
+	};
+	
+	//the leap second table in the different forms needed for lookups:
+	static final long [] LEAP_EPOCH_SECONDS = new long[LEAP_DATES.length];	//UTC
+	static final double [] LEAP_JD_UTC = new double[LEAP_DATES.length];
+	static final double [] LEAP_JD_TAI = new double[LEAP_DATES.length];
+	
+	static {
+		for (int i=0; i<LEAP_DATES.length; i++) {
+			long epochDay = LocalDate.of(LEAP_DATES[i][0], LEAP_DATES[i][1], 1).toEpochDay();
+			LEAP_EPOCH_SECONDS[i] = epochDay * Utils.SECONDS_PER_DAY;
+			LEAP_JD_UTC[i] = PreciseJulianDate.valueOfEpochSecond(LEAP_EPOCH_SECONDS[i], 0);
+			LEAP_JD_TAI[i] = LEAP_JD_UTC[i] + LEAP_OFFSETS[i] / (double)Utils.SECONDS_PER_DAY;
+		}
+	}
+	
+	public static final TimeScaleConverter DEFAULT = new TimeScaleConverter(DeltaTTable.DEFAULT);
+	
+	private final DeltaTTable deltaT;
+	
+	public TimeScaleConverter(DeltaTTable deltaT) {
+		this.deltaT = deltaT;
+	}
+	
+	public DeltaTTable getDeltaTTable() {
+		return deltaT;
+	}
+	
+	// --- Offsets ------------------------------------------------------------
+	
+	/**
+	 * Returns TAI - UTC in seconds for a Julian Date in UTC.
+	 */
+	public double taiMinusUtc(double jdUtc) {
+		int index = floorIndex(LEAP_JD_UTC, jdUtc);
+		if (index < 0)
+			return deltaT.offsetFor(jdUtc) - TT_MINUS_TAI;
+		
+		return LEAP_OFFSETS[index];
+	}
+	
+	/**
+	 * Returns TAI - UTC in seconds for the given number of seconds since
+	 * 1970-01-01T00:00:00Z (UTC).
+	 */
+	public double taiMinusUtc(long epochSecond) {
+		int index = floorIndex(LEAP_EPOCH_SECONDS, epochSecond);
+		if (index < 0)
+			return deltaT.offsetFor(PreciseJulianDate.valueOfEpochSecond(epochSecond, 0)) - TT_MINUS_TAI;
+		
+		return LEAP_OFFSETS[index];
+	}
+	
+	/**
+	 * Returns TAI - UTC in seconds for a Julian Date in TAI.
+	 */
+	double taiMinusUtcForTai(double jdTai) {
+		int index = floorIndex(LEAP_JD_TAI, jdTai);
+		if (index < 0) {
+			double jdTT = jdTai + TT_MINUS_TAI / Utils.SECONDS_PER_DAY;
+			return deltaT.offsetFor(deltaT.toUniversalTime(jdTT)) - TT_MINUS_TAI;
+		}
+		
+		return LEAP_OFFSETS[index];
+	}
+	
+	// --- Conversions --------------------------------------------------------
+	
+	/**
+	 * Converts a Julian Date from one time scale to another.
+	 */
+	public double convert(double jd, TimeScale from, TimeScale to) {
+		if (from == to)
+			return jd;
+		
+		return fromTT(toTT(jd, from), to);
+	}
+	
+	public JulianDate convert(JulianDate jd, TimeScale from, TimeScale to) {
+		return JulianDate.of(convert(jd.value(), from, to));
+	}
+	
+	/**
+	 * Converts each Julian Date in 'jd' from one time scale to another and
+	 * writes the results to 'out'.  The arrays may be the same.
+	 */
+	public void convert(double [] jd, double [] out, TimeScale from, TimeScale to) {
+		convert(jd, out, from, to, 0, jd.length);
+	}
+	public void convert(double [] jd, double [] out, TimeScale from, TimeScale to, int start, int end) {
+		for (int i=start; i<end; i++)
+			out[i] = convert(jd[i], from, to);
+	}
+	public void convertParallel(double [] jd, double [] out, TimeScale from, TimeScale to) {
+		Utils.parallelFor(jd.length, (start, end) -> convert(jd, out, from, to, start, end));
+	}
+	
+	/**
+	 * Returns the Julian Date in the given time scale for the given number
+	 * of seconds and nanoseconds since 1970-01-01T00:00:00Z (UTC).
+	 */
+	public double julianDateOf(long epochSecond, int nano, TimeScale to) {
+		return PreciseJulianDate.value(
+				PreciseJulianDate.dayFromEpochSecond(epochSecond), 
+				PreciseJulianDate.nanoOfDayFromEpochSecond(epochSecond, nano)
+					+ offsetNanosFromUtc(epochSecond, to));
+	}
+	
+	/**
+	 * Returns the offset (target - UTC) in nanoseconds at the given UTC
+	 * epoch second.  This is exact for TAI and TT after 1972.
+	 */
+	public long offsetNanosFromUtc(long epochSecond, TimeScale to) {
+		switch(to) {
+		case UTC:
+			return 0;
+		case TAI:
+			return Math.round(taiMinusUtc(epochSecond) * PreciseJulianDate.NANOS_PER_SECOND);
+		case TT:
+			return Math.round(taiMinusUtc(epochSecond) * PreciseJulianDate.NANOS_PER_SECOND) 
+					+ TT_MINUS_TAI_NANOS;
+		case UT1:
+			double jdUtc = PreciseJulianDate.valueOfEpochSecond(epochSecond, 0);
+			double jdTT = toTT(jdUtc, TimeScale.UTC);
+			return Math.round((fromTT(jdTT, TimeScale.UT1) - jdUtc) * PreciseJulianDate.NANOS_PER_DAY);
+		}
+		
+		throw new IllegalArgumentException("Unsupported time scale: " + to);
+	}
+	
+	/**
+	 * Converts the Instant (UTC) to a JulianDate in the given time scale.
+	 */
+	public JulianDate toJulianDate(Instant instant, TimeScale to) {
+		return JulianDate.of(julianDateOf(instant.getEpochSecond(), instant.getNano(), to));
+	}
+	
+	/**
+	 * Converts the Instant (UTC) to a PreciseJulianDate in the given time
+	 * scale.  The offset is applied in whole nanoseconds.
+	 */
+	public PreciseJulianDate toPreciseJulianDate(Instant instant, TimeScale to) {
+		return PreciseJulianDate.from(instant).plusNanos(offsetNanosFromUtc(instant.getEpochSecond(), to));
+	}
+	
+	/**
+	 * Converts a JulianDate in the given time scale to an Instant (UTC).
+	 */
+	public Instant toInstant(JulianDate jd, TimeScale from) {
+		return JulianDate.of(convert(jd.value(), from, TimeScale.UTC)).toPreciseJulianDate().toInstant();
+	}
+	
+	// --- Helpers ------------------------------------------------------------
+	
+	double toTT(double jd, TimeScale from) {
+		switch(from) {
+		case TT:
+			return jd;
+		case TAI:
+			return jd + TT_MINUS_TAI / Utils.SECONDS_PER_DAY;
+		case UTC:
+			return jd + (taiMinusUtc(jd) + TT_MINUS_TAI) / Utils.SECONDS_PER_DAY;
+		case UT1:
+			return deltaT.toDynamicalTime(jd);
+		}
+		
+		throw new IllegalArgumentException("Unsupported time scale: " + from);
+	}
+	
+	double fromTT(double jdTT, TimeScale to) {
+		switch(to) {
+		case TT:
+			return jdTT;
+		case TAI:
+			return jdTT - TT_MINUS_TAI / Utils.SECONDS_PER_DAY;
+		case UTC:
+			double jdTai = jdTT - TT_MINUS_TAI / Utils.SECONDS_PER_DAY;
+			return jdTai - taiMinusUtcForTai(jdTai) / Utils.SECONDS_PER_DAY;
+		case UT1:
+			return deltaT.toUniversalTime(jdTT);
+		}
+		
+		throw new IllegalArgumentException("Unsupported time scale: " + to);
+	}
+	
+	/**
+	 * Returns the index of the last element that is less than or equal to
+	 * x, or -1 if x comes before all elements.
+	 */
+	static int floorIndex(double [] sorted, double x) {
+		int low = 0;
+		int high = sorted.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= x)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		return high;
+	}
+	static int floorIndex(long [] sorted, long x) {
+		int low = 0;
+		int high = sorted.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= x)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		return high;
+	}
+	
+}
@@ -0,0 +1,165 @@
+package com.futurestats.astronomy;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * Calculates the times at which the Sun crosses several zeniths on the
+ * same day, such as sunrise/sunset and the start/end of civil, nautical
+ * and astronomical twilight.  This gives the same times as a
+ * SunriseSunsetCalculator for each zenith, but the Sun's position (steps
+ * 1 - 6 of the algorithm) is only computed once for the morning and once
+ * for the evening and shared by all zeniths.
+ * 
+ * Times for zenith k are returned at index k (or day * size() + k for a
+ * range of dates) as hours UT, or NaN when the Sun does not reach the
+ * zenith.  With the standard zeniths a day's timeline runs: astronomical,
+ * nautical and civil dawn, sunrise, sunset, civil, nautical and
+ * astronomical dusk.
+ */
+public class TwilightTimeline {
+	
+	private static final Angle [] STANDARD_ZENITHS = {
+		SunriseSunsetCalculator.OFFICIAL_ZENITH,
+		SunriseSunsetCalculator.CIVIL_ZENITH,
+		SunriseSunsetCalculator.NAUTICAL_ZENITH,
+		SunriseSunsetCalculator.ASTRONOMICAL_ZENITH
+	};
+	
+	private final GeoContext context;
+	private final Angle [] zeniths;
+	private final double lngHour;
+	private final double sinLatitude;
+	private final double cosLatitude;
+	private final double [] cosZeniths;
+	
+	public TwilightTimeline(GeoContext context, Angle ... zeniths) {
+		this.context = context;
+		this.zeniths = zeniths.clone();
+		this.lngHour = context.getLongitude().degreesValue() / 15;
+		this.sinLatitude = SunriseSunset.sin(context.getLatitude().degreesValue());
+		this.cosLatitude = SunriseSunset.cos(context.getLatitude().degreesValue());
+		
+		this.cosZeniths = new double[zeniths.length];
+		for (int k=0; k<zeniths.length; k++)
+			cosZeniths[k] = SunriseSunset.cos(zeniths[k].degreesValue());
+	}
+	
+	/**
+	 * Creates a timeline for the official (sunrise/sunset), civil, nautical
+	 * and astronomical zeniths, in that order.
+	 */
+	public TwilightTimeline(GeoContext context) {
+		this(context, STANDARD_ZENITHS);
+	}
+	
+	public GeoContext getContext() {
+		return context;
+	}
+	
+	/**
+	 * Returns the number of zeniths.
+	 */
+	public int size() {
+		return zeniths.length;
+	}
+	public Angle getZenith(int k) {
+		return zeniths[k];
+	}
+	
+	/**
+	 * Calculates the morning (sunrise) and evening (sunset) times for every
+	 * zenith on 'days' consecutive dates starting at 'start'.  Each output
+	 * array must hold (days * size()) values.  Either may be null if it
+	 * isn't needed.
+	 */
+	public void computeHours(LocalDate start, int days, double [] sunrise, double [] sunset) {
+		int size = zeniths.length;
+		double [] dayRise = (sunrise != null) ? new double[size] : null;
+		double [] daySet = (sunset != null) ? new double[size] : null;
+		
+		LocalDate date = start;
+		for (int i=0; i<days; i++) {
+			int N = SunriseSunset.dayOfYear(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+			SunriseSunset.calculate(N, lngHour, sinLatitude, cosLatitude, cosZeniths, dayRise, daySet);
+			
+			if (sunrise != null)
+				System.arraycopy(dayRise, 0, sunrise, i * size, size);
+			if (sunset != null)
+				System.arraycopy(daySet, 0, sunset, i * size, size);
+			date = date.plusDays(1);
+		}
+	}
+	
+	/**
+	 * Same as computeHours(LocalDate, int, double[], double[]) for a single
+	 * date.
+	 */
+	public void computeHours(LocalDate date, double [] sunrise, double [] sunset) {
+		int N = SunriseSunset.dayOfYear(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+		SunriseSunset.calculate(N, lngHour, sinLatitude, cosLatitude, cosZeniths, sunrise, sunset);
+	}
+	
+	/**
+	 * Calculates the timeline for the given date.
+	 */
+	public Day compute(LocalDate date) {
+		double [] sunrise = new double[zeniths.length];
+		double [] sunset = new double[zeniths.length];
+		computeHours(date, sunrise, sunset);
+		return new Day(date, sunrise, sunset);
+	}
+	
+	/**
+	 * The times for one date.  ZonedDateTimes are only created when they
+	 * are requested and are the same as SunriseSunsetCalculator returns.
+	 */
+	public class Day {
+		
+		final LocalDate date;
+		final double [] sunrise;
+		final double [] sunset;
+		
+		Day(LocalDate date, double [] sunrise, double [] sunset) {
+			this.date = date;
+			this.sunrise = sunrise;
+			this.sunset = sunset;
+		}
+		
+		public LocalDate getDate() {
+			return date;
+		}
+		
+		/**
+		 * Returns the morning time (in hours UT) for zenith k.
+		 */
+		public double getSunriseHours(int k) {
+			return sunrise[k];
+		}
+		public double getSunsetHours(int k) {
+			return sunset[k];
+		}
+		
+		/**
+		 * Returns the morning time for zenith k, or null if the Sun does
+		 * not cross it.
+		 */
+		public ZonedDateTime getSunrise(int k) {
+			return toZonedDateTime(sunrise[k]);
+		}
+		public ZonedDateTime getSunset(int k) {
+			return toZonedDateTime(sunset[k]);
+		}
+		
+		ZonedDateTime toZonedDateTime(double UT) {
+			if (Double.isNaN(UT))
+				return null;
+			return SunriseSunsetCalculator.toZonedDateTime(date, UT, context.getZoneId());
+		}
+		
+	}
+	
+}
@@ -0,0 +1,147 @@
+package com.futurestats.astronomy;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Caches the UTC offsets of a time zone over a range of time so that bulk
+ * calculations can convert between UTC and local time with primitive
+ * arithmetic instead of creating a ZonedDateTime for every value.
+ * 
+ * Offsets are looked up with a binary search over the zone's transitions
+ * (typically two per year).  Local times that fall into a gap or overlap
+ * resolve to the same instant as ZonedDateTime.of(): both use the offset
+ * from before the transition.
+ */
+public class ZoneOffsetTable {
+
+	private final ZoneId zoneId;
+	private final long fromEpochSecond;
+	private final long toEpochSecond;
+	
+	/**
+	 * Local epoch seconds for which offsetForLocal() uses the table.  These
+	 * are narrowed by the largest possible offset so that the instant and
+	 * any gap or overlap around it are inside the table's range.
+	 */
+	private final long fromLocalEpochSecond;
+	private final long toLocalEpochSecond;
+	
+	/**
+	 * Epoch seconds (UTC) at which the offset changes.
+	 */
+	private final long [] transitions;
+	
+	/**
+	 * Local epoch seconds at and after which the offset after the matching
+	 * transition is used for local times.
+	 */
+	private final long [] localTransitions;
+	
+	/**
+	 * Offsets in seconds.  offsets[i] applies before transitions[i] and
+	 * offsets[i+1] after it.
+	 */
+	private final int [] offsets;
+	
+	/**
+	 * Creates a table for the instants between fromEpochSecond and
+	 * toEpochSecond.  Instants outside of this range are still answered
+	 * correctly by falling back to the zone rules (which is slower).
+	 */
+	public ZoneOffsetTable(ZoneId zoneId, long fromEpochSecond, long toEpochSecond) {
+		this.zoneId = zoneId;
+		this.fromEpochSecond = fromEpochSecond;
+		this.toEpochSecond = toEpochSecond;
+		this.fromLocalEpochSecond = fromEpochSecond + ZoneOffset.MAX.getTotalSeconds();
+		this.toLocalEpochSecond = toEpochSecond - ZoneOffset.MAX.getTotalSeconds();
+		
+		ZoneRules rules = zoneId.getRules();
+		
+		int count = 0;
+		long [] transitions = new long[8];
+		int [] offsets = new int[9];
+		offsets[0] = rules.getOffset(Instant.ofEpochSecond(fromEpochSecond)).getTotalSeconds();
+		
+		ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(fromEpochSecond));
+		while (transition != null && transition.toEpochSecond() <= toEpochSecond) {
+			if (count == transitions.length) {
+				transitions = Arrays.copyOf(transitions, count * 2);
+				offsets = Arrays.copyOf(offsets, count * 2 + 1);
+			}
+			
+			transitions[count] = transition.toEpochSecond();
+			offsets[count+1] = transition.getOffsetAfter().getTotalSeconds();
+			count++;
+			
+			transition = rules.nextTransition(transition.getInstant());
+		}
+		
+		this.transitions = Arrays.copyOf(transitions, count);
+		this.offsets = Arrays.copyOf(offsets, count + 1);
+		
+		this.localTransitions = new long[count];
+		for (int i=0; i<count; i++)
+			localTransitions[i] = transitions[i] + Math.max(offsets[i], offsets[i+1]);
+	}
+	
+	public ZoneId getZoneId() {
+		return zoneId;
+	}
+	
+	/**
+	 * Returns the UTC offset in seconds at the given epoch second.
+	 */
+	public int offsetAt(long epochSecond) {
+		if (epochSecond < fromEpochSecond || epochSecond > toEpochSecond)
+			return zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+		
+		return offsets[floorIndex(transitions, epochSecond) + 1];
+	}
+	
+	/**
+	 * Returns the UTC offset in seconds to use for a local date-time given
+	 * as seconds since 1970-01-01T00:00 (local).  The UTC epoch second is
+	 * localEpochSecond - offset, which is the instant ZonedDateTime.of()
+	 * picks:
+	 * 
+	 *  - in an overlap (clocks go back) this is the offset before the
+	 *    transition, so the earlier of the two instants is used
+	 *  - in a gap (clocks go forward) this is also the offset before the
+	 *    transition.  ZonedDateTime.of() moves the local time forward by the
+	 *    length of the gap and reports the offset after the transition,
+	 *    which gives the same instant.
+	 */
+	public int offsetForLocal(long localEpochSecond) {
+		if (localEpochSecond < fromLocalEpochSecond || localEpochSecond > toLocalEpochSecond) {
+			LocalDateTime local = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+			return ZonedDateTime.of(local, zoneId).getOffset().getTotalSeconds();
+		}
+		
+		return offsets[floorIndex(localTransitions, localEpochSecond) + 1];
+	}
+	
+	/**
+	 * Returns the index of the last element that is less than or equal to
+	 * x, or -1 if x comes before all elements.
+	 */
+	static int floorIndex(long [] sorted, long x) {
+		int low = 0;
+		int high = sorted.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] <= x)
+				low = mid + 1;
+			else
+				high = mid - 1;
+		}
+		return high;
+	}
+	
+}
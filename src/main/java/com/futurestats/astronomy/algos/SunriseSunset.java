@@ -28,21 +28,85 @@ public class SunriseSunset {
 	public static double calculate(int year, int month, int day, 
 			double latitude, double longitude, double zenith, 
 			boolean sunrise) {
-
-		//1. first calculate the day of the year
+		
+		return calculate(dayOfYear(year, month, day), longitude / 15, 
+				sin(latitude), cos(latitude), cos(zenith), sunrise);
+	}
+	
+	/**
+	 * Step 1: calculates the day of the year (N).
+	 */
+	public static int dayOfYear(int year, int month, int day) {
 		int N1 = (int)Math.floor(275 * month / 9.0);
 		int N2 = (int)Math.floor((month + 9) / 12.0);
 		int N3 = (1 + (int)Math.floor((year - 4 * Math.floor(year / 4) + 2) / 3));
-		int N = N1 - (N2 * N3) + day - 30;
+		return N1 - (N2 * N3) + day - 30;
+	}
+	
+	/**
+	 * Steps 2 - 9 given the day of the year, the longitude in hours
+	 * (longitude / 15) and the sine and cosine of the latitude and zenith.
+	 * These only depend on the location, so callers that compute many days
+	 * or both events can compute them once.  The result is identical to
+	 * calculate(int, int, int, double, double, double, boolean).
+	 */
+	public static double calculate(int N, double lngHour, 
+			double sinLatitude, double cosLatitude, double cosZenith, 
+			boolean sunrise) {
 		
-		//2. convert the longitude to hour value and calculate an approximate time
-
-		double lngHour = longitude / 15;
+		double t = approximateTime(N, lngHour, sunrise);
+		double L = trueLongitude(t);
+		double sinDec = sinDeclination(L);
+		
+		return eventTime(t, rightAscension(L), sinDec, cosDeclination(sinDec), 
+				lngHour, sinLatitude, cosLatitude, cosZenith, sunrise);
+	}
+	
+	/**
+	 * Calculates sunrise and sunset for several zeniths at once.  The times
+	 * for cosZeniths[k] are written to sunrise[k] and sunset[k] and are 
+	 * identical to calculate(int, double, double, double, double, boolean).
+	 * Steps 1 - 6 (the Sun's position) do not depend on the zenith, so they
+	 * are computed once for sunrise and once for sunset and only steps 
+	 * 7 - 9 are repeated for each zenith.
+	 */
+	public static void calculate(int N, double lngHour, 
+			double sinLatitude, double cosLatitude, double [] cosZeniths, 
+			double [] sunrise, double [] sunset) {
 		
-		double t = sunrise ? 
+		for (int i=0; i<2; i++) {
+			boolean rising = (i == 0);
+			double [] out = rising ? sunrise : sunset;
+			if (out == null)
+				continue;
+			
+			double t = approximateTime(N, lngHour, rising);
+			double L = trueLongitude(t);
+			double RA = rightAscension(L);
+			double sinDec = sinDeclination(L);
+			double cosDec = cosDeclination(sinDec);
+			
+			for (int k=0; k<cosZeniths.length; k++)
+				out[k] = eventTime(t, RA, sinDec, cosDec, lngHour, sinLatitude, cosLatitude, cosZeniths[k], rising);
+		}
+	}
+	
+	/**
+	 * Step 2: calculates an approximate time (in days since the start of
+	 * the year) from the longitude hour value.
+	 */
+	public static double approximateTime(int N, double lngHour, boolean sunrise) {
+		return sunrise ? 
 				N + ((6 - lngHour) / 24) : 
 		        N + ((18 - lngHour) / 24);
-
+	}
+	
+	/**
+	 * Steps 3 & 4: calculates the Sun's true longitude (in degrees) at the
+	 * approximate time.
+	 */
+	public static double trueLongitude(double t) {
+		
 		//3. calculate the Sun's mean anomaly
 		
 		double M = (0.9856 * t) - 3.289;
@@ -53,8 +117,15 @@ public class SunriseSunset {
 				(0.020 * sin(2*M)) 
 				+ 282.634;
 	
-		L = normalize(L);
-
+		return normalize(L);
+	}
+	
+	/**
+	 * Step 5: calculates the Sun's right ascension (in hours) from its true
+	 * longitude.
+	 */
+	public static double rightAscension(double L) {
+		
 		//5a. calculate the Sun's right ascension
 		
 		double RA = atan(0.91764 * tan(L));
@@ -68,18 +139,48 @@ public class SunriseSunset {
 
 		//5c. right ascension value needs to be converted into hours
 
-		RA = RA / 15;
-
-		//6. calculate the Sun's declination
-
-		double sinDec = 0.39782 * sin(L);
-		double cosDec = cos(asin(sinDec));
-
-		//7a. calculate the Sun's local hour angle
-		
-		double cosH = (cos(zenith) - (sinDec * sin(latitude))) / 
-				(cosDec * cos(latitude));
+		return RA / 15;
+	}
+	
+	/**
+	 * Step 6: calculates the sine of the Sun's declination from its true
+	 * longitude.
+	 */
+	public static double sinDeclination(double L) {
+		return 0.39782 * sin(L);
+	}
+	public static double cosDeclination(double sinDec) {
+		return cos(asin(sinDec));
+	}
+	
+	/**
+	 * Steps 7 - 9: calculates the time of rising or setting (in hours UT)
+	 * from the Sun's position at the approximate time 't'.  Returns NaN if
+	 * the Sun does not reach the zenith on this date.
+	 */
+	public static double eventTime(double t, double RA, double sinDec, double cosDec, 
+			double lngHour, double sinLatitude, double cosLatitude, double cosZenith, 
+			boolean sunrise) {
 		
+		double cosH = cosHourAngle(sinDec, cosDec, sinLatitude, cosLatitude, cosZenith);
+		return eventTime(t, RA, cosH, lngHour, sunrise);
+	}
+	
+	/**
+	 * Step 7a: calculates the cosine of the Sun's local hour angle.  A value
+	 * greater than 1 means the Sun never rises above the zenith on this
+	 * date; less than -1 means it never sets below it.
+	 */
+	public static double cosHourAngle(double sinDec, double cosDec, 
+			double sinLatitude, double cosLatitude, double cosZenith) {
+		return (cosZenith - (sinDec * sinLatitude)) / 
+				(cosDec * cosLatitude);
+	}
+	
+	/**
+	 * Steps 7b - 9 given the cosine of the local hour angle.
+	 */
+	public static double eventTime(double t, double RA, double cosH, double lngHour, boolean sunrise) {
 		
 		//the sun never rises on this location (on the specified date)
 		if (cosH >  1)
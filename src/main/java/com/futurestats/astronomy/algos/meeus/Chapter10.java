@@ -83,8 +83,48 @@ public class Chapter10 {
 		return 0;	//not stated, but implied near zero or negative from 1600-2000
 	}
 	
-	//NOTE: we don't really need these equations since we use the
-	//      lookup tables for these time periods.
+	/**
+	 * Estimates the difference between Dynamic Time (TD) and Universal
+	 * Time (UT) for a decimal year (such as 1987.25).  The result is in
+	 * seconds.
+	 * 
+	 * This is a continuous version of estimateDynamicTimeOffsetForYear().
+	 * The same formulas are used outside of 1600-2000 and the lookup table
+	 * is linearly interpolated between its nodes.  From 1800-1899 the
+	 * better polynomial (max error 0.9 seconds) is used instead.
+	 */
+	public static double estimateDynamicTimeOffset(double year) {
+		
+		if (year < 948) {
+			double t = (year - 2000) / 100.0;
+			return 2177 + 497*t + 44.1*t*t;			//10.1
+		}
+		if (year <= 1600 || year >= 2000) {
+			double t = (year - 2000) / 100.0;
+			double dt = 102 + 102 * t + 25.3*t*t;	//10.2
+			if (year >= 2000 & year <= 2100)
+				dt += 0.37 * (year - 2100);
+			return dt;
+		}
+		
+		if (year < 1620)
+			return 98.8 + (121 - 98.8) * (year - 1600) / 20.0;
+		
+		if (year >= 1800 && year < 1900)
+			return DELTA_T_BETTER_1800_1899.value((year - 1900) / 100.0);
+		
+		//1620-2000: interpolate lookup table (nodes every 2 years)
+		double x = (year - 1620) / 2.0;
+		int index = Math.min((int)x, LOOKUP_1620_BY2.length - 2);
+		double f = x - index;
+		return LOOKUP_1620_BY2[index] + f * (LOOKUP_1620_BY2[index+1] - LOOKUP_1620_BY2[index]);
+	}
+	
+	//NOTE: The polynomials below take theta = (year - 1900) / 100.  Only
+	//      the 1800-1899 one is used (by estimateDynamicTimeOffset) since
+	//      the lookup table is more accurate for the other periods.  The
+	//      1900-1997 coefficients do not reproduce the lookup table and
+	//      should not be used until they are checked against the book.
 	
 	/**
 	 * Valid from 1800-1997 with maximum error of 2.3 seconds
@@ -2,6 +2,26 @@ package com.futurestats.astronomy.algos.meeus;
 
 public class Chapter12 {
 
+	/**
+	 * Default maximum error (in degrees) of the values produced by the
+	 * incremental gmst(double, double, int, double[]) function relative to
+	 * formula 12.4 evaluated exactly at every grid time.  1e-9 degrees is less than
+	 * 0.1 microseconds of time.
+	 */
+	public static final double GMST_STEP_MAX_ERROR = 1e-9;
+	
+	/**
+	 * Second derivative of formula 12.4 in degrees per day squared (from the
+	 * T^2 term, ignoring the much smaller T^3 term).
+	 */
+	static final double GMST_ACCELERATION = 2 * 0.000387933 / (36525.0 * 36525.0);
+	
+	/**
+	 * Number of values the incremental gmst() function produces by repeated
+	 * addition before recomputing the running value from its anchor.
+	 */
+	static final int RESET_INTERVAL = 512;
+	
 	/**
 	 * Calculates Greenwich Mean Sidereal Time for the given Julian
 	 * Date.  The result is returned in degrees.
@@ -9,7 +29,16 @@ public class Chapter12 {
 	 * Formula 12.4
 	 */
 	public static double gmst(double jd) {
-		double jd_adjust = jd - 2451545.0;
+		return gmstForDaysSinceJ2000(jd - 2451545.0);
+	}
+	
+	/**
+	 * Formula 12.4 given the number of days since J2000.  A Julian Date 
+	 * near the present is only precise to about 40 microseconds, which is 
+	 * 1.7e-7 degrees of GMST, so grids of dates are computed as an offset
+	 * from J2000 instead.
+	 */
+	public static double gmstForDaysSinceJ2000(double jd_adjust) {
 		double t = jd_adjust / 36525;
 		double t2 = t * t;
 		double deg = 280.46061837 + 
@@ -19,4 +48,88 @@ public class Chapter12 {
 		return Utils.normalizeDegrees(deg);
 	}
 	
+	/**
+	 * Formula 12.4 for (days + fraction) days since J2000.  360 * days is a
+	 * whole number of turns, so only 0.98564736629 * days is added.  This
+	 * keeps the large linear term from rounding off about 5e-10 degrees
+	 * near the present.
+	 */
+	static double gmstForDaysSinceJ2000(long days, double fraction) {
+		double t = (days + fraction) / 36525;
+		double t2 = t * t;
+		double deg = 280.46061837 + 
+				(0.98564736629 * days) + (360.98564736629 * fraction) +
+				(.000387933 * t2) - (t2 / 38710000 * t);
+		
+		return Utils.normalizeDegrees(deg);
+	}
+	
+	/**
+	 * Returns the rate at which GMST advances on the given Julian Date in
+	 * degrees per day.  This is the derivative of formula 12.4.
+	 */
+	public static double gmstRate(double jd) {
+		double t = (jd - 2451545.0) / 36525;
+		return 360.98564736629 + 
+				(2 * .000387933 * t / 36525) - (3 * t * t / 38710000 / 36525);
+	}
+	
+	/**
+	 * Fills 'gmst' with Greenwich Mean Sidereal Time (in degrees, 0 to 360)
+	 * for 'count' Julian Dates starting at jd0 and spaced 'step' days apart.
+	 * 
+	 * Instead of evaluating formula 12.4 for every value, this advances from
+	 * an exactly computed anchor at the (near constant) sidereal rate.  The
+	 * anchor is recomputed often enough to keep the error below maxError 
+	 * degrees.  Between anchors the error is dominated by the T^2 term, so
+	 * the anchor spacing is sqrt(maxError / acceleration) days (about 
+	 * six weeks for the default maximum error).
+	 * 
+	 * NOTE: the error is measured against formula 12.4 evaluated at the
+	 * exact grid times.  Calling gmst(jd0 + k * step) is less precise than
+	 * this since the Julian Date itself gets rounded (see 
+	 * gmstForDaysSinceJ2000).
+	 */
+	public static void gmst(double jd0, double step, int count, double maxError, 
+			double [] gmst, int offset) {
+		
+		//half of the error budget goes to the T^2 term, half to rounding
+		int block = (int)Math.max(1, Math.sqrt(maxError / GMST_ACCELERATION) / Math.abs(step));
+		double days0 = jd0 - 2451545.0;
+		long wholeDays0 = (long)Math.floor(days0);
+		double fraction0 = days0 - wholeDays0;
+		
+		for (int start=0; start<count; start+=block) {
+			int end = Math.min(count, start + block);
+			double days = days0 + start * step;
+			double anchor = gmstForDaysSinceJ2000(wholeDays0, fraction0 + start * step);
+			double increment = (gmstRate(days + 2451545.0) * step) % 360;
+			
+			//add the increment to a running value, resetting it from the
+			//anchor every few hundred values so rounding cannot accumulate
+			for (int k=start; k<end; k+=RESET_INTERVAL) {
+				double deg = anchor + (k - start) * increment;
+				deg -= 360 * Math.floor(deg * (1.0 / 360));
+				
+				int resetEnd = Math.min(end, k + RESET_INTERVAL);
+				for (int i=k; i<resetEnd; i++) {
+					gmst[offset + i] = deg;
+					deg += increment;
+					if (deg >= 360)
+						deg -= 360;
+					else if (deg < 0)
+						deg += 360;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Same as gmst(double, double, int, double, double[], int) using 
+	 * GMST_STEP_MAX_ERROR and starting at the beginning of the array.
+	 */
+	public static void gmst(double jd0, double step, int count, double [] gmst) {
+		gmst(jd0, step, count, GMST_STEP_MAX_ERROR, gmst, 0);
+	}
+	
 }
@@ -3,6 +3,7 @@ package com.futurestats.astronomy.algos.meeus;
 import com.futurestats.astronomy.algos.meeus.Structs.EquatorialCoordinate;
 import com.futurestats.astronomy.algos.meeus.Structs.HorizontalCoordinate;
 import com.futurestats.astronomy.algos.meeus.Structs.EclipticalCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.GalacticCoordinate;
 
 public class Chapter13 {
 
@@ -20,6 +21,29 @@ public class Chapter13 {
 	
 	public static final double EPSILON_J2000 = 23.4392911;
 	
+	// North galactic pole and galactic longitude of the north celestial 
+	// pole for the B1950.0 equinox (used by formulas 13.7 - 13.10)
+	public static final double GALACTIC_POLE_RA_B1950 = 192.25;
+	public static final double GALACTIC_POLE_DEC_B1950 = 27.4;
+	public static final double CELESTIAL_POLE_L_B1950 = 123;
+	
+	// Rotation from J2000 (ICRS) equatorial to galactic unit vectors.  The
+	// rows are the galactic x (center), y (l = 90) and z (north pole) axes.
+	// (Hipparcos Catalogue, Vol. 1, Section 1.5.3)
+	private static final double [] GALACTIC_MATRIX_J2000 = {
+		-0.0548755604162154, -0.8734370902348850, -0.4838350155487132,
+		 0.4941094278755837, -0.4448296299600112,  0.7469822444972189,
+		-0.8676661490190047, -0.1980763734312015,  0.4559837761750669
+	};
+	
+	// Galactic to J2000 equatorial (the transpose, since it is a rotation)
+	private static final double [] GALACTIC_INVERSE_J2000 = transpose(GALACTIC_MATRIX_J2000);
+	
+	private static final double [] GALACTIC_MATRIX_B1950 = galacticMatrix(
+			galacticToEquatorial(new GalacticCoordinate(0, 0)),
+			galacticToEquatorial(new GalacticCoordinate(90, 0)),
+			new EquatorialCoordinate(GALACTIC_POLE_RA_B1950, GALACTIC_POLE_DEC_B1950));
+	
 	/**
 	 * Convert equatorial coordinates to ecliptic.  (Formula 13.1 & 13.2)
 	 * 
@@ -69,6 +93,119 @@ public class Chapter13 {
 		return new EquatorialCoordinate(alpha, delta);
 	}
 	
+	/**
+	 * Batch version of equatorialToEcliptic() for columns of right 
+	 * ascension and declination (in degrees).  The ecliptical longitude and
+	 * latitude are written to the same index of 'lambda' and 'beta'.  The
+	 * output arrays may be the same as the input arrays.
+	 * 
+	 * The sine and cosine of epsilon are computed once for the batch.  The
+	 * tangent of delta is folded into the atan2() arguments and the latitude
+	 * is found with atan2() instead of asin().  Each element then costs four
+	 * sines/cosines and two atan2() calls, and no objects are created.  The
+	 * results match the scalar method to within 1e-9 degrees.
+	 */
+	public static void equatorialToEcliptic(double [] alpha, double [] delta, double epsilon,
+			double [] lambda, double [] beta) {
+		equatorialToEcliptic(alpha, delta, epsilon, lambda, beta, 0, alpha.length);
+	}
+	
+	/**
+	 * Batch version of equatorialToEcliptic() for the elements in the range
+	 * [from, to).
+	 */
+	public static void equatorialToEcliptic(double [] alpha, double [] delta, double epsilon,
+			double [] lambda, double [] beta, int from, int to) {
+		
+		double sin_eps = TrigDegrees.sin(epsilon);
+		double cos_eps = TrigDegrees.cos(epsilon);
+		
+		TrigBackend trig = TrigDegrees.getBackend();
+		double [] sincos = new double[2];
+		
+		for (int i=from; i<to; i++) {
+			trig.sincos(alpha[i], sincos);
+			double sin_alpha = sincos[0];
+			double cos_alpha = sincos[1];
+			trig.sincos(delta[i], sincos);
+			double sin_delta = sincos[0];
+			double cos_delta = sincos[1];
+			
+			//formula 13.1 with both arguments multiplied by cos(delta) gives
+			//the components of cos(beta) so 13.2 can use atan2 (which is 
+			//much faster than asin)
+			double x = cos_alpha * cos_delta;
+			double y = (sin_alpha * cos_delta * cos_eps) + (sin_delta * sin_eps);
+			double sin_beta = (sin_delta * cos_eps) - (cos_delta * sin_eps * sin_alpha);
+			
+			lambda[i] = trig.atan2(y, x);
+			beta[i] = trig.atan2(sin_beta, Math.sqrt(x * x + y * y));
+		}
+	}
+	
+	/**
+	 * Parallel version of equatorialToEcliptic(double[], double[], double,
+	 * double[], double[]).  Large arrays are split into chunks that are
+	 * converted on the common fork/join pool.
+	 */
+	public static void equatorialToEclipticParallel(double [] alpha, double [] delta, double epsilon,
+			double [] lambda, double [] beta) {
+		Utils.parallelFor(alpha.length, (from, to) -> equatorialToEcliptic(alpha, delta, epsilon, lambda, beta, from, to));
+	}
+	
+	/**
+	 * Batch version of eclipticToEquatorial() for columns of ecliptical
+	 * longitude and latitude (in degrees).  The right ascension and 
+	 * declination are written to the same index of 'alpha' and 'delta'.
+	 * The output arrays may be the same as the input arrays.
+	 */
+	public static void eclipticToEquatorial(double [] lambda, double [] beta, double epsilon,
+			double [] alpha, double [] delta) {
+		eclipticToEquatorial(lambda, beta, epsilon, alpha, delta, 0, lambda.length);
+	}
+	
+	/**
+	 * Batch version of eclipticToEquatorial() for the elements in the range
+	 * [from, to).
+	 */
+	public static void eclipticToEquatorial(double [] lambda, double [] beta, double epsilon,
+			double [] alpha, double [] delta, int from, int to) {
+		
+		double sin_eps = TrigDegrees.sin(epsilon);
+		double cos_eps = TrigDegrees.cos(epsilon);
+		
+		TrigBackend trig = TrigDegrees.getBackend();
+		double [] sincos = new double[2];
+		
+		for (int i=from; i<to; i++) {
+			trig.sincos(lambda[i], sincos);
+			double sin_lambda = sincos[0];
+			double cos_lambda = sincos[1];
+			trig.sincos(beta[i], sincos);
+			double sin_beta = sincos[0];
+			double cos_beta = sincos[1];
+			
+			//formula 13.3 with both arguments multiplied by cos(beta) (see
+			//equatorialToEcliptic)
+			double x = cos_lambda * cos_beta;
+			double y = (sin_lambda * cos_beta * cos_eps) - (sin_beta * sin_eps);
+			double sin_delta = (sin_beta * cos_eps) + (cos_beta * sin_eps * sin_lambda);
+			
+			alpha[i] = trig.atan2(y, x);
+			delta[i] = trig.atan2(sin_delta, Math.sqrt(x * x + y * y));
+		}
+	}
+	
+	/**
+	 * Parallel version of eclipticToEquatorial(double[], double[], double,
+	 * double[], double[]).  Large arrays are split into chunks that are
+	 * converted on the common fork/join pool.
+	 */
+	public static void eclipticToEquatorialParallel(double [] lambda, double [] beta, double epsilon,
+			double [] alpha, double [] delta) {
+		Utils.parallelFor(lambda.length, (from, to) -> eclipticToEquatorial(lambda, beta, epsilon, alpha, delta, from, to));
+	}
+	
 	/**
 	 * Converts equatorial coordinates to horizontal.  This requires the local
 	 * local sidereal time (theta) and geographical latitude (psi) of the
@@ -122,4 +259,187 @@ public class Chapter13 {
 		return new EquatorialCoordinate(alpha, delta);
 	}
 	
+	/**
+	 * Converts equatorial coordinates referred to the B1950.0 equinox to 
+	 * galactic coordinates.  (Formula 13.7 & 13.8)
+	 * 
+	 * Coordinates for J2000 should use equatorialToGalacticJ2000() instead
+	 * (or be precessed to B1950 first as Meeus suggests).
+	 */
+	public static GalacticCoordinate equatorialToGalactic(EquatorialCoordinate coord) {
+		
+		double diff = GALACTIC_POLE_RA_B1950 - coord.rightAscension;
+		double sin_diff = TrigDegrees.sin(diff);
+		double cos_diff = TrigDegrees.cos(diff);
+		double sin_delta = TrigDegrees.sin(coord.declination);
+		double cos_delta = TrigDegrees.cos(coord.declination);
+		double tan_delta = TrigDegrees.tan(coord.declination);
+		double sin_pole = TrigDegrees.sin(GALACTIC_POLE_DEC_B1950);
+		double cos_pole = TrigDegrees.cos(GALACTIC_POLE_DEC_B1950);
+		
+		//double tan_x = sin_diff / ((cos_diff * sin_pole) - (tan_delta * cos_pole));
+		//double sin_b = (sin_delta * sin_pole) + (cos_delta * cos_pole * cos_diff);
+		
+		double x = TrigDegrees.atan2(sin_diff, (cos_diff * sin_pole) - (tan_delta * cos_pole));
+		double l = Utils.normalizeDegrees(CELESTIAL_POLE_L_B1950 + 180 - x);	//303 - x
+		double b = TrigDegrees.asin((sin_delta * sin_pole) + (cos_delta * cos_pole * cos_diff));
+		
+		return new GalacticCoordinate(l, b);
+	}
+	
+	/**
+	 * Converts galactic coordinates to equatorial coordinates referred to 
+	 * the B1950.0 equinox.  (Formula 13.9 & 13.10)
+	 */
+	public static EquatorialCoordinate galacticToEquatorial(GalacticCoordinate coord) {
+		
+		double diff = coord.longitude - CELESTIAL_POLE_L_B1950;
+		double sin_diff = TrigDegrees.sin(diff);
+		double cos_diff = TrigDegrees.cos(diff);
+		double sin_b = TrigDegrees.sin(coord.latitude);
+		double cos_b = TrigDegrees.cos(coord.latitude);
+		double tan_b = TrigDegrees.tan(coord.latitude);
+		double sin_pole = TrigDegrees.sin(GALACTIC_POLE_DEC_B1950);
+		double cos_pole = TrigDegrees.cos(GALACTIC_POLE_DEC_B1950);
+		
+		//double tan_y = sin_diff / ((cos_diff * sin_pole) - (tan_b * cos_pole));
+		//double sin_delta = (sin_b * sin_pole) + (cos_b * cos_pole * cos_diff);
+		
+		double y = TrigDegrees.atan2(sin_diff, (cos_diff * sin_pole) - (tan_b * cos_pole));
+		double alpha = Utils.normalizeDegrees(y + GALACTIC_POLE_RA_B1950 - 180);	//y + 12.25
+		double delta = TrigDegrees.asin((sin_b * sin_pole) + (cos_b * cos_pole * cos_diff));
+		
+		return new EquatorialCoordinate(alpha, delta);
+	}
+	
+	/**
+	 * Converts J2000 (ICRS) equatorial coordinates to galactic coordinates
+	 * with the IAU 1958 galactic frame as realized by the Hipparcos 
+	 * Catalogue.  The galactic longitude is between 0 and 360 degrees.
+	 */
+	public static GalacticCoordinate equatorialToGalacticJ2000(EquatorialCoordinate coord) {
+		EquatorialCoordinate g = Chapter21.rotate(GALACTIC_MATRIX_J2000, coord.rightAscension, coord.declination);
+		return new GalacticCoordinate(g.rightAscension, g.declination);
+	}
+	
+	/**
+	 * Converts galactic coordinates to J2000 (ICRS) equatorial coordinates.
+	 * The right ascension is between 0 and 360 degrees.
+	 */
+	public static EquatorialCoordinate galacticToEquatorialJ2000(GalacticCoordinate coord) {
+		return Chapter21.rotate(GALACTIC_INVERSE_J2000, coord.longitude, coord.latitude);
+	}
+	
+	/**
+	 * Returns the rotation matrix (9 values in row-major order) that converts
+	 * unit vectors of J2000 equatorial coordinates to galactic coordinates.
+	 * The transpose of this matrix converts back again.  A new array is 
+	 * returned on each call.
+	 */
+	public static double [] galacticMatrixJ2000() {
+		return GALACTIC_MATRIX_J2000.clone();
+	}
+	
+	/**
+	 * Returns the rotation matrix that converts unit vectors of B1950.0 
+	 * equatorial coordinates to galactic coordinates.  The matrix is built
+	 * from the pole and node of formulas 13.7 - 13.10 so it gives the same
+	 * results as equatorialToGalactic().
+	 */
+	public static double [] galacticMatrixB1950() {
+		return GALACTIC_MATRIX_B1950.clone();
+	}
+	
+	/**
+	 * Batch conversion from equatorial to galactic coordinates for columns
+	 * of right ascension and declination (in degrees).  'matrix' comes from
+	 * galacticMatrixJ2000() or galacticMatrixB1950() and selects the 
+	 * equinox of the input.  The galactic longitude and latitude are written
+	 * to the same index of 'l' and 'b', which may be the same as the input
+	 * arrays.
+	 * 
+	 * The rotation is fixed so each element costs one unit vector, one
+	 * matrix multiply and two atan2() calls, and no objects are created.
+	 */
+	public static void equatorialToGalactic(double [] matrix, double [] alpha, double [] delta,
+			double [] l, double [] b) {
+		equatorialToGalactic(matrix, alpha, delta, l, b, 0, alpha.length);
+	}
+	
+	/**
+	 * Batch version of equatorialToGalactic() for the elements in the range
+	 * [from, to).
+	 */
+	public static void equatorialToGalactic(double [] matrix, double [] alpha, double [] delta,
+			double [] l, double [] b, int from, int to) {
+		Chapter21.adjust(matrix, alpha, delta, l, b, from, to);
+	}
+	
+	/**
+	 * Parallel version of equatorialToGalactic(double[], double[], double[],
+	 * double[], double[]).  Large arrays are split into chunks that are
+	 * converted on the common fork/join pool.
+	 */
+	public static void equatorialToGalacticParallel(double [] matrix, double [] alpha, double [] delta,
+			double [] l, double [] b) {
+		Utils.parallelFor(alpha.length, (from, to) -> equatorialToGalactic(matrix, alpha, delta, l, b, from, to));
+	}
+	
+	/**
+	 * Batch conversion from galactic to equatorial coordinates.  'matrix' is
+	 * the same equatorial-to-galactic matrix that equatorialToGalactic() 
+	 * takes; its transpose is applied without creating a new matrix.  The
+	 * right ascension and declination are written to the same index of
+	 * 'alpha' and 'delta'.
+	 */
+	public static void galacticToEquatorial(double [] matrix, double [] l, double [] b,
+			double [] alpha, double [] delta) {
+		galacticToEquatorial(matrix, l, b, alpha, delta, 0, l.length);
+	}
+	
+	/**
+	 * Batch version of galacticToEquatorial() for the elements in the range
+	 * [from, to).
+	 */
+	public static void galacticToEquatorial(double [] matrix, double [] l, double [] b,
+			double [] alpha, double [] delta, int from, int to) {
+		Chapter21.adjustTransposed(matrix, l, b, alpha, delta, from, to);
+	}
+	
+	/**
+	 * Parallel version of galacticToEquatorial(double[], double[], double[],
+	 * double[], double[]).  Large arrays are split into chunks that are
+	 * converted on the common fork/join pool.
+	 */
+	public static void galacticToEquatorialParallel(double [] matrix, double [] l, double [] b,
+			double [] alpha, double [] delta) {
+		Utils.parallelFor(l.length, (from, to) -> Chapter21.adjustTransposed(matrix, l, b, alpha, delta, from, to));
+	}
+	
+	/**
+	 * Builds an equatorial-to-galactic matrix from the equatorial positions
+	 * of the galactic center, the point l = 90, b = 0 and the north galactic
+	 * pole.
+	 */
+	static double [] galacticMatrix(EquatorialCoordinate center, EquatorialCoordinate l90, 
+			EquatorialCoordinate pole) {
+		double [] m = new double [9];
+		EquatorialCoordinate [] axes = {center, l90, pole};
+		for (int row=0; row<3; row++) {
+			double cos_delta = TrigDegrees.cos(axes[row].declination);
+			m[row * 3]     = cos_delta * TrigDegrees.cos(axes[row].rightAscension);
+			m[row * 3 + 1] = cos_delta * TrigDegrees.sin(axes[row].rightAscension);
+			m[row * 3 + 2] = TrigDegrees.sin(axes[row].declination);
+		}
+		return m;
+	}
+	
+	static double [] transpose(double [] m) {
+		return new double [] {
+			m[0], m[3], m[6],
+			m[1], m[4], m[7],
+			m[2], m[5], m[8]
+		};
+	}
+	
 }
@@ -0,0 +1,171 @@
+package com.futurestats.astronomy.algos.meeus;
+
+import com.futurestats.astronomy.algos.meeus.Structs.EquatorialCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.RiseTransitSet;
+
+public class Chapter15 {
+	
+	// alpha  = right ascension
+	// delta  = declination
+	// psi    = observer's latitude
+	// L      = observer's longitude (NOTE: positive East here, as in the rest
+	//          of this library, while the book measures it positive West)
+	// theta0 = sidereal time at Greenwich at the reference time
+	// h0     = "standard" altitude: the geometric altitude of the center of
+	//          the body at the time of apparent rising or setting
+	// H0     = hour angle of rising/setting
+	// m      = time of an event as a fraction of a day after the reference
+	
+	/**
+	 * Standard altitude for stars and planets (accounts for refraction).
+	 */
+	public static final double STANDARD_ALTITUDE_STARS = -0.5667;
+	
+	/**
+	 * Standard altitude for the Sun (refraction and semidiameter).
+	 */
+	public static final double STANDARD_ALTITUDE_SUN = -0.8333;
+	
+	/**
+	 * Rate at which sidereal time advances in degrees per day of mean
+	 * solar time (the linear term of formula 12.4).
+	 */
+	public static final double SIDEREAL_RATE = 360.98564736629;
+	
+	/**
+	 * Values of RiseTransitSet.status.  Objects that are circumpolar stay
+	 * above the standard altitude all day.  Objects that never rise stay
+	 * below it.  Both still transit.
+	 */
+	public static final int RISES_AND_SETS = 0;
+	public static final int CIRCUMPOLAR = 1;
+	public static final int NEVER_RISES = -1;
+	
+	/**
+	 * Returns the cosine of the hour angle at which an object with
+	 * declination delta crosses the altitude h0.  A value greater than 1
+	 * means the object never rises above h0; less than -1 means it never
+	 * sets.  (Formula 15.1)
+	 */
+	public static double cosHourAngle(double latitude, double delta, double h0) {
+		return (TrigDegrees.sin(h0) - TrigDegrees.sin(latitude) * TrigDegrees.sin(delta)) /
+				(TrigDegrees.cos(latitude) * TrigDegrees.cos(delta));
+	}
+	
+	/**
+	 * Calculates the times of transit, rising and setting of a fixed object
+	 * (such as a star) given the sidereal time at Greenwich at the reference
+	 * time (theta0, usually 0h UT of the day) and the observer's latitude
+	 * and (East) longitude.  Times are returned as fractions of a day after
+	 * the reference time (formula 15.2).
+	 * 
+	 * The book first divides the hour angles by 360 and then applies a
+	 * correction for the sidereal time at m (plus interpolation of the
+	 * coordinates, which is only needed for moving bodies).  For a fixed
+	 * object the correction has a closed form: dividing by the sidereal
+	 * rate instead of 360 gives the converged result directly.  Each event
+	 * is therefore the first one after the reference time and m is in
+	 * [0, 0.9973).  (An event in the last four minutes of the day occurs
+	 * again 0.9973 days after the first.)
+	 */
+	public static RiseTransitSet riseTransitSet(EquatorialCoordinate coord,
+			double theta0, double latitude, double longitude, double h0) {
+		
+		double transit = eventTime(coord.rightAscension - longitude - theta0);
+		
+		double cos_H0 = cosHourAngle(latitude, coord.declination, h0);
+		if (cos_H0 < -1)
+			return new RiseTransitSet(transit, Double.NaN, Double.NaN, CIRCUMPOLAR);
+		if (!(cos_H0 <= 1))
+			return new RiseTransitSet(transit, Double.NaN, Double.NaN, NEVER_RISES);
+		
+		double H0 = TrigDegrees.acos(cos_H0);
+		double rise = eventTime(coord.rightAscension - longitude - theta0 - H0);
+		double set = eventTime(coord.rightAscension - longitude - theta0 + H0);
+		return new RiseTransitSet(transit, rise, set, RISES_AND_SETS);
+	}
+	
+	/**
+	 * Converts the sidereal angle from the reference time to an event into
+	 * the fraction of a day until it next occurs.
+	 */
+	static double eventTime(double deg) {
+		return (deg - 360 * Math.floor(deg * (1.0 / 360))) / SIDEREAL_RATE;
+	}
+	
+	/**
+	 * Batch version of riseTransitSet() for columns of right ascension and
+	 * declination (in degrees), for example a catalog of targets for one
+	 * night.  The times are written to the same index of 'transit', 'rise'
+	 * and 'set' and the status (RISES_AND_SETS, CIRCUMPOLAR or NEVER_RISES)
+	 * to 'status'.  Any of the output arrays may be null if it isn't needed.
+	 * 
+	 * The sines and cosines of the latitude and standard altitude are
+	 * computed once for the batch.  Each element then costs one sine/cosine
+	 * pair and one acos() (for objects that rise and set), and no objects
+	 * are created.
+	 */
+	public static void riseTransitSet(double [] alpha, double [] delta,
+			double theta0, double latitude, double longitude, double h0,
+			double [] transit, double [] rise, double [] set, int [] status) {
+		riseTransitSet(alpha, delta, theta0, latitude, longitude, h0, transit, rise, set, status, 0, alpha.length);
+	}
+	
+	/**
+	 * Batch version of riseTransitSet() for the elements in the range
+	 * [from, to).
+	 */
+	public static void riseTransitSet(double [] alpha, double [] delta,
+			double theta0, double latitude, double longitude, double h0,
+			double [] transit, double [] rise, double [] set, int [] status,
+			int from, int to) {
+		
+		double sin_psi = TrigDegrees.sin(latitude);
+		double cos_psi = TrigDegrees.cos(latitude);
+		double sin_h0 = TrigDegrees.sin(h0);
+		double offset = longitude + theta0;
+		
+		TrigBackend trig = TrigDegrees.getBackend();
+		double [] sincos = new double[2];
+		
+		for (int i=from; i<to; i++) {
+			double H = alpha[i] - offset;
+			if (transit != null)
+				transit[i] = eventTime(H);
+			
+			trig.sincos(delta[i], sincos);
+			double cos_H0 = (sin_h0 - sin_psi * sincos[0]) / (cos_psi * sincos[1]);
+			
+			if (cos_H0 >= -1 && cos_H0 <= 1) {
+				double H0 = trig.acos(cos_H0);
+				if (rise != null)
+					rise[i] = eventTime(H - H0);
+				if (set != null)
+					set[i] = eventTime(H + H0);
+				if (status != null)
+					status[i] = RISES_AND_SETS;
+			}
+			else {
+				if (rise != null)
+					rise[i] = Double.NaN;
+				if (set != null)
+					set[i] = Double.NaN;
+				if (status != null)
+					status[i] = (cos_H0 < -1) ? CIRCUMPOLAR : NEVER_RISES;
+			}
+		}
+	}
+	
+	/**
+	 * Parallel version of riseTransitSet(double[], double[], double, double,
+	 * double, double, double[], double[], double[], int[]).  Large arrays
+	 * are split into chunks that are computed on the common fork/join pool.
+	 */
+	public static void riseTransitSetParallel(double [] alpha, double [] delta,
+			double theta0, double latitude, double longitude, double h0,
+			double [] transit, double [] rise, double [] set, int [] status) {
+		Utils.parallelFor(alpha.length, (from, to) -> riseTransitSet(
+				alpha, delta, theta0, latitude, longitude, h0, transit, rise, set, status, from, to));
+	}
+	
+}
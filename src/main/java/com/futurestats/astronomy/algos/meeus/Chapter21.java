@@ -13,22 +13,9 @@ public class Chapter21 {
 		
 		double T = (jd0 - 2451545.0) / 36525;
 		double t = (jd - jd0) / 36525;
-		
-		double T2 = T * T;
-		double t2 = t * t;
-		double t3 = t2 * t;
-		
-		double x = 2306.2181 + 1.39656 * T - 0.000139 * T2;
-		double y = 2004.3109 - 0.85330 * T - 0.000217 * T2;
-		
-		double zeta  = x*t + (0.30188 - 0.000344*T)*t2 + 0.017998*t3;
-		double z     = x*t + (1.09468 + 0.000066*T)*t2 + 0.018203*t3;
-		double theta = y*t - (0.42665 + 0.000217*T)*t2 - 0.041833*t3;
-		
-		//convert arcseconds to degrees:
-		zeta /= 3600;
-		z /= 3600;
-		theta /= 3600;
+		double zeta  = zeta(T, t);
+		double z     = z(T, t);
+		double theta = theta(T, t);
 		
 		double alpha_plus_zeta = coord.rightAscension + zeta;
 		
@@ -49,4 +36,186 @@ public class Chapter21 {
 				);
 	}
 	
+	/**
+	 * Returns the precession angle zeta (in degrees) for converting
+	 * coordinates from jd0 to jd, given T = (jd0 - J2000) and t = (jd - jd0)
+	 * in Julian centuries.  (Formula 21.3)
+	 */
+	static double zeta(double T, double t) {
+		double t2 = t * t;
+		double x = 2306.2181 + 1.39656 * T - 0.000139 * (T * T);
+		return (x*t + (0.30188 - 0.000344*T)*t2 + 0.017998*(t2 * t)) / 3600;
+	}
+	
+	/**
+	 * Precession angle z in degrees (see zeta()).
+	 */
+	static double z(double T, double t) {
+		double t2 = t * t;
+		double x = 2306.2181 + 1.39656 * T - 0.000139 * (T * T);
+		return (x*t + (1.09468 + 0.000066*T)*t2 + 0.018203*(t2 * t)) / 3600;
+	}
+	
+	/**
+	 * Precession angle theta in degrees (see zeta()).
+	 */
+	static double theta(double T, double t) {
+		double t2 = t * t;
+		double y = 2004.3109 - 0.85330 * T - 0.000217 * (T * T);
+		return (y*t - (0.42665 + 0.000217*T)*t2 - 0.041833*(t2 * t)) / 3600;
+	}
+	
+	/**
+	 * Returns the rotation matrix that converts unit vectors of equatorial
+	 * coordinates from jd0 to jd.  This is the same rotation that adjust()
+	 * performs (by zeta, theta and then z) but the trigonometry only 
+	 * depends on the two dates so it can be done once for a whole catalog.
+	 * The matrix is returned as 9 values in row-major order.
+	 */
+	public static double [] precessionMatrix(double jd0, double jd) {
+		double T = (jd0 - 2451545.0) / 36525;
+		double t = (jd - jd0) / 36525;
+		double zeta  = zeta(T, t);
+		double z     = z(T, t);
+		double theta = theta(T, t);
+		
+		double sin_zeta  = TrigDegrees.sin(zeta);
+		double cos_zeta  = TrigDegrees.cos(zeta);
+		double sin_z     = TrigDegrees.sin(z);
+		double cos_z     = TrigDegrees.cos(z);
+		double sin_theta = TrigDegrees.sin(theta);
+		double cos_theta = TrigDegrees.cos(theta);
+		
+		return new double [] {
+			 cos_zeta * cos_theta * cos_z - sin_zeta * sin_z,
+			-sin_zeta * cos_theta * cos_z - cos_zeta * sin_z,
+			-sin_theta * cos_z,
+			 cos_zeta * cos_theta * sin_z + sin_zeta * cos_z,
+			-sin_zeta * cos_theta * sin_z + cos_zeta * cos_z,
+			-sin_theta * sin_z,
+			 cos_zeta * sin_theta,
+			-sin_zeta * sin_theta,
+			 cos_theta
+		};
+	}
+	
+	/**
+	 * Rotates the coordinates with a matrix from precessionMatrix().  The
+	 * right ascension of the result is in [0, 360) degrees.  This gives the
+	 * same values as the batch version.
+	 */
+	public static EquatorialCoordinate adjust(EquatorialCoordinate coord, double [] matrix) {
+		return rotate(matrix, coord.rightAscension, coord.declination);
+	}
+	
+	/**
+	 * Rotates the spherical coordinates (alpha, delta) in degrees with a
+	 * row-major rotation matrix.
+	 */
+	static EquatorialCoordinate rotate(double [] matrix, double alpha, double delta) {
+		TrigBackend trig = TrigDegrees.getBackend();
+		double z = trig.sin(delta);
+		double cos_delta = trig.cos(delta);
+		
+		//unit vector
+		double x = cos_delta * trig.cos(alpha);
+		double y = cos_delta * trig.sin(alpha);
+		
+		double x2 = matrix[0] * x + matrix[1] * y + matrix[2] * z;
+		double y2 = matrix[3] * x + matrix[4] * y + matrix[5] * z;
+		double z2 = matrix[6] * x + matrix[7] * y + matrix[8] * z;
+		
+		return new EquatorialCoordinate(
+				rightAscension(trig.atan2(y2, x2)),
+				trig.atan2(z2, Math.sqrt(x2 * x2 + y2 * y2)));
+	}
+	
+	/**
+	 * Moves an angle from atan2() (-180 to 180 degrees) into [0, 360).  A
+	 * tiny negative angle would round to 360 when 360 is added, so it
+	 * becomes 0 instead.
+	 */
+	static double rightAscension(double alpha) {
+		if (alpha >= 0)
+			return alpha;
+		
+		alpha += 360;
+		return (alpha < 360) ? alpha : 0;
+	}
+	
+	/**
+	 * Batch version of adjust() that rotates columns of right ascension and
+	 * declination (in degrees) with a matrix from precessionMatrix().  The
+	 * results are written to the same index of 'raOut' and 'decOut', which
+	 * may be the same as the input arrays.
+	 * 
+	 * Nothing here is specific to precession: any row-major rotation matrix
+	 * between two spherical frames works (Chapter13 uses it for galactic
+	 * coordinates).
+	 */
+	public static void adjust(double [] matrix, double [] ra, double [] dec, double [] raOut, double [] decOut) {
+		adjust(matrix, ra, dec, raOut, decOut, 0, ra.length);
+	}
+	
+	/**
+	 * Batch version of adjust() for the elements in the range [from, to).
+	 */
+	public static void adjust(double [] matrix, double [] ra, double [] dec, double [] raOut, double [] decOut,
+			int from, int to) {
+		rotate(matrix, false, ra, dec, raOut, decOut, from, to);
+	}
+	
+	/**
+	 * Same as adjust(double[], double[], double[], double[], double[], int,
+	 * int) with the transpose (inverse) of the matrix, without creating it.
+	 */
+	static void adjustTransposed(double [] matrix, double [] ra, double [] dec, double [] raOut, double [] decOut,
+			int from, int to) {
+		rotate(matrix, true, ra, dec, raOut, decOut, from, to);
+	}
+	
+	private static void rotate(double [] matrix, boolean transpose,
+			double [] ra, double [] dec, double [] raOut, double [] decOut, int from, int to) {
+		
+		double m00 = matrix[0];
+		double m01 = transpose ? matrix[3] : matrix[1];
+		double m02 = transpose ? matrix[6] : matrix[2];
+		double m10 = transpose ? matrix[1] : matrix[3];
+		double m11 = matrix[4];
+		double m12 = transpose ? matrix[7] : matrix[5];
+		double m20 = transpose ? matrix[2] : matrix[6];
+		double m21 = transpose ? matrix[5] : matrix[7];
+		double m22 = matrix[8];
+		
+		TrigBackend trig = TrigDegrees.getBackend();
+		double [] sincos = new double[2];
+		
+		for (int i=from; i<to; i++) {
+			trig.sincos(dec[i], sincos);
+			double z = sincos[0];
+			double cos_delta = sincos[1];
+			trig.sincos(ra[i], sincos);
+			
+			//unit vector
+			double x = cos_delta * sincos[1];
+			double y = cos_delta * sincos[0];
+			
+			double x2 = m00 * x + m01 * y + m02 * z;
+			double y2 = m10 * x + m11 * y + m12 * z;
+			double z2 = m20 * x + m21 * y + m22 * z;
+			
+			raOut[i] = rightAscension(trig.atan2(y2, x2));
+			decOut[i] = trig.atan2(z2, Math.sqrt(x2 * x2 + y2 * y2));
+		}
+	}
+	
+	/**
+	 * Parallel version of adjust(double[], double[], double[], double[],
+	 * double[]).  Large arrays are split into chunks that are rotated on 
+	 * the common fork/join pool.
+	 */
+	public static void adjustParallel(double [] matrix, double [] ra, double [] dec, double [] raOut, double [] decOut) {
+		Utils.parallelFor(ra.length, (from, to) -> adjust(matrix, ra, dec, raOut, decOut, from, to));
+	}
+	
 }
@@ -65,27 +65,127 @@ public class Chapter22 {
 	}
 	
 	/**
-	 * Calculates the nutation of the ecliptic.
+	 * Table 22.A: periodic terms for the nutation in longitude (delta psi)
+	 * and obliquity (delta epsilon).  Each row has the multiples of D, M,
+	 * M', F and omega followed by the sine coefficient and its change per
+	 * century (for delta psi) and the cosine coefficient and its change per
+	 * century (for delta epsilon).  Coefficients are in 0.0001 seconds.
 	 * 
-	 * TODO: implement the better equation (the crazy long one).  Right now
-	 * we just use the approximate one.
+	 * These are the 63 terms Meeus keeps from the 106 term IAU 1980 theory.
+	 * The terms left out are all smaller than 0.0003".
+	 */
+	static final double [][] NUTATION_TERMS = {
+		{ 0,  0,  0,  0,  1, -171996, -174.2, 92025,  8.9},
+		{-2,  0,  0,  2,  2,  -13187,   -1.6,  5736, -3.1},
+		{ 0,  0,  0,  2,  2,   -2274,   -0.2,   977, -0.5},
+		{ 0,  0,  0,  0,  2,    2062,    0.2,  -895,  0.5},
+		{ 0,  1,  0,  0,  0,    1426,   -3.4,    54, -0.1},
+		{ 0,  0,  1,  0,  0,     712,    0.1,    -7,  0},
+		{-2,  1,  0,  2,  2,    -517,    1.2,   224, -0.6},
+		{ 0,  0,  0,  2,  1,    -386,   -0.4,   200,  0},
+		{ 0,  0,  1,  2,  2,    -301,    0,     129, -0.1},
+		{-2, -1,  0,  2,  2,     217,   -0.5,   -95,  0.3},
+		{-2,  0,  1,  0,  0,    -158,    0,       0,  0},
+		{-2,  0,  0,  2,  1,     129,    0.1,   -70,  0},
+		{ 0,  0, -1,  2,  2,     123,    0,     -53,  0},
+		{ 2,  0,  0,  0,  0,      63,    0,       0,  0},
+		{ 0,  0,  1,  0,  1,      63,    0.1,   -33,  0},
+		{ 2,  0, -1,  2,  2,     -59,    0,      26,  0},
+		{ 0,  0, -1,  0,  1,     -58,   -0.1,    32,  0},
+		{ 0,  0,  1,  2,  1,     -51,    0,      27,  0},
+		{-2,  0,  2,  0,  0,      48,    0,       0,  0},
+		{ 0,  0, -2,  2,  1,      46,    0,     -24,  0},
+		{ 2,  0,  0,  2,  2,     -38,    0,      16,  0},
+		{ 0,  0,  2,  2,  2,     -31,    0,      13,  0},
+		{ 0,  0,  2,  0,  0,      29,    0,       0,  0},
+		{-2,  0,  1,  2,  2,      29,    0,     -12,  0},
+		{ 0,  0,  0,  2,  0,      26,    0,       0,  0},
+		{-2,  0,  0,  2,  0,     -22,    0,       0,  0},
+		{ 0,  0, -1,  2,  1,      21,    0,     -10,  0},
+		{ 0,  2,  0,  0,  0,      17,   -0.1,     0,  0},
+		{ 2,  0, -1,  0,  1,      16,    0,      -8,  0},
+		{-2,  2,  0,  2,  2,     -16,    0.1,     7,  0},
+		{ 0,  1,  0,  0,  1,     -15,    0,       9,  0},
+		{-2,  0,  1,  0,  1,     -13,    0,       7,  0},
+		{ 0, -1,  0,  0,  1,     -12,    0,       6,  0},
+		{ 0,  0,  2, -2,  0,      11,    0,       0,  0},
+		{ 2,  0, -1,  2,  1,     -10,    0,       5,  0},
+		{ 2,  0,  1,  2,  2,      -8,    0,       3,  0},
+		{ 0,  1,  0,  2,  2,       7,    0,      -3,  0},
+		{-2,  1,  1,  0,  0,      -7,    0,       0,  0},
+		{ 0, -1,  0,  2,  2,      -7,    0,       3,  0},
+		{ 2,  0,  0,  2,  1,      -7,    0,       3,  0},
+		{ 2,  0,  1,  0,  0,       6,    0,       0,  0},
+		{-2,  0,  2,  2,  2,       6,    0,      -3,  0},
+		{-2,  0,  1,  2,  1,       6,    0,      -3,  0},
+		{ 2,  0, -2,  0,  1,      -6,    0,       3,  0},
+		{ 2,  0,  0,  0,  1,      -6,    0,       3,  0},
+		{ 0, -1,  1,  0,  0,       5,    0,       0,  0},
+		{-2, -1,  0,  2,  1,      -5,    0,       3,  0},
+		{-2,  0,  0,  0,  1,      -5,    0,       3,  0},
+		{ 0,  0,  2,  2,  1,      -5,    0,       3,  0},
+		{-2,  0,  2,  0,  1,       4,    0,       0,  0},
+		{-2,  1,  0,  2,  1,       4,    0,       0,  0},
+		{ 0,  0,  1, -2,  0,       4,    0,       0,  0},
+		{-1,  0,  1,  0,  0,      -4,    0,       0,  0},
+		{-2,  1,  0,  0,  0,      -4,    0,       0,  0},
+		{ 1,  0,  0,  0,  0,      -4,    0,       0,  0},
+		{ 0,  0,  1,  2,  0,       3,    0,       0,  0},
+		{ 0,  0, -2,  2,  2,      -3,    0,       0,  0},
+		{-1, -1,  1,  0,  0,      -3,    0,       0,  0},
+		{ 0,  1,  1,  0,  0,      -3,    0,       0,  0},
+		{ 0, -1,  1,  2,  2,      -3,    0,       0,  0},
+		{ 2, -1, -1,  2,  2,      -3,    0,       0,  0},
+		{ 0,  0,  3,  2,  2,      -3,    0,       0,  0},
+		{ 2, -1,  0,  2,  2,      -3,    0,       0,  0}
+	};
+	
+	/**
+	 * Calculates the nutation of the ecliptic using all of the periodic 
+	 * terms in Table 22.A.  This is accurate to about 0.0003" but is much
+	 * slower than nutationApprox().  NutationTable can be used to 
+	 * interpolate these values when many nearby dates are needed.
 	 */
 	public static Nutation nutation(double jde) {
-		return nutationApprox(jde);
-		
-		/*
-		//TODO: crazy long formula
 		double t = (jde - 2451545) / 36525;
 		double t2 = t*t;
 		double t3 = t2 * t;
 		
-		double D = 297.85036 + 445267.111480*t - 0.0019142*t2 + t3/189474;
-		double M = 357.52772 + 35999.050340*t - 0.0001603*t2 - t3/300000;
-		double Mp = 134.96298 + 477198.867398*t + 0.0086972*t2 + t3/56250;
-		double F = 93.27191 + 483202.017538*5 - 0.0036825*t2 + t3/327270;
-		double omega = 125.04452 - 1934.136261*t + 0.0020708*t2 + t3/450000;
-		 */
+		//fundamental arguments (in degrees): mean elongation of the moon
+		//from the sun, mean anomaly of the sun and moon, the moon's argument
+		//of latitude and the longitude of the ascending node of the moon's
+		//mean orbit.  (The commented out version of F that used to be here 
+		//had '*5' in place of '*t'.)
+		double D = Utils.normalizeDegrees(297.85036 + 445267.111480*t - 0.0019142*t2 + t3/189474);
+		double M = Utils.normalizeDegrees(357.52772 + 35999.050340*t - 0.0001603*t2 - t3/300000);
+		double Mp = Utils.normalizeDegrees(134.96298 + 477198.867398*t + 0.0086972*t2 + t3/56250);
+		double F = Utils.normalizeDegrees(93.27191 + 483202.017538*t - 0.0036825*t2 + t3/327270);
+		double omega = Utils.normalizeDegrees(125.04452 - 1934.136261*t + 0.0020708*t2 + t3/450000);
+		
+		//EXACT promises the values from before backends existed, which took
+		//Math.sin() and Math.cos() of the arguments summed in radians.  A
+		//sum in degrees rounds differently, so EXACT converts the arguments
+		//first and calls Math directly.
+		TrigBackend trig = TrigDegrees.getBackend();
+		boolean radians = (trig == TrigBackend.EXACT);
+		if (radians) {
+			D *= TrigDegrees.DEG_TO_RAD;
+			M *= TrigDegrees.DEG_TO_RAD;
+			Mp *= TrigDegrees.DEG_TO_RAD;
+			F *= TrigDegrees.DEG_TO_RAD;
+			omega *= TrigDegrees.DEG_TO_RAD;
+		}
+		
+		double psi = 0;
+		double eps = 0;
+		for (double [] term : NUTATION_TERMS) {
+			double arg = term[0]*D + term[1]*M + term[2]*Mp + term[3]*F + term[4]*omega;
+			psi += (term[5] + term[6]*t) * (radians ? Math.sin(arg) : trig.sin(arg));
+			if (term[7] != 0)
+				eps += (term[7] + term[8]*t) * (radians ? Math.cos(arg) : trig.cos(arg));
+		}
+		
+		return new Nutation(psi / 10000, eps / 10000);
 	}
 	
-	
 }
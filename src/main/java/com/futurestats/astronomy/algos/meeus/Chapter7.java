@@ -39,24 +39,63 @@ public class Chapter7 {
 			month += 12;
 		}
 		
-		int a = (int)Math.floor(year / 100.0);
-		int b = isJulianCalendar(year, month, day) ? 0 : 2 - a + (int)Math.floor(a / 4.0);
+		//NOTE: floor(365.25 * n) is computed as floorDiv(1461 * n, 4) to
+		//      stay in integer arithmetic.  The results are identical.
+		int a = Math.floorDiv(year, 100);
+		int b = isJulianCalendar(year, month, day) ? 0 : 2 - a + Math.floorDiv(a, 4);
 		
-		double jd = Math.floor(365.25*(year+4716)) + 
+		double jd = Math.floorDiv(1461L*(year+4716), 4L) + 
 				    Math.floor(30.6001*(month+1)) +
 				    day + b - 1524.5;
 		
 		return jd;
 	}
 	
+	/**
+	 * Batch version of julianDateFor(int, int, double).  Converts each row
+	 * of the (year, month, day) columns to a Julian Date and writes it to
+	 * the same index of 'jd'.  No objects are allocated per row.
+	 */
+	public static void julianDateFor(int [] year, int [] month, double [] day, double [] jd) {
+		julianDateFor(year, month, day, jd, 0, jd.length);
+	}
+	
+	/**
+	 * Batch version of julianDateFor(int, int, double) for the rows in the
+	 * range [from, to).
+	 */
+	public static void julianDateFor(int [] year, int [] month, double [] day, double [] jd, 
+			int from, int to) {
+		for (int i=from; i<to; i++)
+			jd[i] = julianDateFor(year[i], month[i], day[i]);
+	}
+	
+	/**
+	 * Parallel version of julianDateFor(int[], int[], double[], double[]).
+	 * Large arrays are split into chunks that are converted on the common
+	 * fork/join pool.
+	 */
+	public static void julianDateForParallel(int [] year, int [] month, double [] day, double [] jd) {
+		Utils.parallelFor(jd.length, (from, to) -> julianDateFor(year, month, day, jd, from, to));
+	}
+	
 	/**
 	 * Converts the JulianDate to an astronomical one.
 	 */
 	public static AstronomicalDate julianDateToCalendar(double jd) {
 		jd += 0.5;
 		double z = Math.floor(jd);
-		double f = jd - z;
-		
+		long date = calendarFor(z);
+		return new AstronomicalDate(year(date), month(date), dayOfMonth(date) + (jd - z));
+	}
+	
+	/**
+	 * Converts the whole day number z (the Julian Date + 0.5 rounded down)
+	 * to a calendar date.  The year is returned in the upper 32 bits and
+	 * (month << 8 | day of the month) in the lower ones, so the scalar and
+	 * batch conversions can share this without allocating.
+	 */
+	private static long calendarFor(double z) {
 		int a;
 		if (z < 2299161) {
 			a = (int)z;
@@ -71,11 +110,56 @@ public class Chapter7 {
 		int d = (int)Math.floor(365.25 * c);
 		int e = (int)Math.floor((b - d) / 30.6001);
 		
-		double day = b - d - Math.floor(30.6001 * e) + f;
+		int day = b - d - (int)Math.floor(30.6001 * e);
 		int month = (e < 14) ? e - 1 : e - 13;
 		int year = (month > 2) ? c - 4716 : c - 4715;
 		
-		return new AstronomicalDate(year, month, day);
+		return ((long)year << 32) | (month << 8) | day;
+	}
+	
+	private static int year(long date) {
+		return (int)(date >> 32);
+	}
+	private static int month(long date) {
+		return ((int)date >> 8) & 0xFF;
+	}
+	private static int dayOfMonth(long date) {
+		return (int)date & 0xFF;
+	}
+	
+	/**
+	 * Batch version of julianDateToCalendar(double).  Decodes each Julian
+	 * Date and writes its year, month, and day into the same index of the
+	 * output arrays.  No objects are allocated per element.
+	 */
+	public static void julianDateToCalendar(double [] jd, int [] year, int [] month, double [] day) {
+		julianDateToCalendar(jd, year, month, day, 0, jd.length);
+	}
+	
+	/**
+	 * Batch version of julianDateToCalendar(double) for the elements in the
+	 * range [from, to).  This is the same algorithm as the scalar method.
+	 */
+	public static void julianDateToCalendar(double [] jd, int [] year, int [] month, double [] day,
+			int from, int to) {
+		
+		for (int i=from; i<to; i++) {
+			double jd_i = jd[i] + 0.5;
+			double z = Math.floor(jd_i);
+			long date = calendarFor(z);
+			year[i] = year(date);
+			month[i] = month(date);
+			day[i] = dayOfMonth(date) + (jd_i - z);
+		}
+	}
+	
+	/**
+	 * Parallel version of julianDateToCalendar(double[], int[], int[], double[]).
+	 * Large arrays are split into chunks that are decoded on the common 
+	 * fork/join pool.
+	 */
+	public static void julianDateToCalendarParallel(double [] jd, int [] year, int [] month, double [] day) {
+		Utils.parallelFor(jd.length, (from, to) -> julianDateToCalendar(jd, year, month, day, from, to));
 	}
 	
 }
@@ -0,0 +1,37 @@
+package com.futurestats.astronomy.algos.meeus;
+
+import static com.futurestats.astronomy.algos.meeus.TrigDegrees.DEG_TO_RAD;
+
+/**
+ * TrigBackend.EXACT: the functions from java.lang.Math.
+ */
+final class ExactTrig implements TrigBackend {
+
+	public double sin(double deg) {
+		return Math.sin(deg*DEG_TO_RAD);
+	}
+	public double cos(double deg) {
+		return Math.cos(deg*DEG_TO_RAD);
+	}
+	public double tan(double deg) {
+		return Math.tan(deg*DEG_TO_RAD);
+	}
+	
+	public double asin(double x) {
+		return Math.asin(x)/DEG_TO_RAD;
+	}
+	public double acos(double x) {
+		return Math.acos(x)/DEG_TO_RAD;
+	}
+	public double atan(double x) {
+		return Math.atan(x)/DEG_TO_RAD;
+	}
+	public double atan2(double y, double x) {
+		return Math.atan2(y, x)/DEG_TO_RAD;
+	}
+	
+	public String toString() {
+		return "exact";
+	}
+	
+}
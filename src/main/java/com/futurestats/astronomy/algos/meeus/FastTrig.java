@@ -0,0 +1,157 @@
+package com.futurestats.astronomy.algos.meeus;
+
+import static com.futurestats.astronomy.algos.meeus.TrigDegrees.DEG_TO_RAD;
+
+/**
+ * TrigBackend.FAST: trigonometric functions from tables with short
+ * polynomial corrections.
+ * 
+ * sin(), cos() and sincos() round the angle to the nearest entry of a
+ * 4096 step table (0.088 degrees apart) and use the angle sum formulas
+ * with Taylor series for the small remainder.  sincos() shares the table
+ * lookups and the series between both results.
+ * 
+ * atan() and atan2() reduce the argument to [0, 1], look up the nearest of
+ * 512 table entries and use atan(x) = atan(c) + atan((x - c) / (1 + x c))
+ * with a Taylor series for the remainder.  asin() and acos() are found
+ * with atan2() (which is much faster than Math.asin).
+ * 
+ * The series are truncated well below double precision so the results
+ * differ from Math by a few units in the last place.  The bounds below
+ * are checked by TrigBackendTest and reported by TrigBenchmark.
+ */
+public final class FastTrig implements TrigBackend {
+	
+	/**
+	 * Maximum absolute difference from Math.sin()/cos() for angles within
+	 * +/- 360 degrees.  A sweep in steps of 1e-5 degrees found at most
+	 * 1.39e-15 (at -260.67943 degrees).  Beyond that range both Math (when
+	 * the angle is converted to radians) and this class round the
+	 * argument, so the difference grows by up to about 4e-18 per degree.
+	 */
+	public static final double MAX_SIN_ERROR = 2e-15;
+	
+	/**
+	 * Maximum difference from Math.asin()/acos()/atan()/atan2() in degrees.
+	 */
+	public static final double MAX_INVERSE_ERROR = 1e-13;
+	
+	static final int SIN_SIZE = 4096;
+	static final int QUARTER = SIN_SIZE / 4;
+	static final double TO_INDEX = SIN_SIZE / 360.0;
+	static final double STEP_RAD = 2 * Math.PI / SIN_SIZE;
+	
+	static final int ATAN_SIZE = 512;
+	
+	//sin(k * 360/SIN_SIZE) with an extra quarter so cosines can be read
+	//at k + QUARTER
+	static final double [] SIN = new double[SIN_SIZE + QUARTER];
+	
+	//atan(k / ATAN_SIZE) in radians
+	static final double [] ATAN = new double[ATAN_SIZE + 1];
+	
+	static {
+		for (int k=0; k<SIN.length; k++)
+			SIN[k] = StrictMath.sin(k * STEP_RAD);
+		for (int k=0; k<ATAN.length; k++)
+			ATAN[k] = StrictMath.atan(k / (double)ATAN_SIZE);
+	}
+	
+	FastTrig() {
+	}
+	
+	public double sin(double deg) {
+		double x = deg * TO_INDEX;
+		double n = Math.rint(x);
+		int k = (int)((long)n & (SIN_SIZE - 1));
+		double r = (x - n) * STEP_RAD;
+		double r2 = r * r;
+		double sin_r = r * (1 - r2 * (1.0/6 - r2 * (1.0/120)));
+		double cos_r_1 = -r2 * (0.5 - r2 * (1.0/24));
+		double s = SIN[k];
+		double c = SIN[k + QUARTER];
+		return s + (s * cos_r_1 + c * sin_r);
+	}
+	
+	public double cos(double deg) {
+		double x = deg * TO_INDEX;
+		double n = Math.rint(x);
+		int k = (int)((long)n & (SIN_SIZE - 1));
+		double r = (x - n) * STEP_RAD;
+		double r2 = r * r;
+		double sin_r = r * (1 - r2 * (1.0/6 - r2 * (1.0/120)));
+		double cos_r_1 = -r2 * (0.5 - r2 * (1.0/24));
+		double s = SIN[k];
+		double c = SIN[k + QUARTER];
+		return c + (c * cos_r_1 - s * sin_r);
+	}
+	
+	public void sincos(double deg, double [] out) {
+		double x = deg * TO_INDEX;
+		double n = Math.rint(x);
+		int k = (int)((long)n & (SIN_SIZE - 1));
+		double r = (x - n) * STEP_RAD;
+		double r2 = r * r;
+		double sin_r = r * (1 - r2 * (1.0/6 - r2 * (1.0/120)));
+		double cos_r_1 = -r2 * (0.5 - r2 * (1.0/24));
+		double s = SIN[k];
+		double c = SIN[k + QUARTER];
+		out[0] = s + (s * cos_r_1 + c * sin_r);
+		out[1] = c + (c * cos_r_1 - s * sin_r);
+	}
+	
+	public double tan(double deg) {
+		double x = deg * TO_INDEX;
+		double n = Math.rint(x);
+		int k = (int)((long)n & (SIN_SIZE - 1));
+		double r = (x - n) * STEP_RAD;
+		double r2 = r * r;
+		double sin_r = r * (1 - r2 * (1.0/6 - r2 * (1.0/120)));
+		double cos_r_1 = -r2 * (0.5 - r2 * (1.0/24));
+		double s = SIN[k];
+		double c = SIN[k + QUARTER];
+		return (s + (s * cos_r_1 + c * sin_r)) / (c + (c * cos_r_1 - s * sin_r));
+	}
+	
+	public double asin(double x) {
+		return atan2(x, Math.sqrt((1 - x) * (1 + x)));
+	}
+	
+	public double acos(double x) {
+		return atan2(Math.sqrt((1 - x) * (1 + x)), x);
+	}
+	
+	public double atan(double x) {
+		double ax = Math.abs(x);
+		double a = (ax <= 1) ? atanUnit(ax) : Math.PI / 2 - atanUnit(1 / ax);
+		return Math.copySign(a, x) / DEG_TO_RAD;
+	}
+	
+	public double atan2(double y, double x) {
+		double ax = Math.abs(x);
+		double ay = Math.abs(y);
+		if ((ax == 0 && ay == 0) || ax == Double.POSITIVE_INFINITY || ay == Double.POSITIVE_INFINITY)
+			return Math.atan2(y, x) / DEG_TO_RAD;
+	
+		double a = (ay <= ax) ? atanUnit(ay / ax) : Math.PI / 2 - atanUnit(ax / ay);
+		if (x < 0)
+			a = Math.PI - a;
+		return Math.copySign(a, y) / DEG_TO_RAD;
+	}
+	
+	/**
+	 * atan(t) in radians for t in [0, 1].
+	 */
+	static double atanUnit(double t) {
+		int k = (int)(t * ATAN_SIZE + 0.5);
+		double c = k * (1.0 / ATAN_SIZE);
+		double r = (t - c) / (1 + t * c);
+		double r2 = r * r;
+		return ATAN[k] + r * (1 - r2 * (1.0/3 - r2 * (1.0/5)));
+	}
+	
+	public String toString() {
+		return "fast";
+	}
+	
+}
@@ -0,0 +1,37 @@
+package com.futurestats.astronomy.algos.meeus;
+
+import static com.futurestats.astronomy.algos.meeus.TrigDegrees.DEG_TO_RAD;
+
+/**
+ * TrigBackend.STRICT: the functions from java.lang.StrictMath.
+ */
+final class StrictTrig implements TrigBackend {
+
+	public double sin(double deg) {
+		return StrictMath.sin(deg*DEG_TO_RAD);
+	}
+	public double cos(double deg) {
+		return StrictMath.cos(deg*DEG_TO_RAD);
+	}
+	public double tan(double deg) {
+		return StrictMath.tan(deg*DEG_TO_RAD);
+	}
+	
+	public double asin(double x) {
+		return StrictMath.asin(x)/DEG_TO_RAD;
+	}
+	public double acos(double x) {
+		return StrictMath.acos(x)/DEG_TO_RAD;
+	}
+	public double atan(double x) {
+		return StrictMath.atan(x)/DEG_TO_RAD;
+	}
+	public double atan2(double y, double x) {
+		return StrictMath.atan2(y, x)/DEG_TO_RAD;
+	}
+	
+	public String toString() {
+		return "strict";
+	}
+	
+}
@@ -71,6 +71,22 @@ public class Structs {
 		
 	}
 	
+	public static class GalacticCoordinate {
+		
+		public double longitude;			//l
+		public double latitude;				//b
+		
+		public GalacticCoordinate(double longitude, double latitude) {
+			this.longitude = longitude;
+			this.latitude = latitude;
+		}
+		
+		public String toString() {
+			return "(l, b) = (" + longitude + ", " + latitude + ")";
+		}
+		
+	}
+	
 	public static class HorizontalCoordinate {
 		
 		public double azimuth;		// A
@@ -87,6 +103,31 @@ public class Structs {
 		
 	}
 	
+	/**
+	 * Times of transit, rising and setting as fractions of a day after the
+	 * reference time (see Chapter 15).  'rise' and 'set' are NaN when the
+	 * object is circumpolar or never rises.
+	 */
+	public static class RiseTransitSet {
+		
+		public double transit;		// m0
+		public double rise;			// m1
+		public double set;			// m2
+		public int status;			// Chapter15.RISES_AND_SETS, CIRCUMPOLAR or NEVER_RISES
+		
+		public RiseTransitSet(double transit, double rise, double set, int status) {
+			this.transit = transit;
+			this.rise = rise;
+			this.set = set;
+			this.status = status;
+		}
+		
+		public String toString() {
+			return ("(transit, rise, set) = (" + transit + ", " + rise + ", " + set + ")");
+		}
+		
+	}
+	
 	/**
 	 * Represents nutation of the Earth's rotational axis.  Values are in
 	 * seconds.
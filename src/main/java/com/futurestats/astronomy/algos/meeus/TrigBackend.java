@@ -0,0 +1,58 @@
+package com.futurestats.astronomy.algos.meeus;
+
+/**
+ * Implementation of the trigonometric functions used by TrigDegrees.  All
+ * angles are in degrees.  Three backends are provided:
+ * 
+ *   EXACT  - java.lang.Math (the default).  Results are exactly what the
+ *            algorithms returned before backends existed.
+ *   STRICT - java.lang.StrictMath.  Slower but gives bit-for-bit the same 
+ *            results on every JVM and platform.
+ *   FAST   - table lookups with short polynomial corrections (see FastTrig
+ *            for its error bounds).  Several times faster than Math,
+ *            especially for the inverse functions.
+ * 
+ * Other implementations can be plugged in with TrigDegrees.setBackend().
+ */
+public interface TrigBackend {
+
+	TrigBackend EXACT = new ExactTrig();
+	TrigBackend STRICT = new StrictTrig();
+	TrigBackend FAST = new FastTrig();
+	
+	double sin(double deg);
+	double cos(double deg);
+	double tan(double deg);
+	
+	double asin(double x);
+	double acos(double x);
+	double atan(double x);
+	double atan2(double y, double x);
+	
+	/**
+	 * Writes the sine of 'deg' to out[0] and the cosine to out[1].  Backends
+	 * that can share work between the two (such as FAST) override this.
+	 */
+	default void sincos(double deg, double [] out) {
+		out[0] = sin(deg);
+		out[1] = cos(deg);
+	}
+	
+	/**
+	 * Returns the backend with the given name ("exact", "strict" or "fast",
+	 * ignoring case).
+	 */
+	static TrigBackend forName(String name) {
+		switch (name.trim().toLowerCase()) {
+		case "exact":
+			return EXACT;
+		case "strict":
+			return STRICT;
+		case "fast":
+			return FAST;
+		default:
+			throw new IllegalArgumentException("Unknown trig backend: " + name);
+		}
+	}
+	
+}
@@ -2,11 +2,36 @@ package com.futurestats.astronomy.algos.meeus;
 
 /**
  * Trigonometric functions defined in degrees.
+ * 
+ * The functions are delegated to a TrigBackend which is the single switch
+ * for all of the Meeus chapters.  The default is TrigBackend.EXACT 
+ * (java.lang.Math).  Another backend can be chosen at startup with the 
+ * system property:
+ * 
+ *   -Dcom.futurestats.astronomy.trig=exact|strict|fast
+ * 
+ * or with setBackend().  The backend is global, so it should be chosen 
+ * before calculations start rather than switched while other threads are
+ * using it.
  */
 public class TrigDegrees {
 
 	public static final double DEG_TO_RAD = Math.PI/180;
 	
+	public static final String BACKEND_PROPERTY = "com.futurestats.astronomy.trig";
+	
+	private static volatile TrigBackend backend = 
+			TrigBackend.forName(System.getProperty(BACKEND_PROPERTY, "exact"));
+	
+	public static TrigBackend getBackend() {
+		return backend;
+	}
+	public static void setBackend(TrigBackend backend) {
+		if (backend == null)
+			throw new NullPointerException("backend");
+		TrigDegrees.backend = backend;
+	}
+	
 	public static double normalize(double deg) {
 		if (deg < 0)
 			return deg % 360 + 360;
@@ -17,27 +42,36 @@ public class TrigDegrees {
 	}
 	
 	public static double sin(double deg) {
-		return Math.sin(deg*DEG_TO_RAD);
+		return backend.sin(deg);
 	}
 	public static double cos(double deg) {
-		return Math.cos(deg*DEG_TO_RAD);
+		return backend.cos(deg);
 	}
 	public static double tan(double deg) {
-		return Math.tan(deg*DEG_TO_RAD);
+		return backend.tan(deg);
+	}
+	
+	/**
+	 * Writes the sine of 'deg' to out[0] and the cosine to out[1].  This is
+	 * cheaper than calling sin() and cos() with the FAST backend and gives
+	 * the same values as they do with every backend.
+	 */
+	public static void sincos(double deg, double [] out) {
+		backend.sincos(deg, out);
 	}
 	
 	public static double asin(double x) {
-		return Math.asin(x)/DEG_TO_RAD;
+		return backend.asin(x);
 	}
 	public static double acos(double x) {
-		return Math.acos(x)/DEG_TO_RAD;
+		return backend.acos(x);
 	}
 	public static double atan(double x) {
-		return Math.atan(x)/DEG_TO_RAD;
+		return backend.atan(x);
 	}
 	
 	public static double atan2(double y, double x) {
-		return Math.atan2(y, x)/DEG_TO_RAD;
+		return backend.atan2(y, x);
 	}
 	
 }
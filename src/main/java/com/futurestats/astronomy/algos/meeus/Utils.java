@@ -1,5 +1,8 @@
 package com.futurestats.astronomy.algos.meeus;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class Utils {
 
 	public static final int SECONDS_PER_DAY = 24 * 60 * 60;
@@ -96,17 +99,81 @@ public class Utils {
 			this.coeffs = coeffs;
 		}
 		
+		/**
+		 * Evaluates the polynomial using Horner's method.
+		 */
 		public double value(double x) {
-			double sum = coeffs[0];
-			if (coeffs.length > 1)
-				sum += coeffs[1] * x;
+			double sum = coeffs[coeffs.length-1];
+			for (int i=coeffs.length-2; i>=0; i--)
+				sum = sum * x + coeffs[i];
 			
-			for (int i=2; i<coeffs.length; i++) {
-				x = x * x;
-				sum += coeffs[i] * x;
+			return sum;
+		}
+		
+	}
+	
+	// --- Parallel -----------------------------------------------------------
+	
+	/**
+	 * Number of array elements processed by a single fork/join task in the
+	 * parallel batch functions.  Arrays no larger than this are processed
+	 * on the calling thread.
+	 */
+	public static final int PARALLEL_CHUNK_SIZE = 8192;
+	
+	/**
+	 * Processes the elements in [from, to) of one or more arrays.
+	 */
+	public static interface RangeFunction {
+		
+		public void apply(int from, int to);
+		
+	}
+	
+	/**
+	 * Applies the function to the range [0, length) by recursively splitting
+	 * it into chunks that are run on the common fork/join pool.  The function
+	 * must only write to the elements in the range it is given.
+	 */
+	public static void parallelFor(int length, RangeFunction function) {
+		parallelFor(length, PARALLEL_CHUNK_SIZE, function);
+	}
+	
+	/**
+	 * Same as parallelFor(int, RangeFunction) with a custom chunk size.  Use
+	 * a smaller chunk size when each element is expensive to compute.
+	 */
+	public static void parallelFor(int length, int chunkSize, RangeFunction function) {
+		if (length <= chunkSize)
+			function.apply(0, length);
+		else
+			ForkJoinPool.commonPool().invoke(new RangeAction(function, 0, length, chunkSize));
+	}
+	
+	@SuppressWarnings("serial")
+	static class RangeAction extends RecursiveAction {
+		
+		final RangeFunction function;
+		final int from;
+		final int to;
+		final int chunkSize;
+		
+		RangeAction(RangeFunction function, int from, int to, int chunkSize) {
+			this.function = function;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+		
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				function.apply(from, to);
+				return;
 			}
 			
-			return sum;
+			int mid = (from + to) >>> 1;
+			invokeAll(new RangeAction(function, from, mid, chunkSize),
+			          new RangeAction(function, mid, to, chunkSize));
 		}
 		
 	}
@@ -17,13 +17,13 @@ public abstract class Angle {
 	
 	
 	public double sin() {
-		return Math.sin(toRadians().value());
+		return Math.sin(radiansValue());
 	}
 	public double cos() {
-		return Math.cos(toRadians().value());
+		return Math.cos(radiansValue());
 	}
 	public double tan() {
-		return Math.tan(toRadians().value());
+		return Math.tan(radiansValue());
 	}
 	
 	public static Angle asin(double x) {
@@ -40,6 +40,15 @@ public abstract class Angle {
 	public abstract Radians toRadians();
 	public abstract Hours toHours();
 	
+	/**
+	 * Primitive versions of toDegrees(), toRadians() and toHours().  These
+	 * return the same values as toDegrees().value() and so on without 
+	 * creating an intermediate Angle.
+	 */
+	public abstract double degreesValue();
+	public abstract double radiansValue();
+	public abstract double hoursValue();
+	
 	public static Hours fromHms(int hours, int minutes, double seconds) {
 		return Hours.of(hours, minutes, seconds);
 	}
@@ -53,7 +62,7 @@ public abstract class Angle {
 	 */
 	public String toDmsString() {
 		StringBuilder s = new StringBuilder();
-		double deg = toDegrees().value();
+		double deg = degreesValue();
 		if (deg > 0)
 			s.append("+ ");
 		else if (deg < 0)
@@ -73,13 +82,30 @@ public abstract class Angle {
 		return s.toString();
 	}
 	
+	/**
+	 * Returns the angle in degrees, minutes, and seconds with the seconds
+	 * rounded to the given number of decimals.  Format: (+/-)#d ##' ##.#".
+	 * See AngleFormat to write this into an existing buffer instead.
+	 */
+	public String toDmsString(int decimals) {
+		return AngleFormat.toDmsString(degreesValue(), decimals);
+	}
+	
+	/**
+	 * Returns the angle in hours, minutes, and seconds with the seconds
+	 * rounded to the given number of decimals.  Format: (-)#h ##m ##.#s.
+	 */
+	public String toHmsString(int decimals) {
+		return AngleFormat.toHmsString(degreesValue(), decimals);
+	}
+	
 	/**
 	 * Returns a string representing the angle in hours, minutes,
 	 * and seconds. Format: (+/-)#h #m #s).
 	 */
 	public String toHmsString() {
 		StringBuilder s = new StringBuilder();
-		double deg = toDegrees().value();
+		double deg = degreesValue();
 		if (deg > 0)
 			s.append("+ ");
 		else if (deg < 0)
@@ -0,0 +1,389 @@
+package com.futurestats.astronomy.angles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Formats and parses angles in degrees/minutes/seconds and hours/minutes/
+ * seconds without creating any objects.  This is meant for exporting large
+ * numbers of coordinates as text: the output is written directly into a
+ * caller-supplied Appendable (such as a StringBuilder or Writer), CharBuffer
+ * or ByteBuffer (as ASCII).
+ * 
+ * The formats are:
+ * 
+ *   DMS: +12d 34' 56.700"   (sign always written, degrees unpadded)
+ *   HMS: 12h 34m 56.700s    (sign only written when negative)
+ * 
+ * Minutes and seconds are written with two digits and the seconds are
+ * rounded to a fixed number of decimals (0 to 9).  The rounding is done on
+ * the whole value, so 59.9999 seconds with 3 decimals carries into the
+ * minutes rather than printing as 60.000.
+ * 
+ * A formatter is created for a number of decimals and keeps a small scratch
+ * buffer that each value is written into before it is copied to the output
+ * in bulk.  Formatters are therefore not thread-safe: use one per thread.
+ * The static toDmsString() and toHmsString() are conveniences that create
+ * a formatter (and a String) on each call.
+ * 
+ * The static parsers accept these formats as well as those of 
+ * Angle.toDmsString() and toHmsString(): a space may follow the sign, 
+ * minutes and seconds may have any number of digits, the seconds may have
+ * a fraction (and an exponent) and their trailing unit (" or s) may be 
+ * omitted.  Both the formatters and the parsers work with angles in 
+ * degrees (so HMS values are divided or multiplied by 15).
+ */
+public class AngleFormat {
+	
+	public static final int MAX_DECIMALS = 9;
+	
+	static final long [] POWERS_OF_TEN = new long[19];
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i=1; i<POWERS_OF_TEN.length; i++)
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i-1] * 10;
+	}
+	
+	//largest number of seconds * 10^decimals that still fits a long
+	//(with room to spare for rounding)
+	static final double MAX_UNITS = 9e18;
+	
+	//"00", "01", ... "99"
+	static final byte [] DIGIT_PAIRS = new byte[200];
+	static {
+		for (int i=0; i<100; i++) {
+			DIGIT_PAIRS[2 * i] = (byte)('0' + i / 10);
+			DIGIT_PAIRS[2 * i + 1] = (byte)('0' + i % 10);
+		}
+	}
+	
+	//sign, 16 digits, "d 00' 00." and 9 decimals and unit
+	static final int MAX_LENGTH = 40;
+	
+	final int decimals;
+	final long scale;
+	final double inverseScale;
+	final byte [] bytes = new byte[MAX_LENGTH];
+	final char [] chars = new char[MAX_LENGTH];
+	
+	public AngleFormat(int decimals) {
+		if (decimals < 0 || decimals > MAX_DECIMALS)
+			throw new IllegalArgumentException("decimals must be between 0 and " + MAX_DECIMALS + ": " + decimals);
+		this.decimals = decimals;
+		this.scale = POWERS_OF_TEN[decimals];
+		this.inverseScale = 1.0 / scale;
+	}
+	
+	public int getDecimals() {
+		return decimals;
+	}
+	
+	// --- Formatting ---------------------------------------------------------
+	
+	public void appendDms(Appendable out, double degrees) throws IOException {
+		append(out, format(degrees, true));
+	}
+	public void appendHms(Appendable out, double degrees) throws IOException {
+		append(out, format(degrees, false));
+	}
+	
+	public StringBuilder appendDms(StringBuilder out, double degrees) {
+		return out.append(chars, 0, toChars(format(degrees, true)));
+	}
+	public StringBuilder appendHms(StringBuilder out, double degrees) {
+		return out.append(chars, 0, toChars(format(degrees, false)));
+	}
+	
+	public CharBuffer putDms(CharBuffer out, double degrees) {
+		return out.put(chars, 0, toChars(format(degrees, true)));
+	}
+	public CharBuffer putHms(CharBuffer out, double degrees) {
+		return out.put(chars, 0, toChars(format(degrees, false)));
+	}
+	
+	/**
+	 * Writes the angle as ASCII bytes at the buffer's position.
+	 */
+	public ByteBuffer putDms(ByteBuffer out, double degrees) {
+		return put(out, degrees, true);
+	}
+	public ByteBuffer putHms(ByteBuffer out, double degrees) {
+		return put(out, degrees, false);
+	}
+	
+	private ByteBuffer put(ByteBuffer out, double degrees, boolean dms) {
+		//heap buffers with enough room are written directly
+		if (out.hasArray() && out.remaining() >= MAX_LENGTH) {
+			int start = out.arrayOffset() + out.position();
+			int end = format(degrees, dms, out.array(), start);
+			out.position(out.position() + end - start);
+			return out;
+		}
+		return out.put(bytes, 0, format(degrees, dms));
+	}
+	
+	public static String toDmsString(double degrees, int decimals) {
+		AngleFormat format = new AngleFormat(decimals);
+		return new String(format.chars, 0, format.toChars(format.format(degrees, true)));
+	}
+	public static String toHmsString(double degrees, int decimals) {
+		AngleFormat format = new AngleFormat(decimals);
+		return new String(format.chars, 0, format.toChars(format.format(degrees, false)));
+	}
+	
+	/**
+	 * Writes the angle into 'bytes' and returns its length.
+	 */
+	int format(double degrees, boolean dms) {
+		return format(degrees, dms, bytes, 0);
+	}
+	
+	/**
+	 * Writes the angle into b[offset...] and returns the end offset.  The
+	 * array needs MAX_LENGTH bytes of room.
+	 */
+	int format(double degrees, boolean dms, byte [] b, int offset) {
+		double value = dms ? Math.abs(degrees) : Math.abs(degrees) / 15;
+		double units = Math.floor(value * 3600 * scale + 0.5);
+		if (!(units < MAX_UNITS))
+			throw new IllegalArgumentException("Cannot format angle: " + degrees);
+		
+		//multiplying by the inverse can be off by one, so check the remainder
+		long seconds = (long)(units * inverseScale);
+		long remainder = (long)units - seconds * scale;
+		if (remainder < 0) {
+			seconds--;
+			remainder += scale;
+		}
+		else if (remainder >= scale) {
+			seconds++;
+			remainder -= scale;
+		}
+		int fraction = (int)remainder;
+		
+		//(the divisions by constants below compile to multiplications)
+		long whole = seconds / 3600;
+		int rest = (int)(seconds - whole * 3600);
+		int minutes = rest / 60;
+		int secs = rest - minutes * 60;
+		
+		int n = offset;
+		if (degrees < 0 && units != 0)
+			b[n++] = '-';
+		else if (dms)
+			b[n++] = '+';
+		
+		if (whole < 10) {
+			b[n++] = (byte)('0' + whole);
+		}
+		else if (whole < 100) {
+			n = putPair(b, n, (int)whole);
+		}
+		else if (whole < 1000) {
+			int hundreds = (int)whole / 100;
+			b[n++] = (byte)('0' + hundreds);
+			n = putPair(b, n, (int)whole - hundreds * 100);
+		}
+		else {
+			int digits = 4;
+			while (digits < 16 && whole >= POWERS_OF_TEN[digits])
+				digits++;
+			n += digits;
+			for (int i=n-1; i>=n-digits; i--) {
+				long q = whole / 10;
+				b[i] = (byte)('0' + (whole - q * 10));
+				whole = q;
+			}
+		}
+		
+		b[n++] = (byte)(dms ? 'd' : 'h');
+		b[n++] = ' ';
+		n = putPair(b, n, minutes);
+		b[n++] = (byte)(dms ? '\'' : 'm');
+		b[n++] = ' ';
+		n = putPair(b, n, secs);
+		
+		if (decimals > 0) {
+			b[n++] = '.';
+			int end = n + decimals;
+			int i = end;
+			if ((decimals & 1) != 0) {
+				int q = fraction / 10;
+				b[--i] = (byte)('0' + fraction - q * 10);
+				fraction = q;
+			}
+			while (i > n) {
+				int q = fraction / 100;
+				int pair = 2 * (fraction - q * 100);
+				b[--i] = DIGIT_PAIRS[pair + 1];
+				b[--i] = DIGIT_PAIRS[pair];
+				fraction = q;
+			}
+			n = end;
+		}
+		
+		b[n++] = (byte)(dms ? '"' : 's');
+		return n;
+	}
+	
+	/**
+	 * Writes a number from 0 to 99 as two digits.
+	 */
+	private static int putPair(byte [] b, int n, int value) {
+		b[n] = DIGIT_PAIRS[2 * value];
+		b[n + 1] = DIGIT_PAIRS[2 * value + 1];
+		return n + 2;
+	}
+	
+	private int toChars(int length) {
+		for (int i=0; i<length; i++)
+			chars[i] = (char)bytes[i];
+		return length;
+	}
+	
+	private void append(Appendable out, int length) throws IOException {
+		for (int i=0; i<length; i++)
+			out.append((char)bytes[i]);
+	}
+	
+	// --- Parsing ------------------------------------------------------------
+	
+	public static double parseDms(CharSequence s) {
+		return parseDms(s, 0, s.length());
+	}
+	public static double parseHms(CharSequence s) {
+		return parseHms(s, 0, s.length());
+	}
+	
+	/**
+	 * Parses the characters in the range [from, to) and returns degrees.
+	 */
+	public static double parseDms(CharSequence s, int from, int to) {
+		return parse(s, null, from, to, true);
+	}
+	/**
+	 * Parses the characters in the range [from, to) and returns degrees.
+	 */
+	public static double parseHms(CharSequence s, int from, int to) {
+		return parse(s, null, from, to, false);
+	}
+	
+	/**
+	 * Parses the ASCII bytes in the range [from, to) (absolute indexes that
+	 * do not change the buffer's position) and returns degrees.
+	 */
+	public static double parseDms(ByteBuffer bytes, int from, int to) {
+		return parse(null, bytes, from, to, true);
+	}
+	public static double parseHms(ByteBuffer bytes, int from, int to) {
+		return parse(null, bytes, from, to, false);
+	}
+	
+	private static double parse(CharSequence chars, ByteBuffer bytes, int from, int to, boolean dms) {
+		int i = skipSpaces(chars, bytes, from, to);
+	
+		boolean negative = false;
+		if (i < to) {
+			char c = charAt(chars, bytes, i);
+			if (c == '+' || c == '-') {
+				negative = (c == '-');
+				i = skipSpaces(chars, bytes, i + 1, to);
+			}
+		}
+	
+		//whole degrees/hours and minutes
+		long whole = 0;
+		long minutes = 0;
+		for (int field=0; field<2; field++) {
+			int start = i;
+			long n = 0;
+			char c = 0;
+			while (i < to && (c = charAt(chars, bytes, i)) >= '0' && c <= '9') {
+				n = n * 10 + (c - '0');
+				i++;
+			}
+			char unit = (field == 0) ? (dms ? 'd' : 'h') : (dms ? '\'' : 'm');
+			if (i == start || i == to || !(c == unit || (field == 0 && dms && c == '\u00b0')))
+				throw error(chars, bytes, from, to, dms);
+			if (field == 0)
+				whole = n;
+			else
+				minutes = n;
+			i = skipSpaces(chars, bytes, i + 1, to);
+		}
+	
+		//seconds with optional fraction
+		int start = i;
+		long seconds = 0;
+		long fraction = 0;
+		int fractionDigits = 0;
+		char c = 0;
+		while (i < to && (c = charAt(chars, bytes, i)) >= '0' && c <= '9') {
+			seconds = seconds * 10 + (c - '0');
+			i++;
+		}
+		if (i < to && c == '.') {
+			i++;
+			while (i < to && (c = charAt(chars, bytes, i)) >= '0' && c <= '9') {
+				if (fractionDigits < 18) {
+					fraction = fraction * 10 + (c - '0');
+					fractionDigits++;
+				}
+				i++;
+			}
+		}
+		if (i == start)
+			throw error(chars, bytes, from, to, dms);
+		
+		//exponent (Double.toString() writes very small seconds this way)
+		int exponent = 0;
+		if (i < to && (c == 'E' || c == 'e')) {
+			i++;
+			boolean negativeExponent = (i < to && charAt(chars, bytes, i) == '-');
+			if (negativeExponent || (i < to && charAt(chars, bytes, i) == '+'))
+				i++;
+			int exponentStart = i;
+			while (i < to && (c = charAt(chars, bytes, i)) >= '0' && c <= '9' && exponent < 1000) {
+				exponent = exponent * 10 + (c - '0');
+				i++;
+			}
+			if (i == exponentStart)
+				throw error(chars, bytes, from, to, dms);
+			if (negativeExponent)
+				exponent = -exponent;
+		}
+		
+		if (i < to && charAt(chars, bytes, i) == (dms ? '"' : 's'))
+			i++;
+		if (skipSpaces(chars, bytes, i, to) != to)
+			throw error(chars, bytes, from, to, dms);
+	
+		double secondsValue = seconds + fraction / (double)POWERS_OF_TEN[fractionDigits];
+		if (exponent != 0)
+			secondsValue *= Math.pow(10, exponent);
+		
+		double value = whole + minutes / 60.0 + secondsValue / 3600.0;
+		if (!dms)
+			value *= 15;
+		return negative ? -value : value;
+	}
+	
+	private static char charAt(CharSequence chars, ByteBuffer bytes, int i) {
+		return (chars != null) ? chars.charAt(i) : (char)(bytes.get(i) & 0xff);
+	}
+	
+	private static int skipSpaces(CharSequence chars, ByteBuffer bytes, int i, int to) {
+		while (i < to && charAt(chars, bytes, i) == ' ')
+			i++;
+		return i;
+	}
+	
+	private static IllegalArgumentException error(CharSequence chars, ByteBuffer bytes, int from, int to, boolean dms) {
+		StringBuilder s = new StringBuilder();
+		for (int i=from; i<to; i++)
+			s.append(charAt(chars, bytes, i));
+		return new IllegalArgumentException("Invalid " + (dms ? "DMS" : "HMS") + " angle: " + s);
+	}
+	
+}
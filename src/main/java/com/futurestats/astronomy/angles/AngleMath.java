@@ -0,0 +1,111 @@
+package com.futurestats.astronomy.angles;
+
+/**
+ * Static angle arithmetic on primitive doubles.  These are the same 
+ * conversions and normalizations that Degrees, Radians and Hours perform,
+ * but nothing is allocated, so they can be used in tight loops (and the
+ * Angle classes themselves are implemented with them).  The results are
+ * bit-for-bit the same as going through the Angle objects.
+ * 
+ * See MutableAngle for a reusable accumulator built on these functions.
+ */
+public class AngleMath {
+
+	public static final double PI2 = Radians.PI2;
+	
+	// --- Conversions --------------------------------------------------------
+	
+	public static double degreesToRadians(double degrees) {
+		return degrees / 360 * PI2;
+	}
+	public static double degreesToHours(double degrees) {
+		return degrees / 360 * 24;
+	}
+	
+	public static double radiansToDegrees(double radians) {
+		return radians / PI2 * 360;
+	}
+	public static double radiansToHours(double radians) {
+		return radians / PI2 * 24;
+	}
+	
+	public static double hoursToDegrees(double hours) {
+		return hours / 24 * 360;
+	}
+	public static double hoursToRadians(double hours) {
+		return hours / 24 * PI2;
+	}
+	
+	public static double dmsToDegrees(int degrees, int arcminutes, double arcseconds) {
+		return degrees + arcminutes/60.0 + arcseconds/3600.0;
+	}
+	public static double hmsToHours(int hours, int minutes, double seconds) {
+		return hours + minutes / 60.0 + seconds / 3600.0;
+	}
+	
+	// --- Normalization ------------------------------------------------------
+	
+	/**
+	 * Returns the angle in the range [0, 360].
+	 */
+	public static double normalizeDegrees(double degrees) {
+		if (degrees < 0)
+			return degrees % 360 + 360;
+		else if (degrees > 360)
+			return degrees % 360;
+		else
+			return degrees;
+	}
+	
+	/**
+	 * Returns the angle in the range [0, 2 PI].
+	 */
+	public static double normalizeRadians(double radians) {
+		while (radians < 0)
+			radians += PI2;
+		while (radians > PI2)
+			radians -= PI2;
+		return radians;
+	}
+	
+	/**
+	 * Returns the angle in the range [0, 24].
+	 */
+	public static double normalizeHours(double hours) {
+		if (hours < 0)
+			return hours % 24 + 24;
+		else if (hours > 24)
+			return hours % 24;
+		else
+			return hours;
+	}
+	
+	// --- Trigonometry -------------------------------------------------------
+	
+	public static double sinDegrees(double degrees) {
+		return Math.sin(degreesToRadians(degrees));
+	}
+	public static double cosDegrees(double degrees) {
+		return Math.cos(degreesToRadians(degrees));
+	}
+	public static double tanDegrees(double degrees) {
+		return Math.tan(degreesToRadians(degrees));
+	}
+	
+	/**
+	 * Inverse functions returning degrees.
+	 */
+	public static double asinDegrees(double x) {
+		return radiansToDegrees(Math.asin(x));
+	}
+	public static double acosDegrees(double x) {
+		return radiansToDegrees(Math.acos(x));
+	}
+	public static double atanDegrees(double x) {
+		return radiansToDegrees(Math.atan(x));
+	}
+	public static double atan2Degrees(double y, double x) {
+		return radiansToDegrees(Math.atan2(y, x));
+	}
+	
+}
@@ -16,34 +16,40 @@ public class Degrees extends Angle {
 		return new Degrees(value);
 	}
 	public static Degrees of(int degrees, int arcminutes, double arcseconds) {
-		return of(degrees + arcminutes/60.0 + arcseconds/3600.0);
+		return of(AngleMath.dmsToDegrees(degrees, arcminutes, arcseconds));
 	}
 	
 	public Degrees normalize() {
-		if (this.value < 0)
-			return new Degrees(this.value % 360 + 360);
-		else if (this.value > 360)
-			return new Degrees(this.value % 360);
-		else
-			return this;
+		double normalized = AngleMath.normalizeDegrees(this.value);
+		return (normalized == this.value) ? this : new Degrees(normalized);
 	}
 	
 	public Degrees add(Angle angle) {
-		return new Degrees(this.value + angle.toDegrees().value());
+		return new Degrees(this.value + angle.degreesValue());
 	}
 		
 	public Degrees subtract(Angle angle) {
-		return new Degrees(this.value - angle.toDegrees().value());
+		return new Degrees(this.value - angle.degreesValue());
 	}
 	
 	public Degrees toDegrees() {
 		return this;
 	}
 	public Radians toRadians() {
-		return Radians.of(this.value / 360 * Radians.PI2);
+		return Radians.of(radiansValue());
 	}
 	public Hours toHours() {
-		return Hours.of(this.value / 360 * 24);
+		return Hours.of(hoursValue());
+	}
+	
+	public double degreesValue() {
+		return value;
+	}
+	public double radiansValue() {
+		return AngleMath.degreesToRadians(value);
+	}
+	public double hoursValue() {
+		return AngleMath.degreesToHours(value);
 	}
 	public Degrees cast(Angle angle) {
 		return angle.toDegrees();
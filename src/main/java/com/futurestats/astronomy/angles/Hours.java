@@ -20,9 +20,7 @@ public class Hours extends Angle {
 		return new Hours(value);
 	}
 	public static Hours of(int hours, int minutes, double seconds) {
-		return of(hours + 
-				  minutes / 60.0 + 
-				  seconds / 3600.0);
+		return of(AngleMath.hmsToHours(hours, minutes, seconds));
 	}
 	public static Hours of(int hours, int minutes, int seconds, double nanos) {
 		return of(hours, minutes, seconds+nanos);
@@ -32,30 +30,36 @@ public class Hours extends Angle {
 	}
 	
 	public Hours normalize() {
-		if (this.value < 0)
-			return new Hours(this.value % 24 + 24);
-		else if (this.value > 24)
-			return new Hours(this.value % 24);
-		else
-			return this;
+		double normalized = AngleMath.normalizeHours(this.value);
+		return (normalized == this.value) ? this : new Hours(normalized);
 	}
 	
 	public Hours add(Angle angle) {
-		return new Hours(this.value + angle.toHours().value());
+		return new Hours(this.value + angle.hoursValue());
 	}
 		
 	public Hours subtract(Angle angle) {
-		return new Hours(this.value - angle.toHours().value());
+		return new Hours(this.value - angle.hoursValue());
 	}
 	
 	public Hours toHours() {
 		return this;
 	}
 	public Degrees toDegrees() {
-		return Degrees.of(this.value / 24 * 360);
+		return Degrees.of(degreesValue());
 	}
 	public Radians toRadians() {
-		return Radians.of(this.value / 24 * Radians.PI2);
+		return Radians.of(radiansValue());
+	}
+	
+	public double degreesValue() {
+		return AngleMath.hoursToDegrees(value);
+	}
+	public double radiansValue() {
+		return AngleMath.hoursToRadians(value);
+	}
+	public double hoursValue() {
+		return value;
 	}
 	public Hours cast(Angle angle) {
 		return angle.toHours();
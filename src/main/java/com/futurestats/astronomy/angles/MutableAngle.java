@@ -0,0 +1,102 @@
+package com.futurestats.astronomy.angles;
+
+/**
+ * A reusable angle for tight loops.  Angle objects are immutable, so adding
+ * up or normalizing them creates a new object at each step.  A MutableAngle
+ * keeps its value (in degrees) in a field that is updated in place and the
+ * methods return 'this' so calls can be chained:
+ * 
+ *   MutableAngle lmst = new MutableAngle();
+ *   for (...) {
+ *     double hours = lmst.set(gmst[i]).add(longitude).normalize().hours();
+ *   }
+ * 
+ * This is not an Angle itself (an Angle that could change would surprise
+ * anyone holding on to it) but it converts to and from one.  Instances are
+ * not thread-safe.
+ */
+public class MutableAngle {
+
+	private double degrees;
+	
+	public MutableAngle() {
+		this(0);
+	}
+	public MutableAngle(double degrees) {
+		this.degrees = degrees;
+	}
+	
+	public MutableAngle set(double degrees) {
+		this.degrees = degrees;
+		return this;
+	}
+	public MutableAngle set(Angle angle) {
+		this.degrees = angle.degreesValue();
+		return this;
+	}
+	public MutableAngle setRadians(double radians) {
+		this.degrees = AngleMath.radiansToDegrees(radians);
+		return this;
+	}
+	public MutableAngle setHours(double hours) {
+		this.degrees = AngleMath.hoursToDegrees(hours);
+		return this;
+	}
+	
+	public MutableAngle add(double degrees) {
+		this.degrees += degrees;
+		return this;
+	}
+	public MutableAngle add(Angle angle) {
+		this.degrees += angle.degreesValue();
+		return this;
+	}
+	public MutableAngle subtract(double degrees) {
+		this.degrees -= degrees;
+		return this;
+	}
+	public MutableAngle subtract(Angle angle) {
+		this.degrees -= angle.degreesValue();
+		return this;
+	}
+	
+	/**
+	 * Normalizes the angle to the range [0, 360] degrees.
+	 */
+	public MutableAngle normalize() {
+		this.degrees = AngleMath.normalizeDegrees(this.degrees);
+		return this;
+	}
+	
+	public double degrees() {
+		return degrees;
+	}
+	public double radians() {
+		return AngleMath.degreesToRadians(degrees);
+	}
+	public double hours() {
+		return AngleMath.degreesToHours(degrees);
+	}
+	
+	public double sin() {
+		return Math.sin(radians());
+	}
+	public double cos() {
+		return Math.cos(radians());
+	}
+	public double tan() {
+		return Math.tan(radians());
+	}
+	
+	/**
+	 * Returns the current value as an (immutable) Degrees object.
+	 */
+	public Degrees toAngle() {
+		return Degrees.of(degrees);
+	}
+	
+	public String toString() {
+		return String.valueOf(degrees) + " (degrees)";
+	}
+	
+}
@@ -19,40 +19,36 @@ public class Radians extends Angle {
 	}
 	
 	public Radians normalize() {
-		if (this.value < 0) {
-			double v2 = value;
-			while (v2 < 0)
-				v2 += PI2;
-			return new Radians(v2);
-		}
-		else if (this.value > PI2) {
-			double v2 = value;
-			while (v2 > PI2)
-				v2 -= PI2;
-			return new Radians(v2);
-		}
-		else {
-			return this;
-		}
-		
+		double normalized = AngleMath.normalizeRadians(this.value);
+		return (normalized == this.value) ? this : new Radians(normalized);
 	}
 	
 	public Radians add(Angle angle) {
-		return new Radians(this.value + angle.toRadians().value());
+		return new Radians(this.value + angle.radiansValue());
 	}
 		
 	public Radians subtract(Angle angle) {
-		return new Radians(this.value - angle.toRadians().value());
+		return new Radians(this.value - angle.radiansValue());
 	}
 	
 	public Radians toRadians() {
 		return this;
 	}
 	public Degrees toDegrees() {
-		return Degrees.of(this.value / PI2 * 360);
+		return Degrees.of(degreesValue());
 	}
 	public Hours toHours() {
-		return Hours.of(this.value / PI2 * 24);
+		return Hours.of(hoursValue());
+	}
+	
+	public double degreesValue() {
+		return AngleMath.radiansToDegrees(value);
+	}
+	public double radiansValue() {
+		return value;
+	}
+	public double hoursValue() {
+		return AngleMath.radiansToHours(value);
 	}
 	public Radians cast(Angle angle) {
 		return angle.toRadians();
@@ -9,6 +9,7 @@ import java.time.ZonedDateTime;
 import com.futurestats.astronomy.GeoContext;
 import com.futurestats.astronomy.SiderealTime;
 import com.futurestats.astronomy.SunriseSunsetCalculator;
+import com.futurestats.astronomy.SunriseSunsetTable;
 import com.futurestats.astronomy.angles.Angle;
 import com.futurestats.astronomy.angles.Hours;
 
@@ -31,16 +32,23 @@ public class DailyChartMaker {
 	
 	public void printChartForYear(int year, PrintStream out) {
 		
-		SunriseSunsetCalculator ssCalc = new SunriseSunsetCalculator(context);
-		
 		LocalDate date = LocalDate.of(year, 1, 1);
+		
+		SunriseSunsetTable ssTable = new SunriseSunsetTable(new GeoContext[] {context});
+		double [] sunriseHours = new double[date.lengthOfYear()];
+		double [] sunsetHours = new double[date.lengthOfYear()];
+		ssTable.computeHours(date, date.lengthOfYear(), sunriseHours, sunsetHours);
+		
+		Hours maxEspLmst = Hours.of(13.5);
+		long [] maxEspNanos = SiderealTime.lmstToLocalTimes(maxEspLmst, context.getLongitude(), 
+				context.getZoneId(), date, date.lengthOfYear());
+		
 		do {
-			ZonedDateTime sunrise = ssCalc.calculateSunrise(date);
-			ZonedDateTime sunset  = ssCalc.calculateSunset(date);
+			int day = date.getDayOfYear() - 1;
+			ZonedDateTime sunrise = SunriseSunsetCalculator.toZonedDateTime(date, sunriseHours[day], context.getZoneId());
+			ZonedDateTime sunset  = SunriseSunsetCalculator.toZonedDateTime(date, sunsetHours[day], context.getZoneId());
 			
-			Hours maxEspLmst = Hours.of(13.5);
-			LocalTime maxEspLocal = SiderealTime.lmstToLocalTime(
-					maxEspLmst, date, context.getLongitude());
+			LocalTime maxEspLocal = LocalTime.ofNanoOfDay(maxEspNanos[day]);
 			
 			Hours lmstOffset = maxEspLmst.subtract(Hours.from(maxEspLocal));
 			double offsetValue = lmstOffset.normalize().value();
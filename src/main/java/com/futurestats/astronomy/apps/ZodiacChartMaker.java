@@ -56,7 +56,7 @@ public class ZodiacChartMaker {
 
 			Angle ra = coord2.getRightAscension().normalize();
 			
-			int days = (int)(ra.toDegrees().value() / 360 * 365);
+			int days = (int)(ra.degreesValue() / 360 * 365);
 			LocalDate date = start.plusDays(days);
 			
 			System.out.println(HOUSES[i] + " (" + (i*30) + " long): " + ra + ", " + ra.toHmsString() + ", " + date.toString());
@@ -0,0 +1,226 @@
+package com.futurestats.astronomy.catalog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.futurestats.astronomy.EquatorialCoordinate;
+
+/**
+ * A read-only star catalog backed by a memory-mapped file written by 
+ * StarCatalogWriter (see StarCatalogFormat for the layout).
+ * 
+ * Opening a catalog only reads its header, and values are read in place
+ * from the mapped columns, so start-up time and heap use do not depend on
+ * the size of the catalog.  The operating system pages the file in as it
+ * is used.  Bulk reads copy a range of one column into an array so the
+ * batch kernels (e.g. Chapter13.equatorialToEcliptic()) can process the
+ * catalog in chunks.
+ * 
+ * A catalog can be read from several threads at once: single values use
+ * absolute gets and the bulk readers work on a duplicate() of the column,
+ * so the shared buffers' positions never change.
+ * 
+ * close() releases the file channel; the mappings themselves are released
+ * by the garbage collector and the catalog must not be used after it is
+ * closed.
+ */
+public class MappedStarCatalog implements Closeable {
+
+	private final FileChannel channel;
+	private final int size;
+	
+	private final LongBuffer id;
+	private final DoubleBuffer ra;
+	private final DoubleBuffer dec;
+	private final FloatBuffer magnitude;
+	private final FloatBuffer pmRa;
+	private final FloatBuffer pmDec;
+	
+	private MappedStarCatalog(FileChannel channel) throws IOException {
+		this.channel = channel;
+		
+		ByteBuffer header = ByteBuffer.allocate(StarCatalogFormat.HEADER_SIZE).order(StarCatalogFormat.BYTE_ORDER);
+		while (header.hasRemaining()) {
+			if (channel.read(header, header.position()) < 0)
+				throw new IOException("Truncated star catalog header");
+		}
+		header.flip();
+		
+		if (header.getInt() != StarCatalogFormat.MAGIC)
+			throw new IOException("Not a star catalog file");
+		int version = header.getInt();
+		if (version != StarCatalogFormat.VERSION)
+			throw new IOException("Unsupported star catalog version: " + version);
+		
+		long rows = header.getLong();
+		if (rows < 0)
+			throw new IOException("Invalid star catalog size: " + rows);
+		if (rows > StarCatalogFormat.MAX_ROWS)
+			throw new IOException("Star catalog is too large to map: " + rows + " rows (at most " 
+					+ StarCatalogFormat.MAX_ROWS + ")");
+		if (channel.size() < StarCatalogFormat.fileSize(rows))
+			throw new IOException("Truncated star catalog: expected " + StarCatalogFormat.fileSize(rows) 
+					+ " bytes but found " + channel.size());
+		
+		this.size = (int)rows;
+		this.id = map(StarCatalogFormat.idOffset(rows), 8 * rows).asLongBuffer();
+		this.ra = map(StarCatalogFormat.raOffset(rows), 8 * rows).asDoubleBuffer();
+		this.dec = map(StarCatalogFormat.decOffset(rows), 8 * rows).asDoubleBuffer();
+		this.magnitude = map(StarCatalogFormat.magnitudeOffset(rows), 4 * rows).asFloatBuffer();
+		this.pmRa = map(StarCatalogFormat.pmRaOffset(rows), 4 * rows).asFloatBuffer();
+		this.pmDec = map(StarCatalogFormat.pmDecOffset(rows), 4 * rows).asFloatBuffer();
+	}
+	
+	private ByteBuffer map(long offset, long length) throws IOException {
+		return channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(StarCatalogFormat.BYTE_ORDER);
+	}
+	
+	/**
+	 * Opens (and maps) the given catalog file.
+	 */
+	public static MappedStarCatalog open(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new MappedStarCatalog(channel);
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+	
+	/**
+	 * Returns the number of stars in the catalog.
+	 */
+	public int size() {
+		return size;
+	}
+	
+	public long getId(int index) {
+		return id.get(index);
+	}
+	
+	/**
+	 * Returns the right ascension in degrees.
+	 */
+	public double getRightAscension(int index) {
+		return ra.get(index);
+	}
+	
+	/**
+	 * Returns the declination in degrees.
+	 */
+	public double getDeclination(int index) {
+		return dec.get(index);
+	}
+	
+	public float getMagnitude(int index) {
+		return magnitude.get(index);
+	}
+	
+	/**
+	 * Returns the proper motion in right ascension * cos(dec) in 
+	 * milliarcseconds per year.
+	 */
+	public float getProperMotionRa(int index) {
+		return pmRa.get(index);
+	}
+	
+	/**
+	 * Returns the proper motion in declination in milliarcseconds per year.
+	 */
+	public float getProperMotionDec(int index) {
+		return pmDec.get(index);
+	}
+	
+	/**
+	 * Returns the position of the star as an EquatorialCoordinate.  This is
+	 * a convenience for single stars; use the bulk readers for many stars.
+	 */
+	public EquatorialCoordinate getCoordinate(int index) {
+		return EquatorialCoordinate.fromDegrees(getRightAscension(index), getDeclination(index));
+	}
+	
+	/**
+	 * Returns the index of the star with the given id or -1 if it is not in
+	 * the catalog.  This is a linear scan of the id column.
+	 */
+	public int indexOf(long id) {
+		for (int i=0; i<size; i++) {
+			if (this.id.get(i) == id)
+				return i;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Copies 'length' ids starting at row 'from' into dest[offset...].
+	 */
+	public void readIds(int from, long [] dest, int offset, int length) {
+		LongBuffer view = id.duplicate();
+		view.position(from);
+		view.get(dest, offset, length);
+	}
+	
+	/**
+	 * Copies 'length' right ascensions (degrees) starting at row 'from' into
+	 * dest[offset...].
+	 */
+	public void readRightAscensions(int from, double [] dest, int offset, int length) {
+		DoubleBuffer view = ra.duplicate();
+		view.position(from);
+		view.get(dest, offset, length);
+	}
+	
+	/**
+	 * Copies 'length' declinations (degrees) starting at row 'from' into
+	 * dest[offset...].
+	 */
+	public void readDeclinations(int from, double [] dest, int offset, int length) {
+		DoubleBuffer view = dec.duplicate();
+		view.position(from);
+		view.get(dest, offset, length);
+	}
+	
+	/**
+	 * Copies 'length' magnitudes starting at row 'from' into dest[offset...].
+	 */
+	public void readMagnitudes(int from, float [] dest, int offset, int length) {
+		FloatBuffer view = magnitude.duplicate();
+		view.position(from);
+		view.get(dest, offset, length);
+	}
+	
+	/**
+	 * Copies 'length' proper motions in right ascension (mas/year) starting
+	 * at row 'from' into dest[offset...].
+	 */
+	public void readProperMotionsRa(int from, float [] dest, int offset, int length) {
+		FloatBuffer view = pmRa.duplicate();
+		view.position(from);
+		view.get(dest, offset, length);
+	}
+	
+	/**
+	 * Copies 'length' proper motions in declination (mas/year) starting at 
+	 * row 'from' into dest[offset...].
+	 */
+	public void readProperMotionsDec(int from, float [] dest, int offset, int length) {
+		FloatBuffer view = pmDec.duplicate();
+		view.position(from);
+		view.get(dest, offset, length);
+	}
+	
+}
@@ -0,0 +1,640 @@
+package com.futurestats.astronomy.catalog;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import com.futurestats.astronomy.EquatorialCoordinate;
+import com.futurestats.astronomy.angles.Angle;
+
+/**
+ * A spatial index over equatorial coordinates for cone and box searches.
+ * 
+ * The sphere is divided into the six faces of a cube and each face is 
+ * divided into 2^level x 2^level pixels (a "quad-cube" like the one used
+ * by the COBE sky maps).  The face coordinates are warped with an arctan
+ * so that pixels are close to the same size.  A pixel id is the face 
+ * number followed by the Morton (Z-order) code of the pixel in the face, 
+ * which makes the ids hierarchical: the parent of a pixel is id >> 2 and 
+ * the pixels inside a pixel at a coarser level form a contiguous range.
+ * 
+ * Rows are sorted by the id of the pixel that contains them.  A query 
+ * walks down from the six faces (using precomputed bounding caps for the
+ * coarser levels), skipping pixels that have no rows or 
+ * whose bounding cap misses the search region.  Pixels that lie entirely 
+ * inside the region are added without looking at their rows and only the
+ * rows in pixels on the border of the region get an exact check.
+ * 
+ * Results are row numbers in the arrays (or catalog) the index was built
+ * from.  build() copies the coordinates into arrays owned by the index and
+ * a query only keeps state in local variables, so concurrent queries on
+ * one index are safe.
+ */
+public class SkyIndex {
+
+	public static final int MAX_LEVEL = 14;
+	
+	/**
+	 * Average number of rows per pixel that build() aims for when no 
+	 * level is given.
+	 */
+	static final int TARGET_ROWS_PER_PIXEL = 32;
+	
+	static final double DEG_TO_RAD = Math.PI / 180;
+	
+	/**
+	 * Bounding caps are precomputed for pixels down to this level (131,070
+	 * pixels, 8 MB) and computed as needed below it.
+	 */
+	static final int CACHED_CAP_LEVEL = 7;
+	
+	static final int CAP_SIZE = 8;
+	
+	static final double CAP_MARGIN = 1e-12;
+	static final double COS_MARGIN = Math.cos(CAP_MARGIN);
+	static final double SIN_MARGIN = Math.sin(CAP_MARGIN);
+	
+	/**
+	 * The (axis, u axis, v axis) unit vectors of each face.
+	 */
+	static final double [][][] FACES = {
+		{{ 1, 0, 0}, { 0, 1, 0}, { 0, 0, 1}},
+		{{ 0, 1, 0}, {-1, 0, 0}, { 0, 0, 1}},
+		{{-1, 0, 0}, { 0,-1, 0}, { 0, 0, 1}},
+		{{ 0,-1, 0}, { 1, 0, 0}, { 0, 0, 1}},
+		{{ 0, 0, 1}, { 0, 1, 0}, {-1, 0, 0}},
+		{{ 0, 0,-1}, { 0, 1, 0}, { 1, 0, 0}}
+	};
+	
+	private final int level;
+	
+	/**
+	 * Pixel id (at 'level') of each row in sorted order.
+	 */
+	private final int [] pixels;
+	
+	/**
+	 * Original row number of each sorted row.
+	 */
+	private final int [] rows;
+	
+	/**
+	 * Unit vectors of the sorted rows.
+	 */
+	private final double [] x;
+	private final double [] y;
+	private final double [] z;
+	
+	/**
+	 * Bounding caps (see boundingCap()) of every pixel down to level
+	 * min(level, CACHED_CAP_LEVEL), CAP_SIZE values per pixel, ordered by 
+	 * level and then pixel id.
+	 */
+	private final double [] caps;
+	private final int cachedLevel;
+	
+	/**
+	 * Index of the first sorted row of each pixel with a cached cap (same 
+	 * order as 'caps').
+	 */
+	private final int [] starts;
+	
+	private SkyIndex(int level, int [] pixels, int [] rows, double [] x, double [] y, double [] z) {
+		this.level = level;
+		this.pixels = pixels;
+		this.rows = rows;
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		
+		this.cachedLevel = Math.min(level, CACHED_CAP_LEVEL);
+		this.caps = new double[CAP_SIZE * capOffset(cachedLevel + 1)];
+		this.starts = new int[capOffset(cachedLevel + 1)];
+		double [] cap = new double[CAP_SIZE];
+		for (int l=0; l<=cachedLevel; l++) {
+			int offset = capOffset(l);
+			for (int pixel=0; pixel < 6 << (2 * l); pixel++) {
+				boundingCap(pixel, l, cap);
+				System.arraycopy(cap, 0, caps, CAP_SIZE * (offset + pixel), CAP_SIZE);
+				starts[offset + pixel] = lowerBound((long)pixel << (2 * (level - l)), 0, pixels.length);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the number of pixels in the levels above 'pixelLevel'.
+	 */
+	static int capOffset(int pixelLevel) {
+		return 2 * ((1 << (2 * pixelLevel)) - 1);
+	}
+	
+	/**
+	 * Copies (or computes) the bounding cap of a pixel into 'cap'.
+	 */
+	void getCap(int pixel, int pixelLevel, double [] cap) {
+		if (pixelLevel <= cachedLevel)
+			System.arraycopy(caps, CAP_SIZE * (capOffset(pixelLevel) + pixel), cap, 0, CAP_SIZE);
+		else
+			boundingCap(pixel, pixelLevel, cap);
+	}
+	
+	/**
+	 * Builds an index for columns of right ascension and declination (in
+	 * degrees) choosing the level from the number of rows.
+	 */
+	public static SkyIndex build(double [] ra, double [] dec) {
+		return build(ra, dec, levelFor(ra.length));
+	}
+	
+	/**
+	 * Builds an index for columns of right ascension and declination (in 
+	 * degrees) with pixels at the given level (0 to MAX_LEVEL).
+	 */
+	public static SkyIndex build(double [] ra, double [] dec, int level) {
+		if (level < 0 || level > MAX_LEVEL)
+			throw new IllegalArgumentException("Invalid level: " + level);
+		if (ra.length != dec.length)
+			throw new IllegalArgumentException("Column lengths differ: " + ra.length + " != " + dec.length);
+		
+		int n = ra.length;
+		
+		//sort (pixel, row) pairs packed into longs
+		long [] keys = new long[n];
+		for (int i=0; i<n; i++)
+			keys[i] = ((long)pixelFor(ra[i], dec[i], level) << 32) | i;
+		Arrays.parallelSort(keys);
+		
+		int [] pixels = new int[n];
+		int [] rows = new int[n];
+		double [] x = new double[n];
+		double [] y = new double[n];
+		double [] z = new double[n];
+		for (int k=0; k<n; k++) {
+			int row = (int)keys[k];
+			pixels[k] = (int)(keys[k] >>> 32);
+			rows[k] = row;
+			
+			double alpha = ra[row] * DEG_TO_RAD;
+			double delta = dec[row] * DEG_TO_RAD;
+			double cos_delta = Math.cos(delta);
+			x[k] = cos_delta * Math.cos(alpha);
+			y[k] = cos_delta * Math.sin(alpha);
+			z[k] = Math.sin(delta);
+		}
+		
+		return new SkyIndex(level, pixels, rows, x, y, z);
+	}
+	
+	/**
+	 * Builds an index for all of the stars in a catalog.
+	 */
+	public static SkyIndex build(MappedStarCatalog catalog) {
+		int n = catalog.size();
+		double [] ra = new double[n];
+		double [] dec = new double[n];
+		catalog.readRightAscensions(0, ra, 0, n);
+		catalog.readDeclinations(0, dec, 0, n);
+		return build(ra, dec);
+	}
+	
+	/**
+	 * Returns the level that gives about TARGET_ROWS_PER_PIXEL rows per 
+	 * pixel.
+	 */
+	static int levelFor(int rows) {
+		int level = 0;
+		long pixels = 6;
+		while (level < MAX_LEVEL && pixels * TARGET_ROWS_PER_PIXEL < rows) {
+			level++;
+			pixels *= 4;
+		}
+		return level;
+	}
+	
+	public int size() {
+		return rows.length;
+	}
+	
+	public int getLevel() {
+		return level;
+	}
+	
+	/**
+	 * Returns the id of the pixel at the given level that contains the 
+	 * point with the given right ascension and declination (in degrees).
+	 */
+	public static int pixelFor(double ra, double dec, int level) {
+		double alpha = ra * DEG_TO_RAD;
+		double delta = dec * DEG_TO_RAD;
+		double cos_delta = Math.cos(delta);
+		return pixelFor(cos_delta * Math.cos(alpha), cos_delta * Math.sin(alpha), Math.sin(delta), level);
+	}
+	
+	/**
+	 * Returns the id of the pixel at the given level that contains the 
+	 * given unit vector.
+	 */
+	static int pixelFor(double x, double y, double z, int level) {
+		double ax = Math.abs(x);
+		double ay = Math.abs(y);
+		double az = Math.abs(z);
+		
+		int face;
+		if (ax >= ay && ax >= az)
+			face = (x >= 0) ? 0 : 2;
+		else if (ay >= az)
+			face = (y >= 0) ? 1 : 3;
+		else
+			face = (z >= 0) ? 4 : 5;
+		
+		double [][] axes = FACES[face];
+		double w = x * axes[0][0] + y * axes[0][1] + z * axes[0][2];
+		double u = (x * axes[1][0] + y * axes[1][1] + z * axes[1][2]) / w;
+		double v = (x * axes[2][0] + y * axes[2][1] + z * axes[2][2]) / w;
+		
+		int size = 1 << level;
+		int i = cellFor(u, size);
+		int j = cellFor(v, size);
+		return (face << (2 * level)) | interleave(i, j);
+	}
+	
+	/**
+	 * Converts a face coordinate (-1 to 1) to a cell number (0 to size-1).
+	 */
+	static int cellFor(double u, int size) {
+		double a = Math.atan(u) * (4 / Math.PI);
+		int cell = (int)((a + 1) * 0.5 * size);
+		return Math.max(0, Math.min(size - 1, cell));
+	}
+	
+	/**
+	 * Interleaves the bits of i (even bits) and j (odd bits).
+	 */
+	static int interleave(int i, int j) {
+		return spread(i) | (spread(j) << 1);
+	}
+	
+	static int spread(int v) {
+		v &= 0xFFFF;
+		v = (v | (v << 8)) & 0x00FF00FF;
+		v = (v | (v << 4)) & 0x0F0F0F0F;
+		v = (v | (v << 2)) & 0x33333333;
+		v = (v | (v << 1)) & 0x55555555;
+		return v;
+	}
+	
+	static int compact(int v) {
+		v &= 0x55555555;
+		v = (v | (v >>> 1)) & 0x33333333;
+		v = (v | (v >>> 2)) & 0x0F0F0F0F;
+		v = (v | (v >>> 4)) & 0x00FF00FF;
+		v = (v | (v >>> 8)) & 0x0000FFFF;
+		return v;
+	}
+	
+	/**
+	 * Computes the bounding cap of a pixel as {x, y, z, cos(radius), 
+	 * sin(radius), ra, dec, radius} where (x, y, z) is the unit vector of
+	 * the pixel center, (ra, dec) is the same point in degrees and 'radius'
+	 * is the angle (in degrees) to its farthest corner.  Pixel edges are 
+	 * great circles so the cap contains the whole pixel.  The radius is 
+	 * padded by CAP_MARGIN so rows that were rounded into a neighboring 
+	 * pixel are still covered.
+	 */
+	static void boundingCap(int pixel, int level, double [] cap) {
+		int size = 1 << level;
+		int face = pixel >>> (2 * level);
+		int morton = pixel & ((1 << (2 * level)) - 1);
+		int i = compact(morton);
+		int j = compact(morton >>> 1);
+		
+		double [][] axes = FACES[face];
+		double scale = Math.PI / 4;
+		double u0 = Math.tan((-1 + 2.0 * i / size) * scale);
+		double u1 = Math.tan((-1 + 2.0 * (i + 1) / size) * scale);
+		double v0 = Math.tan((-1 + 2.0 * j / size) * scale);
+		double v1 = Math.tan((-1 + 2.0 * (j + 1) / size) * scale);
+		double uc = Math.tan((-1 + (2.0 * i + 1) / size) * scale);
+		double vc = Math.tan((-1 + (2.0 * j + 1) / size) * scale);
+		
+		faceVector(axes, uc, vc, cap);
+		double cx = cap[0];
+		double cy = cap[1];
+		double cz = cap[2];
+		
+		//the corner farthest from the center has the smallest dot product
+		double minDot = 1;
+		for (int corner=0; corner<4; corner++) {
+			faceVector(axes, (corner & 1) == 0 ? u0 : u1, (corner & 2) == 0 ? v0 : v1, cap);
+			minDot = Math.min(minDot, cap[0] * cx + cap[1] * cy + cap[2] * cz);
+		}
+		
+		double cos = Math.max(-1, Math.min(1, minDot));
+		double sin = Math.sqrt(1 - cos * cos);
+		
+		cap[0] = cx;
+		cap[1] = cy;
+		cap[2] = cz;
+		cap[3] = cos * COS_MARGIN - sin * SIN_MARGIN;
+		cap[4] = sin * COS_MARGIN + cos * SIN_MARGIN;
+		cap[5] = Math.atan2(cy, cx) / DEG_TO_RAD;
+		cap[6] = Math.atan2(cz, Math.sqrt(cx * cx + cy * cy)) / DEG_TO_RAD;
+		cap[7] = Math.atan2(cap[4], cap[3]) / DEG_TO_RAD;
+	}
+	
+	/**
+	 * Writes the unit vector for face coordinates (u, v) to the first
+	 * three elements of 'out'.
+	 */
+	static void faceVector(double [][] axes, double u, double v, double [] out) {
+		double vx = axes[0][0] + u * axes[1][0] + v * axes[2][0];
+		double vy = axes[0][1] + u * axes[1][1] + v * axes[2][1];
+		double vz = axes[0][2] + u * axes[1][2] + v * axes[2][2];
+		double norm = 1 / Math.sqrt(vx * vx + vy * vy + vz * vz);
+		out[0] = vx * norm;
+		out[1] = vy * norm;
+		out[2] = vz * norm;
+	}
+	
+	/**
+	 * Returns the index of the first sorted row in [low, high) with a pixel
+	 * id of at least 'pixel' (or 'high' if there is none).
+	 */
+	int lowerBound(long pixel, int low, int high) {
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (pixels[mid] < pixel)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+	
+	/**
+	 * Returns the index of the first sorted row in the given pixel (or in
+	 * a later pixel if it is empty).  'low' and 'high' bound the search if
+	 * the pixel is below the cached levels.
+	 */
+	int pixelStart(int pixel, int pixelLevel, int low, int high) {
+		if (pixelLevel <= cachedLevel)
+			return (pixel < 6 << (2 * pixelLevel)) ? starts[capOffset(pixelLevel) + pixel] : pixels.length;
+		return lowerBound((long)pixel << (2 * (level - pixelLevel)), low, high);
+	}
+	
+	// --- cone search --------------------------------------------------------
+	
+	/**
+	 * Returns the rows within 'radius' of the given center.
+	 */
+	public int [] coneSearch(EquatorialCoordinate center, Angle radius) {
+		return coneSearch(center.getRightAscension().degreesValue(), 
+				center.getDeclination().degreesValue(), 
+				radius.degreesValue());
+	}
+	
+	/**
+	 * Returns the rows within 'radius' degrees of the given right ascension
+	 * and declination (in degrees).  Rows are in index order, not catalog 
+	 * order.
+	 */
+	public int [] coneSearch(double ra, double dec, double radius) {
+		IntList result = new IntList();
+		coneSearch(ra, dec, radius, result);
+		return result.toArray();
+	}
+	
+	/**
+	 * Passes each row within 'radius' degrees of the given right ascension
+	 * and declination (in degrees) to 'consumer' and returns the number of
+	 * rows found.
+	 */
+	public int coneSearch(double ra, double dec, double radius, IntConsumer consumer) {
+		double alpha = ra * DEG_TO_RAD;
+		double delta = dec * DEG_TO_RAD;
+		double cos_delta = Math.cos(delta);
+		
+		Cone cone = new Cone();
+		cone.x = cos_delta * Math.cos(alpha);
+		cone.y = cos_delta * Math.sin(alpha);
+		cone.z = Math.sin(delta);
+		double r = Math.max(0, Math.min(radius, 180)) * DEG_TO_RAD;
+		cone.cos = Math.cos(r);
+		cone.sin = Math.sin(r);
+		
+		int count = 0;
+		double [] cap = new double[CAP_SIZE];
+		for (int face=0; face<6; face++)
+			count += coneSearch(face, 0, pixelStart(face, 0, 0, 0), pixelStart(face + 1, 0, 0, 0), cone, cap, consumer);
+		return count;
+	}
+	
+	static class Cone {
+		double x;
+		double y;
+		double z;
+		double cos;		//of the radius
+		double sin;
+	}
+	
+	private int coneSearch(int pixel, int pixelLevel, int start, int end, 
+			Cone cone, double [] cap, IntConsumer consumer) {
+		if (start == end)
+			return 0;
+		
+		//compare the distance between the centers with the sum/difference
+		//of the radii using cos(a +/- b) so no inverse trig is needed
+		getCap(pixel, pixelLevel, cap);
+		double dot = cap[0] * cone.x + cap[1] * cone.y + cap[2] * cone.z;
+		
+		boolean overlaps = cap[3] <= -cone.cos	//radii add up to 180 degrees or more
+				|| dot >= cone.cos * cap[3] - cone.sin * cap[4];
+		if (!overlaps)
+			return 0;
+		
+		boolean inside = cone.sin * cap[3] >= cone.cos * cap[4]	//cone radius >= cap radius
+				&& dot >= cone.cos * cap[3] + cone.sin * cap[4];
+		if (inside) {
+			for (int k=start; k<end; k++)
+				consumer.accept(rows[k]);
+			return end - start;
+		}
+		
+		if (pixelLevel == level) {
+			int count = 0;
+			for (int k=start; k<end; k++) {
+				if (x[k] * cone.x + y[k] * cone.y + z[k] * cone.z >= cone.cos) {
+					consumer.accept(rows[k]);
+					count++;
+				}
+			}
+			return count;
+		}
+		
+		//the children's rows are consecutive ranges inside this pixel's
+		int count = 0;
+		int childStart = start;
+		for (int child=0; child<4; child++) {
+			int childPixel = (pixel << 2) | child;
+			int childEnd = (child == 3) ? end : pixelStart(childPixel + 1, pixelLevel + 1, childStart, end);
+			count += coneSearch(childPixel, pixelLevel + 1, childStart, childEnd, cone, cap, consumer);
+			childStart = childEnd;
+		}
+		return count;
+	}
+	
+	// --- box search ---------------------------------------------------------
+	
+	/**
+	 * Returns the rows with right ascension from raMin to raMax and 
+	 * declination from decMin to decMax (all in degrees).  If raMin is 
+	 * greater than raMax the box wraps through 0 hours.  Rows are in index
+	 * order, not catalog order.
+	 */
+	public int [] boxSearch(double raMin, double raMax, double decMin, double decMax) {
+		IntList result = new IntList();
+		boxSearch(raMin, raMax, decMin, decMax, result);
+		return result.toArray();
+	}
+	
+	/**
+	 * Passes each row in the given box (see boxSearch()) to 'consumer' and
+	 * returns the number of rows found.
+	 */
+	public int boxSearch(double raMin, double raMax, double decMin, double decMax, IntConsumer consumer) {
+		Box box = new Box();
+		box.raStart = normalize(raMin);
+		box.raWidth = (raMax - raMin >= 360) ? 360 : normalize(raMax - raMin);
+		box.decMin = decMin;
+		box.decMax = decMax;
+		box.zMin = Math.sin(Math.max(-90, decMin) * DEG_TO_RAD);
+		box.zMax = Math.sin(Math.min(90, decMax) * DEG_TO_RAD);
+		box.cosStart = Math.cos(box.raStart * DEG_TO_RAD);
+		box.sinStart = Math.sin(box.raStart * DEG_TO_RAD);
+		box.cosEnd = Math.cos((box.raStart + box.raWidth) * DEG_TO_RAD);
+		box.sinEnd = Math.sin((box.raStart + box.raWidth) * DEG_TO_RAD);
+		
+		int count = 0;
+		double [] cap = new double[CAP_SIZE];
+		for (int face=0; face<6; face++)
+			count += boxSearch(face, 0, pixelStart(face, 0, 0, 0), pixelStart(face + 1, 0, 0, 0), box, cap, consumer);
+		return count;
+	}
+	
+	static class Box {
+		double raStart;
+		double raWidth;
+		double decMin;
+		double decMax;
+		double zMin;
+		double zMax;
+		
+		//directions of the RA limits
+		double cosStart;
+		double sinStart;
+		double cosEnd;
+		double sinEnd;
+		
+		/**
+		 * Returns true if the right ascension of (x, y) is in the box.  This
+		 * checks which side of the limiting meridians the point is on 
+		 * instead of computing its right ascension.
+		 */
+		boolean containsRa(double x, double y) {
+			if (raWidth >= 360)
+				return true;
+			
+			boolean afterStart = cosStart * y - sinStart * x >= 0;
+			boolean beforeEnd = x * sinEnd - y * cosEnd >= 0;
+			return (raWidth <= 180) ? (afterStart && beforeEnd) : (afterStart || beforeEnd);
+		}
+	}
+	
+	static double normalize(double deg) {
+		double result = deg - 360 * Math.floor(deg / 360);
+		return (result >= 360) ? 0 : result;
+	}
+	
+	private int boxSearch(int pixel, int pixelLevel, int start, int end, 
+			Box box, double [] cap, IntConsumer consumer) {
+		if (start == end)
+			return 0;
+		
+		//RA/Dec bounding box of the pixel's bounding cap
+		getCap(pixel, pixelLevel, cap);
+		double capRadius = cap[7];
+		double capDec = cap[6];
+		double capDecMin = capDec - capRadius;
+		double capDecMax = capDec + capRadius;
+		
+		if (capDecMax < box.decMin || capDecMin > box.decMax)
+			return 0;
+		
+		double capRa = cap[5];
+		double halfWidth = 180;
+		if (capDecMax < 90 && capDecMin > -90) {
+			double sinHalfWidth = Math.min(1, cap[4] / Math.cos(capDec * DEG_TO_RAD));
+			halfWidth = Math.atan2(sinHalfWidth, Math.sqrt(1 - sinHalfWidth * sinHalfWidth)) / DEG_TO_RAD;
+		}
+		
+		double capRaStart = normalize(capRa - halfWidth);
+		boolean raOverlaps = box.raWidth >= 360 || halfWidth >= 180 
+				|| normalize(capRaStart - box.raStart) <= box.raWidth
+				|| normalize(box.raStart - capRaStart) <= 2 * halfWidth;
+		if (!raOverlaps)
+			return 0;
+		
+		boolean inside = capDecMin >= box.decMin && capDecMax <= box.decMax
+				&& (box.raWidth >= 360 
+					|| (halfWidth < 180 && normalize(capRaStart - box.raStart) + 2 * halfWidth <= box.raWidth));
+		if (inside) {
+			for (int k=start; k<end; k++)
+				consumer.accept(rows[k]);
+			return end - start;
+		}
+		
+		if (pixelLevel == level) {
+			int count = 0;
+			for (int k=start; k<end; k++) {
+				if (z[k] >= box.zMin && z[k] <= box.zMax 
+						&& box.containsRa(x[k], y[k])) {
+					consumer.accept(rows[k]);
+					count++;
+				}
+			}
+			return count;
+		}
+		
+		//the children's rows are consecutive ranges inside this pixel's
+		int count = 0;
+		int childStart = start;
+		for (int child=0; child<4; child++) {
+			int childPixel = (pixel << 2) | child;
+			int childEnd = (child == 3) ? end : pixelStart(childPixel + 1, pixelLevel + 1, childStart, end);
+			count += boxSearch(childPixel, pixelLevel + 1, childStart, childEnd, box, cap, consumer);
+			childStart = childEnd;
+		}
+		return count;
+	}
+	
+	/**
+	 * Growable list of row numbers.
+	 */
+	static class IntList implements IntConsumer {
+		
+		int [] values = new int[64];
+		int size;
+		
+		@Override
+		public void accept(int value) {
+			if (size == values.length)
+				values = Arrays.copyOf(values, size * 2);
+			values[size++] = value;
+		}
+		
+		int [] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+		
+	}
+	
+}
@@ -0,0 +1,69 @@
+package com.futurestats.astronomy.catalog;
+
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the binary star catalog files written by StarCatalogWriter and
+ * read by MappedStarCatalog.
+ * 
+ * The file starts with a 32 byte header followed by one block per column.
+ * Every value is little-endian.  The wider columns come first, so the
+ * long and double columns start on 8 byte boundaries.  The float columns
+ * are only guaranteed 4 byte alignment: pmRa starts on an 8 byte boundary
+ * only when the row count is even.  The layout is:
+ * 
+ * <pre>
+ *   header   int magic ("STAR"), int version, long row count, 16 bytes reserved
+ *   id       long[n]    catalog number (e.g. HIP or TYC id)
+ *   ra       double[n]  right ascension (degrees, J2000)
+ *   dec      double[n]  declination (degrees, J2000)
+ *   mag      float[n]   visual magnitude
+ *   pmRa     float[n]   proper motion in right ascension * cos(dec) (mas/year)
+ *   pmDec    float[n]   proper motion in declination (mas/year)
+ * </pre>
+ */
+class StarCatalogFormat {
+
+	static final int MAGIC = 0x53544152;	//"STAR"
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 32;
+	
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+	
+	static final int BYTES_PER_ROW = 8 + 8 + 8 + 4 + 4 + 4;
+	
+	/**
+	 * Largest number of rows.  Each column is mapped as a single buffer,
+	 * which FileChannel.map() limits to Integer.MAX_VALUE bytes.
+	 */
+	static final int MAX_ROWS = Integer.MAX_VALUE / 8;
+	
+	static long idOffset(long rows) {
+		return HEADER_SIZE;
+	}
+	static long raOffset(long rows) {
+		return HEADER_SIZE + 8 * rows;
+	}
+	static long decOffset(long rows) {
+		return HEADER_SIZE + 16 * rows;
+	}
+	static long magnitudeOffset(long rows) {
+		return HEADER_SIZE + 24 * rows;
+	}
+	static long pmRaOffset(long rows) {
+		return HEADER_SIZE + 28 * rows;
+	}
+	static long pmDecOffset(long rows) {
+		return HEADER_SIZE + 32 * rows;
+	}
+	
+	/**
+	 * Total size of a file with the given number of rows.  The end of the
+	 * file is padded so its size is a multiple of 8.
+	 */
+	static long fileSize(long rows) {
+		long size = HEADER_SIZE + BYTES_PER_ROW * rows;
+		return (size + 7) & ~7L;
+	}
+	
+}
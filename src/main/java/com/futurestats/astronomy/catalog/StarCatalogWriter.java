@@ -0,0 +1,250 @@
+package com.futurestats.astronomy.catalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Collects star catalog rows and writes them in the binary format read by
+ * MappedStarCatalog (see StarCatalogFormat).  Rows are kept in primitive
+ * arrays so that converting a catalog with millions of stars only needs
+ * about 40 bytes per star.
+ * 
+ * Typical use is to convert a CSV file once:
+ * 
+ * <pre>
+ *   StarCatalogWriter.fromCsv(Paths.get("hipparcos.csv")).write(Paths.get("hipparcos.cat"));
+ *   MappedStarCatalog catalog = MappedStarCatalog.open(Paths.get("hipparcos.cat"));
+ * </pre>
+ */
+public class StarCatalogWriter {
+
+	/**
+	 * Column names (case-insensitive) that fromCsv() looks for in the CSV 
+	 * header.  The proper motion columns are optional.
+	 */
+	public static final String [] CSV_COLUMNS = {"id", "ra", "dec", "mag", "pmra", "pmdec"};
+	
+	private static final int WRITE_BUFFER_SIZE = 1 << 16;
+	
+	private int size;
+	private long [] id;
+	private double [] ra;
+	private double [] dec;
+	private float [] magnitude;
+	private float [] pmRa;
+	private float [] pmDec;
+	
+	public StarCatalogWriter() {
+		this(1024);
+	}
+	
+	public StarCatalogWriter(int initialCapacity) {
+		int capacity = Math.max(1, initialCapacity);
+		id = new long[capacity];
+		ra = new double[capacity];
+		dec = new double[capacity];
+		magnitude = new float[capacity];
+		pmRa = new float[capacity];
+		pmDec = new float[capacity];
+	}
+	
+	/**
+	 * Returns the number of rows added so far.
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Adds a star.  Right ascension and declination are in degrees, proper 
+	 * motions in milliarcseconds per year.  A catalog can hold at most
+	 * Integer.MAX_VALUE / 8 stars.
+	 */
+	public StarCatalogWriter add(long id, double ra, double dec, float magnitude, float pmRa, float pmDec) {
+		if (size == StarCatalogFormat.MAX_ROWS)
+			throw new IllegalStateException("Star catalog is full: " + size + " rows");
+		if (size == this.id.length)
+			grow();
+		
+		this.id[size] = id;
+		this.ra[size] = ra;
+		this.dec[size] = dec;
+		this.magnitude[size] = magnitude;
+		this.pmRa[size] = pmRa;
+		this.pmDec[size] = pmDec;
+		size++;
+		return this;
+	}
+	
+	/**
+	 * Adds a star without proper motion.
+	 */
+	public StarCatalogWriter add(long id, double ra, double dec, float magnitude) {
+		return add(id, ra, dec, magnitude, 0, 0);
+	}
+	
+	private void grow() {
+		int capacity = id.length * 2;
+		id = Arrays.copyOf(id, capacity);
+		ra = Arrays.copyOf(ra, capacity);
+		dec = Arrays.copyOf(dec, capacity);
+		magnitude = Arrays.copyOf(magnitude, capacity);
+		pmRa = Arrays.copyOf(pmRa, capacity);
+		pmDec = Arrays.copyOf(pmDec, capacity);
+	}
+	
+	/**
+	 * Writes the catalog to the given file (replacing it if it exists).
+	 */
+	public void write(Path file) throws IOException {
+		write(file, size, id, ra, dec, magnitude, pmRa, pmDec);
+	}
+	
+	/**
+	 * Writes catalog columns directly to a file.  Each array must have at
+	 * least 'rows' values.  'pmRa' and 'pmDec' may be null.  'rows' can be
+	 * at most Integer.MAX_VALUE / 8 so that MappedStarCatalog can map each
+	 * column.
+	 */
+	public static void write(Path file, int rows, long [] id, double [] ra, double [] dec, float [] magnitude, 
+			float [] pmRa, float [] pmDec) throws IOException {
+		
+		if (rows < 0 || rows > StarCatalogFormat.MAX_ROWS)
+			throw new IllegalArgumentException("Invalid star catalog size: " + rows + " rows (at most " 
+					+ StarCatalogFormat.MAX_ROWS + ")");
+		
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, 
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			
+			ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(StarCatalogFormat.BYTE_ORDER);
+			buffer.putInt(StarCatalogFormat.MAGIC);
+			buffer.putInt(StarCatalogFormat.VERSION);
+			buffer.putLong(rows);
+			buffer.putLong(0);
+			buffer.putLong(0);
+			
+			for (int i=0; i<rows; i++) {
+				flushIfFull(channel, buffer, 8);
+				buffer.putLong(id[i]);
+			}
+			for (int i=0; i<rows; i++) {
+				flushIfFull(channel, buffer, 8);
+				buffer.putDouble(ra[i]);
+			}
+			for (int i=0; i<rows; i++) {
+				flushIfFull(channel, buffer, 8);
+				buffer.putDouble(dec[i]);
+			}
+			for (int i=0; i<rows; i++) {
+				flushIfFull(channel, buffer, 4);
+				buffer.putFloat(magnitude[i]);
+			}
+			for (int i=0; i<rows; i++) {
+				flushIfFull(channel, buffer, 4);
+				buffer.putFloat(pmRa == null ? 0 : pmRa[i]);
+			}
+			for (int i=0; i<rows; i++) {
+				flushIfFull(channel, buffer, 4);
+				buffer.putFloat(pmDec == null ? 0 : pmDec[i]);
+			}
+			
+			long padding = StarCatalogFormat.fileSize(rows) - StarCatalogFormat.HEADER_SIZE 
+					- (long)StarCatalogFormat.BYTES_PER_ROW * rows;
+			for (int i=0; i<padding; i++) {
+				flushIfFull(channel, buffer, 1);
+				buffer.put((byte)0);
+			}
+			
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+	}
+	
+	private static void flushIfFull(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+		if (buffer.remaining() >= needed)
+			return;
+		
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+	
+	/**
+	 * Reads a CSV file with a header row that names (at least) the columns
+	 * id, ra, dec and mag and optionally pmra and pmdec (in any order, 
+	 * case-insensitive).  Other columns are ignored.  Empty proper motions
+	 * are read as 0.
+	 */
+	public static StarCatalogWriter fromCsv(Path csv) throws IOException {
+		try (BufferedReader in = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+			return fromCsv(in);
+		}
+	}
+	
+	/**
+	 * Same as fromCsv(Path) but reads from the given reader.
+	 */
+	public static StarCatalogWriter fromCsv(BufferedReader in) throws IOException {
+		String header = in.readLine();
+		if (header == null)
+			throw new IOException("Missing CSV header");
+		
+		//index of each of CSV_COLUMNS in the file (or -1)
+		String [] names = header.split(",", -1);
+		int [] columns = new int[CSV_COLUMNS.length];
+		Arrays.fill(columns, -1);
+		for (int i=0; i<names.length; i++) {
+			for (int j=0; j<CSV_COLUMNS.length; j++) {
+				if (CSV_COLUMNS[j].equalsIgnoreCase(names[i].trim()))
+					columns[j] = i;
+			}
+		}
+		for (int j=0; j<4; j++) {
+			if (columns[j] < 0)
+				throw new IOException("Missing CSV column: " + CSV_COLUMNS[j]);
+		}
+		
+		StarCatalogWriter writer = new StarCatalogWriter();
+		String line;
+		int lineNumber = 1;
+		while ((line = in.readLine()) != null) {
+			lineNumber++;
+			if (line.isEmpty())
+				continue;
+			
+			String [] values = line.split(",", -1);
+			try {
+				writer.add(
+						Long.parseLong(values[columns[0]].trim()),
+						Double.parseDouble(values[columns[1]].trim()),
+						Double.parseDouble(values[columns[2]].trim()),
+						Float.parseFloat(values[columns[3]].trim()),
+						parseOptional(values, columns[4]),
+						parseOptional(values, columns[5]));
+			}
+			catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+				throw new IOException("Invalid CSV row at line " + lineNumber + ": " + line, e);
+			}
+		}
+		
+		return writer;
+	}
+	
+	private static float parseOptional(String [] values, int column) {
+		if (column < 0 || column >= values.length)
+			return 0;
+		
+		String value = values[column].trim();
+		return value.isEmpty() ? 0 : Float.parseFloat(value);
+	}
+	
+}
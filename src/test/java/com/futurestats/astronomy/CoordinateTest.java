@@ -15,6 +15,25 @@ public class CoordinateTest {
 		example13a();
 	}
 	
+	@Test
+	public void testGalactic() {
+		//the galactic center (Sgr A*) in J2000
+		EquatorialCoordinate x = EquatorialCoordinate.fromDegrees(266.41683, -29.00781);
+		GalacticCoordinate g = x.toGalacticCoordinate();
+		assertEquals(359.94423, g.getLongitude().toDegrees().value(), 1e-4);
+		assertEquals(-0.04608, g.getLatitude().toDegrees().value(), 1e-4);
+		
+		EquatorialCoordinate x2 = g.toEquatorialCoordinate();
+		assertEquals(266.41683, x2.getRightAscension().toDegrees().value(), 1e-9);
+		assertEquals(-29.00781, x2.getDeclination().toDegrees().value(), 1e-9);
+		
+		//Nova Serpentis 1978 in B1950 (exercise in chapter 13)
+		GalacticCoordinate nova = EquatorialCoordinate.fromDegrees(267.248917, -14.718944).toGalacticCoordinateB1950();
+		assertEquals(12.9593, nova.getLongitude().toDegrees().value(), 1e-4);
+		assertEquals(6.0463, nova.getLatitude().toDegrees().value(), 1e-4);
+		assertEquals(267.248917, nova.toEquatorialCoordinateB1950().getRightAscension().toDegrees().value(), 1e-9);
+	}
+	
 	/**
 	 * Example 13a from Astronomical Algorithms.
 	 */
@@ -0,0 +1,64 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Chapter10;
+
+public class DeltaTTableTest {
+
+	@Test
+	public void test() {
+		DeltaTTable table = DeltaTTable.DEFAULT;
+		
+		//interpolated values should track the formula closely (except next
+		//to the years where the formula itself jumps):
+		for (double jd = table.getStart(); jd < table.getEnd(); jd += 17.3) {
+			double year = DeltaTTable.yearFor(jd);
+			if (Math.abs(year - 948) < 1 || Math.abs(year - 1800) < 1 || Math.abs(year - 1900) < 1)
+				continue;
+			
+			double expected = Chapter10.estimateDynamicTimeOffset(year);
+			assertEquals(expected, table.offsetFor(jd), 0.05, "JD " + jd);
+		}
+		
+		//and the yearly estimates where both use the lookup table:
+		for (int year=1620; year<2000; year++) {
+			if (year >= 1800 && year < 1900)
+				continue;
+			
+			double jd = DeltaTTable.jdForYear(year);
+			assertEquals(Chapter10.estimateDynamicTimeOffsetForYear(year), table.offsetFor(jd), 0.05);
+		}
+		
+		//outside of the table the formula is used:
+		double jd = DeltaTTable.jdForYear(-3000);
+		assertEquals(Chapter10.estimateDynamicTimeOffset(-3000), table.offsetFor(jd), 1e-6);
+	}
+	
+	@Test
+	public void testConversions() {
+		DeltaTTable table = DeltaTTable.DEFAULT;
+		
+		int n = 1000;
+		double [] jd = new double[n];
+		for (int i=0; i<n; i++)
+			jd[i] = 2299160.5 + i * 211.7;
+		
+		double [] jde = new double[n];
+		double [] jd2 = new double[n];
+		table.toDynamicalTime(jd, jde);
+		table.toUniversalTime(jde, jd2);
+		
+		for (int i=0; i<n; i++) {
+			assertEquals(table.offsetFor(jd[i]) / 86400, jde[i] - jd[i], 1e-9);
+			assertEquals(jd[i], jd2[i], 1e-9);
+		}
+		
+		//formula 10.2 gives 65 seconds for the year 2000 (observed: 63.8)
+		JulianDate jde2000 = DynamicalTime.toDynamicalTime(JulianDate.J2000);
+		assertEquals(65.0, (jde2000.value() - JulianDate.J2000.value()) * 86400, 1e-3);
+	}
+	
+}
@@ -0,0 +1,68 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Chapter12;
+import com.futurestats.astronomy.algos.meeus.Chapter13;
+import com.futurestats.astronomy.algos.meeus.Structs;
+
+public class HorizontalGridTest {
+
+	@Test
+	public void testMatchesChapter13() {
+		GeoContext context = GeoContext.CINCINNATI;
+		double latitude = context.getLatitude().toDegrees().value();
+		double longitude = context.getLongitude().toDegrees().value();
+		
+		int targets = 200;
+		double [] ra = new double[targets];
+		double [] dec = new double[targets];
+		Random random = new Random(15);
+		for (int i=0; i<targets; i++) {
+			ra[i] = random.nextDouble() * 360;
+			dec[i] = random.nextDouble() * 178 - 89;
+		}
+		
+		JulianDate start = JulianDate.from(2022, 8, 5.0);
+		double step = 1.0 / 96;
+		int count = 96;
+		double [] altitude = new double[targets * count];
+		double [] azimuth = new double[targets * count];
+		new HorizontalGrid(context).compute(ra, dec, start, step, count, altitude, azimuth);
+		
+		double [] jd = new double[count];
+		for (int t=0; t<count; t++)
+			jd[t] = start.value() + t * step;
+		double [] altitude2 = new double[targets * count];
+		new HorizontalGrid(context).compute(ra, dec, jd, altitude2, null);
+		
+		for (int t=0; t<count; t++) {
+			double lmst = Chapter12.gmst(jd[t]) + longitude;
+			for (int i=0; i<targets; i++) {
+				Structs.HorizontalCoordinate expected = Chapter13.equatorialToHorizontal(
+						new Structs.EquatorialCoordinate(ra[i], dec[i]), lmst, latitude);
+				
+				int index = t * targets + i;
+				assertEquals(expected.altitude, altitude[index], 1e-6);
+				assertEquals(expected.altitude, altitude2[index], 1e-9);
+				
+				double diff = azimuth[index] - expected.azimuth;
+				diff -= 360 * Math.floor(diff / 360 + 0.5);
+				//azimuth is sensitive to the sidereal time near the zenith
+				assertEquals(0, diff, 1e-6 / Math.cos(Math.toRadians(expected.altitude)));
+			}
+		}
+	}
+	
+	@Test
+	public void testInvalidColumns() {
+		HorizontalGrid grid = new HorizontalGrid(GeoContext.GREENWICH_GMT);
+		assertThrows(IllegalArgumentException.class, 
+				() -> grid.compute(new double[2], new double[3], new double[1], null, null));
+	}
+	
+}
@@ -0,0 +1,76 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.angles.Degrees;
+
+public class ImmutableSunriseSunsetCalculatorTest {
+	
+	static final GeoContext TROMSO = new GeoContext(Degrees.of(69.65), Degrees.of(18.96), ZoneId.of("Europe/Oslo"));
+	
+	/**
+	 * Every day should give exactly the same time as SunriseSunsetCalculator,
+	 * including polar day and night.
+	 */
+	@Test
+	public void testMatchesCalculator() {
+		ImmutableSunriseSunsetCalculator calc = new ImmutableSunriseSunsetCalculator(GeoContext.CINCINNATI);
+		assertEquals("2022-08-05T06:41:51.227357958-04:00[America/New_York]",
+				calc.calculateSunrise(2022, 8, 5).toString());
+		assertEquals("2022-08-05T20:45:38.687425671-04:00[America/New_York]",
+				calc.calculateSunset(2022, 8, 5).toString());
+		
+		for (GeoContext context : new GeoContext[] {GeoContext.CINCINNATI, TROMSO}) {
+			ImmutableSunriseSunsetCalculator civil = new ImmutableSunriseSunsetCalculator(context)
+					.withZenith(SunriseSunsetCalculator.CIVIL_ZENITH);
+			SunriseSunsetCalculator expected = new SunriseSunsetCalculator(context, SunriseSunsetCalculator.CIVIL_ZENITH);
+			
+			LocalDate date = LocalDate.of(2022, 1, 1);
+			for (int i=0; i<365; i++) {
+				assertEquals(expected.calculateSunrise(date), civil.calculateSunrise(date));
+				assertEquals(expected.calculateSunset(date), civil.calculateSunset(date));
+				date = date.plusDays(1);
+			}
+		}
+		
+		//polar night
+		assertTrue(Double.isNaN(new ImmutableSunriseSunsetCalculator(TROMSO)
+				.calculateHours(LocalDate.of(2022, 12, 21), true)));
+	}
+	
+	/**
+	 * withGeoContext() and withZenith() should return new calculators and
+	 * leave the original unchanged.
+	 */
+	@Test
+	public void testWithers() {
+		ImmutableSunriseSunsetCalculator calc = new ImmutableSunriseSunsetCalculator(GeoContext.CINCINNATI);
+		ZonedDateTime sunrise = calc.calculateSunrise(2022, 8, 5);
+		
+		ImmutableSunriseSunsetCalculator tromso = calc.withGeoContext(TROMSO);
+		ImmutableSunriseSunsetCalculator civil = calc.withZenith(SunriseSunsetCalculator.CIVIL_ZENITH);
+		assertNotSame(calc, tromso);
+		assertNotSame(calc, civil);
+		
+		assertSame(GeoContext.CINCINNATI, calc.getGeoContext());
+		assertSame(SunriseSunsetCalculator.OFFICIAL_ZENITH, calc.getZenith());
+		assertEquals(sunrise, calc.calculateSunrise(2022, 8, 5));
+		
+		assertSame(TROMSO, tromso.getGeoContext());
+		assertSame(SunriseSunsetCalculator.OFFICIAL_ZENITH, tromso.getZenith());
+		assertEquals(new SunriseSunsetCalculator(TROMSO).calculateSunrise(2022, 8, 5), 
+				tromso.calculateSunrise(2022, 8, 5));
+		
+		assertSame(GeoContext.CINCINNATI, civil.getGeoContext());
+		assertSame(SunriseSunsetCalculator.CIVIL_ZENITH, civil.getZenith());
+		assertEquals(new SunriseSunsetCalculator(GeoContext.CINCINNATI, SunriseSunsetCalculator.CIVIL_ZENITH)
+				.calculateSunrise(2022, 8, 5), civil.calculateSunrise(2022, 8, 5));
+	}
+	
+}
@@ -0,0 +1,51 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Chapter22;
+import com.futurestats.astronomy.algos.meeus.Structs;
+
+public class NutationTableTest {
+
+	@Test
+	public void testInterpolation() {
+		NutationTable table = new NutationTable(2446000.5, 2447000.5, NutationTable.DEFAULT_INTERVAL);
+		
+		for (double jde = 2446000.5; jde <= 2447000.5; jde += 0.1234) {
+			Structs.Nutation expected = Chapter22.nutation(jde);
+			assertEquals(expected.longitude, table.longitudeFor(jde), 1e-4);
+			assertEquals(expected.obliquity, table.obliquityFor(jde), 1e-4);
+			
+			Structs.Nutation nutation = table.nutationFor(jde);
+			assertEquals(expected.longitude, nutation.longitude, 1e-4);
+			assertEquals(expected.obliquity, nutation.obliquity, 1e-4);
+		}
+	}
+	
+	@Test
+	public void testOutsideTable() {
+		NutationTable table = new NutationTable(2446000.5, 2446010.5, 1);
+		
+		//falls back to the series
+		double jde = 2446895.5;
+		assertEquals(Chapter22.nutation(jde).longitude, table.longitudeFor(jde));
+		assertEquals(Chapter22.nutation(jde).obliquity, table.obliquityFor(jde));
+		
+		assertThrows(IllegalArgumentException.class, () -> new NutationTable(1, 0, 1));
+	}
+	
+	@Test
+	public void testEcliptic() {
+		//example 22.a
+		JulianDate jde = JulianDate.of(2446895.5);
+		Ecliptic.Nutation nutation = Ecliptic.getNutationFor(jde, NutationTable.getDefault());
+		assertEquals(-3.788, nutation.getLongitude().toDegrees().value() * 3600, 0.001);
+		assertEquals(9.443, nutation.getObliquity().toDegrees().value() * 3600, 0.001);
+		
+		assertEquals(Ecliptic.getObliquity(jde).toDegrees().value(), 
+				Ecliptic.getObliquity(jde, NutationTable.getDefault()).toDegrees().value(), 1e-8);
+	}
+	
+}
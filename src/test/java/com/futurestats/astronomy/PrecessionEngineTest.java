@@ -0,0 +1,72 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.angles.Degrees;
+import com.futurestats.astronomy.angles.Hours;
+
+public class PrecessionEngineTest {
+
+	@Test
+	public void testExample21b() {
+		//theta Persei from J2000 to 2028 Nov 13.19 (proper motion already applied)
+		EquatorialCoordinate coord = new EquatorialCoordinate(
+				Hours.of(2, 44, 11.986 + 0.989),
+				Degrees.of(49, 13, 42.48 - 2.58));
+		
+		EquatorialCoordinate result = coord.adjustForPrecession(
+				JulianDate.J2000, JulianDate.from(2028, 11, 13.19));
+		
+		//RA = +2h 46m 11.331s, DEC = +49d 20' 54.54"
+		assertEquals(41.547213869711086, result.getRightAscension().toDegrees().value(), 1e-6);
+		assertEquals(49.348483110787560, result.getDeclination().toDegrees().value(), 1e-6);
+	}
+	
+	@Test
+	public void testBatchMatchesScalar() {
+		PrecessionEngine engine = new PrecessionEngine(4);
+		JulianDate jd0 = JulianDate.J2000;
+		JulianDate jd = JulianDate.from(2050, 1, 1);
+		
+		int n = 20000;
+		double [] ra = new double[n];
+		double [] dec = new double[n];
+		for (int i=0; i<n; i++) {
+			ra[i] = (i * 7.31) % 360;
+			dec[i] = ((i * 3.17) % 180) - 90;
+		}
+		
+		double [] raOut = new double[n];
+		double [] decOut = new double[n];
+		engine.adjust(jd0.value(), jd.value(), ra, dec, raOut, decOut);
+		
+		for (int i=0; i<n; i+=13) {
+			EquatorialCoordinate y = engine.adjust(EquatorialCoordinate.fromDegrees(ra[i], dec[i]), jd0, jd);
+			assertEquals(y.getRightAscension().toDegrees().value(), raOut[i]);
+			assertEquals(y.getDeclination().toDegrees().value(), decOut[i]);
+		}
+	}
+	
+	@Test
+	public void testCache() {
+		PrecessionEngine engine = new PrecessionEngine(2);
+		double [] a = engine.matrixFor(2451545.0, 2460000.5);
+		engine.matrixFor(2451545.0, 2461000.5);
+		assertEquals(2, engine.cacheSize());
+		
+		//touch the first pair so the second one is evicted
+		assertArrayEquals(a, engine.matrixFor(2451545.0, 2460000.5));
+		engine.matrixFor(2451545.0, 2462000.5);
+		assertEquals(2, engine.cacheSize());
+		assertSame(engine.getMatrix(2451545.0, 2460000.5), engine.getMatrix(2451545.0, 2460000.5));
+		
+		//copies are returned to callers
+		a[0] = 0;
+		assertNotEquals(0, engine.matrixFor(2451545.0, 2460000.5)[0]);
+		
+		assertThrows(IllegalArgumentException.class, () -> new PrecessionEngine(0));
+	}
+	
+}
@@ -0,0 +1,82 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class PreciseJulianDateTest {
+
+	@Test
+	public void test() {
+		//reference points:
+		assertEquals(2440587.5, PreciseJulianDate.from(Instant.EPOCH).value());
+		assertEquals(2451545.0, PreciseJulianDate.from(Instant.parse("2000-01-01T12:00:00Z")).value());
+		assertEquals(2397776.5, PreciseJulianDate.from(Instant.parse("1852-10-15T00:00:00Z")).value());
+		assertEquals(PreciseJulianDate.J2000, JulianDate.J2000.toPreciseJulianDate());
+		
+		//round trips keep every nanosecond (before and after the epoch):
+		testRoundTrip(Instant.parse("2022-08-05T06:41:51.227357958Z"));
+		testRoundTrip(Instant.parse("1900-01-01T23:59:59.999999999Z"));
+		testRoundTrip(Instant.parse("1969-12-31T11:59:59.000000001Z"));
+		testRoundTrip(Instant.parse("1969-12-31T12:00:00Z"));
+		
+		//JulianDate no longer drops the fraction of a second:
+		Instant instant = Instant.parse("2022-08-05T12:00:00.500Z");
+		assertEquals(0.5 / 86400, JulianDate.from(instant).value() - 2459797.0, 1e-9);
+	}
+	
+	public void testRoundTrip(Instant instant) {
+		PreciseJulianDate jd = PreciseJulianDate.from(instant);
+		assertEquals(instant, jd.toInstant());
+		assertEquals(instant.getEpochSecond(), jd.getEpochSecond());
+		assertEquals(instant.getNano(), jd.getNano());
+		assertEquals(jd, PreciseJulianDate.of(jd.getDay(), jd.getNanoOfDay()));
+	}
+	
+	/**
+	 * Steps at 10 Hz for a full day and makes sure no precision is lost.
+	 */
+	@Test
+	public void testArithmetic() {
+		PreciseJulianDate start = PreciseJulianDate.from(Instant.parse("2022-01-01T00:00:00Z"));
+		
+		PreciseJulianDate jd = start;
+		for (int i=0; i<864000; i++)
+			jd = jd.plusSeconds(0.1);
+		
+		assertEquals(Instant.parse("2022-01-02T00:00:00Z"), jd.toInstant());
+		assertEquals(86400L * PreciseJulianDate.NANOS_PER_SECOND, start.nanosUntil(jd));
+		assertEquals(1.0, start.daysUntil(jd));
+		
+		//a century plus one microsecond:
+		PreciseJulianDate later = start.plusDays(36525).plusSeconds(1e-6);
+		assertEquals(36525L * PreciseJulianDate.NANOS_PER_DAY + 1000, start.nanosUntil(later));
+		assertEquals(start, later.plusSeconds(-1e-6).minusDays(36525));
+		assertTrue(start.compareTo(later) < 0);
+		
+		//a fractional number of days keeps microsecond precision:
+		later = start.plusDays(36525.0 + 1e-6 / 86400);
+		assertEquals(36525L * PreciseJulianDate.NANOS_PER_DAY + 1000, start.nanosUntil(later), 1000);
+	}
+	
+	/**
+	 * toString() should not depend on the default locale (some use a comma
+	 * as the decimal separator).
+	 */
+	@Test
+	public void testToString() {
+		Locale defaultLocale = Locale.getDefault();
+		try {
+			Locale.setDefault(Locale.GERMANY);
+			assertEquals("JD 2451545.25000000000000", PreciseJulianDate.of(2451545.25).toString());
+			assertEquals("JD 2451545.00000000000000", PreciseJulianDate.J2000.toString());
+		}
+		finally {
+			Locale.setDefault(defaultLocale);
+		}
+	}
+	
+}
@@ -0,0 +1,67 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Chapter15;
+
+public class RiseTransitSetTest {
+
+	/**
+	 * Vega from Cincinnati on the night of 2022 August 5: it rises just
+	 * after noon, transits in the evening and sets in the early morning.
+	 */
+	@Test
+	public void testVega() {
+		EquatorialCoordinate vega = EquatorialCoordinate.fromDegrees(279.2347, 38.7837);
+		RiseTransitSet calculator = new RiseTransitSet(GeoContext.CINCINNATI);
+		JulianDate noon = calculator.nightStart(LocalDate.of(2022, 8, 5));
+		assertEquals(JulianDate.from(2022, 8, 5 + 16.0/24).value(), noon.value(), 1e-9);
+		
+		RiseTransitSet.Times times = calculator.computeForNight(vega, LocalDate.of(2022, 8, 5));
+		assertFalse(times.isCircumpolar());
+		assertFalse(times.neverRises());
+		
+		//times in UT
+		double transit = times.getTransit().value();
+		double set = times.getSet().value();
+		double rise = times.getRise().value();
+		assertTrue(noon.value() < rise && rise < transit && transit < set && set < noon.value() + 1);
+		
+		//transit at about 11:16 pm EDT (03:16 UT)
+		assertEquals(JulianDate.from(2022, 8, 6 + (3 + 16.0/60)/24).value(), transit, 3.0/1440);
+	}
+	
+	@Test
+	public void testBatch() {
+		RiseTransitSet calculator = new RiseTransitSet(GeoContext.CINCINNATI);
+		double [] ra = { 279.2347, 37.95, 95.99 };
+		double [] dec = { 38.7837, 89.26, -52.70 };
+		double [] transit = new double[3];
+		double [] rise = new double[3];
+		int [] status = new int[3];
+		
+		LocalDate date = LocalDate.of(2022, 8, 5);
+		calculator.computeForNight(ra, dec, date, transit, rise, null, status);
+		assertArrayEquals(new int[] { Chapter15.RISES_AND_SETS, Chapter15.CIRCUMPOLAR, Chapter15.NEVER_RISES }, status);
+		
+		for (int i=0; i<3; i++) {
+			RiseTransitSet.Times times = calculator.computeForNight(EquatorialCoordinate.fromDegrees(ra[i], dec[i]), date);
+			assertEquals(times.getTransit().value(), calculator.nightStart(date).value() + transit[i], 1e-9);
+		}
+		assertNotNull(calculator.computeForNight(EquatorialCoordinate.fromDegrees(ra[0], dec[0]), date).getRise());
+		assertNull(calculator.computeForNight(EquatorialCoordinate.fromDegrees(ra[1], dec[1]), date).getRise());
+		assertTrue(Double.isNaN(rise[2]));
+	}
+	
+	@Test
+	public void testInvalidColumns() {
+		RiseTransitSet calculator = new RiseTransitSet(GeoContext.GREENWICH_GMT);
+		assertThrows(IllegalArgumentException.class, 
+				() -> calculator.compute(new double[2], new double[3], JulianDate.J2000, null, null, null, null));
+	}
+	
+}
@@ -0,0 +1,44 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Chapter27;
+
+public class SeasonTableTest {
+
+	@Test
+	public void test() {
+		SeasonTable table = new SeasonTable(1000, 3000);
+		assertEquals(2001 * 4, table.size());
+		
+		//same values as Chapter 27:
+		for (int year=1000; year<=3000; year+=37) {
+			for (Chapter27.Target target : Chapter27.Target.values())
+				assertEquals(Chapter27.jdeForEvent(year, target), table.jdeFor(year, target));
+		}
+		assertEquals(2437837.3924527783, table.jdeFor(1962, Chapter27.Target.JUNE_SOLSTICE), 1e-6);
+		assertEquals(JulianDate.forMarchEquinox(2022).value(), 
+				table.getEvent(2022, Chapter27.Target.MARCH_EQUINOX).value());
+		
+		//seasons are roughly a quarter of a year (summer is the longest):
+		double [] lengths = table.seasonLengths();
+		for (int i=0; i<lengths.length - 1; i++)
+			assertEquals(365.2422 / 4, lengths[i], 3.0);
+		assertTrue(Double.isNaN(lengths[lengths.length - 1]));
+		assertTrue(table.seasonLength(2022, Chapter27.Target.JUNE_SOLSTICE) > 93);
+		
+		//nearest event and the season containing a date:
+		double jde = table.jdeFor(2022, Chapter27.Target.SEPT_EQUINOX);
+		int index = table.nearestEvent(jde + 10);
+		assertEquals(2022, table.yearAt(index));
+		assertEquals(Chapter27.Target.SEPT_EQUINOX, table.targetAt(index));
+		assertEquals(index, table.nearestEvent(jde - 10));
+		assertEquals(index - 1, table.seasonContaining(jde - 10));
+		assertEquals(0, table.nearestEvent(0));
+		assertEquals(-1, table.seasonContaining(0));
+		assertEquals(table.size() - 1, table.nearestEvent(1e9));
+	}
+	
+}
@@ -1,10 +1,15 @@
 package com.futurestats.astronomy;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import org.junit.jupiter.api.Test;
+
 import com.futurestats.astronomy.angles.Angle;
 import com.futurestats.astronomy.angles.Degrees;
 import com.futurestats.astronomy.angles.Hours;
@@ -32,4 +37,69 @@ public class SiderealTimeTest {
 		System.out.println(SiderealTime.lmst(JulianDate.from(zd), longitude).toHours());
 	}
 	
+	@Test
+	public void testGrid() {
+		JulianDate start = JulianDate.from(2022, 8, 5);
+		double step = 1.0 / 1440;
+		int count = 1440;
+		double [] longitudes = new double [] {-84.51, 0, 139.69, -179.9};
+		
+		double [] lmst = SiderealTime.lmst(start, step, count, longitudes);
+		for (int j=0; j<longitudes.length; j++) {
+			for (int k=0; k<count; k+=7) {
+				JulianDate date = JulianDate.of(start.value() + k * step);
+				double expected = SiderealTime.lmst(date, Degrees.of(longitudes[j])).toDegrees().value();
+				assertEquals(expected, lmst[j * count + k], 2e-7);	//Julian Date precision
+			}
+		}
+	}
+	
+	@Test
+	public void testLocalTimes() {
+		ZoneId zoneId = ZoneId.of("America/New_York");
+		LocalDate start = LocalDate.of(2022, 1, 1);
+		Degrees longitude = Degrees.of(-84.51);
+		
+		int days = 365;
+		double [] lmstHours = new double[days];
+		for (int i=0; i<days; i++)
+			lmstHours[i] = (i * 0.37) % 24;
+		
+		long [] nanosOfDay = new long[days];
+		long [] epochSeconds = new long[days];
+		SiderealTime.lmstToLocalTimes(lmstHours, longitude.value(), zoneId, start, nanosOfDay, epochSeconds);
+		
+		for (int i=0; i<days; i++) {
+			ZonedDateTime time = Instant.ofEpochSecond(epochSeconds[i], nanosOfDay[i] % 1000000000L).atZone(zoneId);
+			assertEquals(LocalTime.ofNanoOfDay(nanosOfDay[i]), time.toLocalTime());
+			
+			//first occurrence after local midnight
+			ZonedDateTime midnight = start.plusDays(i).atStartOfDay(zoneId);
+			assertFalse(time.isBefore(midnight));
+			assertTrue(time.isBefore(midnight.plusHours(24)));
+			
+			double lmst = SiderealTime.lmst(JulianDate.from(time), longitude).toHours().value();
+			double error = lmst - lmstHours[i];
+			error -= 24 * Math.floor(error / 24 + 0.5);
+			assertEquals(0, error, 1e-6, time.toString());	//a few milliseconds
+		}
+	}
+	
+	@Test
+	public void testLocalTime() {
+		//compare with the approximation that was used before
+		LocalDate date = LocalDate.of(2022, 8, 5);
+		Degrees longitude = Degrees.of(-84.51);
+		
+		LocalTime localTime = SiderealTime.lmstToLocalTime(Hours.of(13.5), date, longitude);
+		ZonedDateTime noon = ZonedDateTime.of(date, LocalTime.NOON, ZoneId.systemDefault());
+		Angle lmst0 = SiderealTime.lmst(JulianDate.from(noon), longitude);
+		double hours = Hours.of(13.5).subtract(lmst0).toHours().value() / 1.00273790935;
+		LocalTime approx = noon.plusNanos((long)(hours * 3600000000000L)).toLocalTime();
+		
+		long diff = Math.abs(localTime.toNanoOfDay() - approx.toNanoOfDay());
+		diff = Math.min(diff, 86400000000000L - diff);
+		assertTrue(diff < 10000000000L, localTime + " vs " + approx);
+	}
+	
 }
@@ -0,0 +1,134 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.angles.Degrees;
+
+public class SunriseSunsetCacheTest {
+	
+	static final GeoContext OSLO = new GeoContext(Degrees.of(59.91), Degrees.of(10.75), ZoneId.of("Europe/Oslo"));
+	
+	/**
+	 * Cached times should be exactly those of a SunriseSunsetCalculator for
+	 * the rounded location, and repeated queries should be hits.
+	 */
+	@Test
+	public void testMatchesCalculator() {
+		SunriseSunsetCache cache = new SunriseSunsetCache(1000);
+		GeoContext context = new GeoContext(Degrees.of(39.16212), Degrees.of(-84.45689), GeoContext.CINCINNATI.getZoneId());
+		GeoContext rounded = new GeoContext(Degrees.of(39.162), Degrees.of(-84.457), context.getZoneId());
+		SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(rounded);
+		
+		LocalDate date = LocalDate.of(2022, 8, 5);
+		assertEquals(calculator.calculateSunrise(date), cache.getSunrise(context, date));
+		assertEquals(calculator.calculateSunset(date), cache.getSunset(context, date));
+		assertEquals(1, cache.misses());
+		assertEquals(1, cache.hits());
+		
+		//within the resolution maps to the same entry
+		GeoContext nearby = new GeoContext(Degrees.of(39.1619), Degrees.of(-84.4571), context.getZoneId());
+		assertSame(cache.get(context, date), cache.get(nearby, date));
+		assertEquals(1, cache.misses());
+		assertEquals(1, cache.size());
+		
+		//other zeniths are cached separately
+		SunriseSunsetCalculator civil = new SunriseSunsetCalculator(rounded, SunriseSunsetCalculator.CIVIL_ZENITH);
+		assertEquals(civil.calculateSunrise(date), cache.get(context, date, SunriseSunsetCalculator.CIVIL_ZENITH).getSunrise());
+		assertEquals(2, cache.misses());
+		assertEquals(2, cache.size());
+	}
+	
+	@Test
+	public void testPrefetchYear() {
+		SunriseSunsetCache cache = new SunriseSunsetCache(1000);
+		cache.prefetchYear(OSLO, 2022);
+		assertEquals(365, cache.size());
+		assertEquals(0, cache.misses());
+		
+		SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(OSLO);
+		LocalDate date = LocalDate.of(2022, 1, 1);
+		for (int i=0; i<365; i++) {
+			assertEquals(calculator.calculateSunrise(date), cache.getSunrise(OSLO, date));
+			assertEquals(calculator.calculateSunset(date), cache.getSunset(OSLO, date));
+			date = date.plusDays(1);
+		}
+		assertEquals(0, cache.misses());
+		assertEquals(730, cache.hits());
+	}
+	
+	/**
+	 * The cache should hold at most maxSize entries and entries that were
+	 * read since the last sweep should get a second chance.
+	 */
+	@Test
+	public void testEviction() {
+		SunriseSunsetCache cache = new SunriseSunsetCache(10);
+		LocalDate start = LocalDate.of(2022, 1, 1);
+		for (int i=0; i<10; i++)
+			cache.get(OSLO, start.plusDays(i));
+		assertEquals(10, cache.size());
+		assertEquals(0, cache.evictions());
+		
+		//day 0 was read, so day 1 is evicted instead
+		cache.get(OSLO, start);
+		cache.get(OSLO, start.plusDays(10));
+		assertEquals(10, cache.size());
+		assertEquals(1, cache.evictions());
+		
+		long misses = cache.misses();
+		cache.get(OSLO, start);
+		assertEquals(misses, cache.misses());
+		cache.get(OSLO, start.plusDays(1));
+		assertEquals(misses + 1, cache.misses());
+		
+		for (int i=0; i<100; i++)
+			cache.get(OSLO, start.plusDays(20 + i));
+		assertEquals(10, cache.size());
+		
+		cache.clear();
+		assertEquals(0, cache.size());
+		
+		assertThrows(IllegalArgumentException.class, () -> new SunriseSunsetCache(0));
+		assertThrows(IllegalArgumentException.class, () -> new SunriseSunsetCache(10, 0));
+	}
+	
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		SunriseSunsetCache cache = new SunriseSunsetCache(50);
+		SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(OSLO);
+		LocalDate start = LocalDate.of(2022, 1, 1);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t=0; t<4; t++) {
+				int seed = t;
+				futures.add(executor.submit(() -> {
+					for (int i=0; i<2000; i++) {
+						LocalDate date = start.plusDays((i * 7 + seed) % 100);
+						assertEquals(calculator.calculateSunrise(date), cache.getSunrise(OSLO, date));
+					}
+				}));
+			}
+			for (Future<?> future : futures)
+				future.get();
+		}
+		finally {
+			executor.shutdown();
+		}
+		
+		assertEquals(8000, cache.hits() + cache.misses());
+		assertTrue(cache.size() <= 50);
+	}
+	
+}
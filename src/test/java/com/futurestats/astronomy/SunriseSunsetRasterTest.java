@@ -0,0 +1,110 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+
+public class SunriseSunsetRasterTest {
+
+	/**
+	 * Every cell should match SunriseSunset.calculate() for its center, 
+	 * with polar day in the north and polar night in the south at the June
+	 * solstice.
+	 */
+	@Test
+	public void testMatchesCalculate() {
+		SunriseSunsetRaster raster = SunriseSunsetRaster.global(2);
+		int rows = raster.getRows();
+		int columns = raster.getColumns();
+		assertEquals(90, rows);
+		assertEquals(180, columns);
+		
+		LocalDate date = LocalDate.of(2022, 6, 21);
+		float [] sunrise = new float[rows * columns];
+		float [] sunset = new float[rows * columns];
+		float [] dayLength = new float[rows * columns];
+		raster.compute(date, SunriseSunsetCalculator.OFFICIAL_ZENITH, sunrise, sunset, dayLength);
+		
+		for (int r=0; r<rows; r++) {
+			for (int c=0; c<columns; c++) {
+				int index = r * columns + c;
+				double rise = SunriseSunset.calculate(2022, 6, 21, raster.latitude(r), raster.longitude(c), 
+						SunriseSunset.OFFICIAL_ZENITH, true);
+				double set = SunriseSunset.calculate(2022, 6, 21, raster.latitude(r), raster.longitude(c), 
+						SunriseSunset.OFFICIAL_ZENITH, false);
+				assertEquals((float)rise, sunrise[index]);
+				assertEquals((float)set, sunset[index]);
+				
+				if (!Double.isNaN(rise) && !Double.isNaN(set))
+					assertEquals(set - rise + (set < rise ? 24 : 0), dayLength[index], 1e-5);
+			}
+		}
+		
+		//polar day at 79N, polar night at 79S, about 12 hours at the equator
+		assertTrue(Float.isNaN(sunrise[5 * columns]));
+		assertEquals(24, dayLength[5 * columns]);
+		assertTrue(Float.isNaN(sunset[84 * columns]));
+		assertEquals(0, dayLength[84 * columns]);
+		assertEquals(12.1, dayLength[45 * columns], 0.1);
+	}
+	
+	@Test
+	public void testWrite() throws IOException {
+		SunriseSunsetRaster raster = new SunriseSunsetRaster(50, -10, 0.5, 60, 100);
+		LocalDate date = LocalDate.of(2022, 12, 21);
+		
+		int cells = 60 * 100;
+		float [] sunrise = new float[cells];
+		float [] sunset = new float[cells];
+		float [] dayLength = new float[cells];
+		raster.compute(date, SunriseSunsetCalculator.CIVIL_ZENITH, sunrise, sunset, dayLength);
+		
+		Path file = Files.createTempFile("raster", ".bin");
+		try {
+			raster.write(date, SunriseSunsetCalculator.CIVIL_ZENITH, file);
+			assertEquals(SunriseSunsetRaster.HEADER_SIZE + 3 * cells * 4, Files.size(file));
+			
+			try (FileChannel channel = FileChannel.open(file)) {
+				ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+						.order(SunriseSunsetRaster.BYTE_ORDER);
+				assertEquals(SunriseSunsetRaster.MAGIC, buffer.getInt(0));
+				assertEquals(SunriseSunsetRaster.VERSION, buffer.getInt(4));
+				assertEquals(60, buffer.getInt(8));
+				assertEquals(100, buffer.getInt(12));
+				assertEquals(50, buffer.getDouble(16));
+				assertEquals(-10, buffer.getDouble(24));
+				assertEquals(0.5, buffer.getDouble(32));
+				assertEquals(date.toEpochDay(), buffer.getLong(40));
+				assertEquals(96, buffer.getDouble(48));
+				
+				buffer.position(SunriseSunsetRaster.HEADER_SIZE);
+				FloatBuffer floats = buffer.asFloatBuffer();
+				for (int i=0; i<cells; i++) {
+					assertEquals(sunrise[i], floats.get(i));
+					assertEquals(sunset[i], floats.get(cells + i));
+					assertEquals(dayLength[i], floats.get(2 * cells + i));
+				}
+			}
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	public void testInvalidGrid() {
+		assertThrows(IllegalArgumentException.class, () -> new SunriseSunsetRaster(90, -180, 0, 10, 10));
+		assertThrows(IllegalArgumentException.class, () -> new SunriseSunsetRaster(90, -180, 1e-3, 180000, 360000));
+	}
+	
+}
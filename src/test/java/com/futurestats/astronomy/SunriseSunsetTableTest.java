@@ -0,0 +1,104 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.SunriseSunset;
+import com.futurestats.astronomy.angles.Degrees;
+
+public class SunriseSunsetTableTest {
+
+	static final GeoContext [] CONTEXTS = {
+		GeoContext.CINCINNATI,
+		GeoContext.GREENWICH_GMT,
+		new GeoContext(Degrees.of(69.65), Degrees.of(18.96), ZoneId.of("Europe/Oslo")),
+		new GeoContext(Degrees.of(-33.87), Degrees.of(151.21), ZoneId.of("Australia/Sydney")),
+		new GeoContext(Degrees.of(22.57), Degrees.of(88.36), ZoneId.of("Asia/Kolkata")),
+		new GeoContext(Degrees.of(21.31), Degrees.of(-157.86), ZoneId.of("Pacific/Honolulu")),
+		new GeoContext(Degrees.of(-43.95), Degrees.of(-176.56), ZoneId.of("Pacific/Chatham"))
+	};
+	
+	/**
+	 * Every value should match SunriseSunsetCalculator exactly, including
+	 * days with daylight saving time transitions and the polar night.
+	 */
+	@Test
+	public void testMatchesCalculator() {
+		SunriseSunsetTable table = new SunriseSunsetTable(CONTEXTS);
+		LocalDate start = LocalDate.of(2021, 12, 25);
+		int days = 380;
+		
+		int size = table.size() * days;
+		double [] sunriseHours = new double[size];
+		double [] sunsetHours = new double[size];
+		long [] sunriseSeconds = new long[size];
+		long [] sunsetSeconds = new long[size];
+		table.compute(start, days, SunriseSunsetCalculator.OFFICIAL_ZENITH, 
+				sunriseHours, sunsetHours, sunriseSeconds, sunsetSeconds);
+		
+		int polar = 0;
+		for (int j=0; j<CONTEXTS.length; j++) {
+			SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(CONTEXTS[j]);
+			double latitude = CONTEXTS[j].getLatitude().degreesValue();
+			double longitude = CONTEXTS[j].getLongitude().degreesValue();
+			
+			for (int i=0; i<days; i++) {
+				LocalDate date = start.plusDays(i);
+				int index = j * days + i;
+				
+				for (boolean sunrise : new boolean[] {true, false}) {
+					double [] hours = sunrise ? sunriseHours : sunsetHours;
+					long [] seconds = sunrise ? sunriseSeconds : sunsetSeconds;
+					
+					double UT = SunriseSunset.calculate(date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+							latitude, longitude, SunriseSunset.OFFICIAL_ZENITH, sunrise);
+					assertEquals(UT, hours[index]);
+					
+					if (Double.isNaN(UT)) {
+						assertEquals(SunriseSunsetTable.NO_EVENT, seconds[index]);
+						assertNull(table.toZonedDateTime(j, date, hours[index]));
+						polar++;
+						continue;
+					}
+					
+					ZonedDateTime expected = calculator.calculate(date, sunrise);
+					assertEquals(expected, table.toZonedDateTime(j, date, hours[index]));
+					assertEquals(expected.toEpochSecond(), seconds[index], expected.toString());
+				}
+			}
+		}
+		
+		//Tromso has a polar night and midnight sun
+		assertTrue(polar > 100);
+	}
+	
+	/**
+	 * Changing the caller's zone array afterwards should not change the
+	 * table.
+	 */
+	@Test
+	public void testCopiesZoneIds() {
+		ZoneId [] zoneIds = {GeoContext.CINCINNATI.getZoneId()};
+		SunriseSunsetTable table = new SunriseSunsetTable(new double[] {39.1}, new double[] {-84.5}, zoneIds);
+		zoneIds[0] = ZoneId.of("Asia/Tokyo");
+		
+		LocalDate date = LocalDate.of(2022, 8, 5);
+		assertEquals(GeoContext.CINCINNATI.getZoneId(), table.toZonedDateTime(0, date, 12).getZone());
+	}
+	
+	@Test
+	public void testInvalidColumns() {
+		assertThrows(IllegalArgumentException.class, 
+				() -> new SunriseSunsetTable(new double[2], new double[3], null));
+		
+		SunriseSunsetTable table = new SunriseSunsetTable(new double[2], new double[2], null);
+		assertThrows(IllegalStateException.class, 
+				() -> table.computeEpochSeconds(LocalDate.of(2022, 1, 1), 1, new long[2], null));
+	}
+	
+}
@@ -0,0 +1,74 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeScaleConverterTest {
+
+	static final TimeScaleConverter CONVERTER = TimeScaleConverter.DEFAULT;
+	
+	@Test
+	public void test() {
+		//TAI - UTC around the last leap second (2016-12-31T23:59:60Z)
+		assertEquals(36, CONVERTER.taiMinusUtc(Instant.parse("2016-12-31T23:59:59Z").getEpochSecond()));
+		assertEquals(37, CONVERTER.taiMinusUtc(Instant.parse("2017-01-01T00:00:00Z").getEpochSecond()));
+		assertEquals(32, CONVERTER.taiMinusUtc(JulianDate.J2000.value()));
+		assertEquals(10, CONVERTER.taiMinusUtc(JulianDate.from(1972, 1, 1).value()));
+		
+		//before 1972 UTC follows UT1
+		double jd1900 = JulianDate.from(1900, 1, 1).value();
+		assertEquals(jd1900, CONVERTER.convert(jd1900, TimeScale.UTC, TimeScale.UT1), 1e-9);
+		
+		//TT - UTC is exactly 69.184 seconds since 2017
+		Instant instant = Instant.parse("2022-08-05T06:41:51.227357958Z");
+		PreciseJulianDate utc = PreciseJulianDate.from(instant);
+		PreciseJulianDate tt = CONVERTER.toPreciseJulianDate(instant, TimeScale.TT);
+		assertEquals(69184000000L, utc.nanosUntil(tt));
+		assertEquals(tt.value(), CONVERTER.julianDateOf(instant.getEpochSecond(), instant.getNano(), TimeScale.TT), 1e-9);
+		
+		double jd = utc.value();
+		assertEquals(69.184, (CONVERTER.convert(jd, TimeScale.UTC, TimeScale.TT) - jd) * 86400, 1e-4);
+		assertEquals(37.0, (CONVERTER.convert(jd, TimeScale.UTC, TimeScale.TAI) - jd) * 86400, 1e-4);
+	}
+	
+	/**
+	 * Every pair of time scales should round trip, including dates right
+	 * around leap seconds and before 1972.
+	 */
+	@Test
+	public void testRoundTrips() {
+		int n = 2000;
+		double [] jd = new double[n];
+		for (int i=0; i<n; i++)
+			jd[i] = 2430000.5 + i * 13.37;
+		
+		double [] out = new double[n];
+		double [] back = new double[n];
+		for (TimeScale from : TimeScale.values()) {
+			for (TimeScale to : TimeScale.values()) {
+				CONVERTER.convert(jd, out, from, to);
+				CONVERTER.convertParallel(out, back, to, from);
+				for (int i=0; i<n; i++)
+					assertEquals(jd[i], back[i], 1e-9, from + " -> " + to);
+			}
+		}
+		
+		for (int i=0; i<TimeScaleConverter.LEAP_JD_UTC.length; i++) {
+			double before = TimeScaleConverter.LEAP_JD_UTC[i] - 0.5 / 86400;
+			double after = TimeScaleConverter.LEAP_JD_UTC[i] + 0.5 / 86400;
+			for (double x : new double [] {before, after}) {
+				double tai = CONVERTER.convert(x, TimeScale.UTC, TimeScale.TAI);
+				assertEquals(x, CONVERTER.convert(tai, TimeScale.TAI, TimeScale.UTC), 1e-9);
+			}
+		}
+		
+		Instant instant = Instant.parse("2022-08-05T06:41:51.227Z");
+		JulianDate tt = CONVERTER.toJulianDate(instant, TimeScale.TT);
+		Instant back2 = CONVERTER.toInstant(tt, TimeScale.TT);
+		assertTrue(Math.abs(instant.toEpochMilli() - back2.toEpochMilli()) <= 1);
+	}
+	
+}
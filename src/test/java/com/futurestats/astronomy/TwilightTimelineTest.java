@@ -0,0 +1,69 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.angles.Degrees;
+
+public class TwilightTimelineTest {
+
+	/**
+	 * Every zenith should give exactly the same time as a 
+	 * SunriseSunsetCalculator, including at high latitudes where some
+	 * zeniths are never reached.
+	 */
+	@Test
+	public void testMatchesCalculator() {
+		GeoContext [] contexts = {
+			GeoContext.CINCINNATI,
+			new GeoContext(Degrees.of(59.91), Degrees.of(10.75), ZoneId.of("Europe/Oslo"))
+		};
+		
+		for (GeoContext context : contexts) {
+			TwilightTimeline timeline = new TwilightTimeline(context);
+			int size = timeline.size();
+			assertEquals(4, size);
+			
+			LocalDate start = LocalDate.of(2022, 1, 1);
+			int days = 365;
+			double [] sunrise = new double[days * size];
+			double [] sunset = new double[days * size];
+			timeline.computeHours(start, days, sunrise, sunset);
+			
+			for (int k=0; k<size; k++) {
+				SunriseSunsetCalculator calculator = new SunriseSunsetCalculator(context, timeline.getZenith(k));
+				for (int i=0; i<days; i++) {
+					LocalDate date = start.plusDays(i);
+					TwilightTimeline.Day day = timeline.compute(date);
+					assertEquals(sunrise[i * size + k], day.getSunriseHours(k));
+					assertEquals(sunset[i * size + k], day.getSunsetHours(k));
+					
+					if (Double.isNaN(sunrise[i * size + k]))
+						assertNull(day.getSunrise(k));
+					else
+						assertEquals(calculator.calculateSunrise(date), day.getSunrise(k));
+					
+					if (Double.isNaN(sunset[i * size + k]))
+						assertNull(day.getSunset(k));
+					else
+						assertEquals(calculator.calculateSunset(date), day.getSunset(k));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testOrder() {
+		TwilightTimeline.Day day = new TwilightTimeline(GeoContext.CINCINNATI).compute(LocalDate.of(2022, 8, 5));
+		for (int k=1; k<4; k++) {
+			assertTrue(day.getSunrise(k).isBefore(day.getSunrise(k - 1)));
+			assertTrue(day.getSunset(k).isAfter(day.getSunset(k - 1)));
+		}
+		assertEquals("2022-08-05T06:41:51.227357958-04:00[America/New_York]", day.getSunrise(0).toString());
+	}
+	
+}
@@ -0,0 +1,64 @@
+package com.futurestats.astronomy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class ZoneOffsetTableTest {
+
+	static final long FROM = LocalDateTime.of(2020, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+	static final long TO   = LocalDateTime.of(2024, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+	
+	@Test
+	public void testOffsetAt() {
+		for (String id : new String [] {"America/New_York", "Australia/Lord_Howe", "UTC", "Asia/Kolkata"}) {
+			ZoneId zoneId = ZoneId.of(id);
+			ZoneOffsetTable table = new ZoneOffsetTable(zoneId, FROM, TO);
+			
+			//includes seconds just before/after transitions and values outside the table
+			for (long s = FROM - 86400 * 30; s < TO + 86400 * 30; s += 1799) {
+				int expected = zoneId.getRules().getOffset(Instant.ofEpochSecond(s)).getTotalSeconds();
+				assertEquals(expected, table.offsetAt(s), id + " " + s);
+			}
+		}
+	}
+	
+	@Test
+	public void testOffsetForLocal() {
+		for (String id : new String [] {"America/New_York", "Australia/Lord_Howe", "Europe/London"}) {
+			ZoneId zoneId = ZoneId.of(id);
+			ZoneOffsetTable table = new ZoneOffsetTable(zoneId, FROM, TO);
+			
+			//every 15 minutes hits the start and end of every gap/overlap
+			for (long s = FROM - 86400 * 30; s < TO + 86400 * 30; s += 900) {
+				LocalDateTime local = LocalDateTime.ofEpochSecond(s, 0, ZoneOffset.UTC);
+				long expected = ZonedDateTime.of(local, zoneId).toEpochSecond();
+				assertEquals(expected, s - table.offsetForLocal(s), id + " " + local);
+			}
+		}
+	}
+	
+	/**
+	 * A table that starts just after a transition: the local times at the
+	 * start of the range belong to instants before it.
+	 */
+	@Test
+	public void testOffsetForLocalAtRangeStart() {
+		ZoneId zoneId = ZoneId.of("Europe/London");
+		long transition = LocalDateTime.of(2021, 10, 31, 1, 0).toEpochSecond(ZoneOffset.UTC);
+		ZoneOffsetTable table = new ZoneOffsetTable(zoneId, transition + 1800, transition + 86400 * 30);
+		
+		for (long s = transition - 7200; s < transition + 86400 * 3; s += 900) {
+			LocalDateTime local = LocalDateTime.ofEpochSecond(s, 0, ZoneOffset.UTC);
+			long expected = ZonedDateTime.of(local, zoneId).toEpochSecond();
+			assertEquals(expected, s - table.offsetForLocal(s), local.toString());
+		}
+	}
+	
+}
@@ -2,6 +2,9 @@ package com.futurestats.astronomy.algos.meeus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+
 import org.junit.jupiter.api.Test;
 
 import com.futurestats.astronomy.algos.meeus.Chapter12;
@@ -19,4 +22,40 @@ public class Chapter12Test {
 		assertEquals(128.7378734, gmst, 1e-6);
 	}
 	
+	/**
+	 * One GMST per minute for a year should stay within GMST_STEP_MAX_ERROR
+	 * of formula 12.4 evaluated exactly with BigDecimal.  (Formula 12.4 in
+	 * doubles rounds off about 5e-10 degrees near the present, so it can't
+	 * be the reference.)  Every 7th minute is checked to keep this fast.
+	 */
+	@Test
+	public void testSteps() {
+		double jd0 = Chapter7.julianDateFor(2022, 1, 1);
+		double step = 1.0 / 1440;
+		int count = 366 * 1440;
+		
+		double [] gmst = new double[count];
+		Chapter12.gmst(jd0, step, count, gmst);
+		
+		BigDecimal days0 = new BigDecimal(jd0 - Utils.JD_J2000);
+		BigDecimal exactStep = new BigDecimal(step);
+		for (int k=0; k<count; k+=7) {
+			double expected = exactGmst(days0.add(exactStep.multiply(BigDecimal.valueOf(k))));
+			double diff = Math.abs(gmst[k] - expected);
+			diff = Math.min(diff, 360 - diff);
+			assertEquals(0, diff, Chapter12.GMST_STEP_MAX_ERROR);
+		}
+	}
+	
+	static double exactGmst(BigDecimal days) {
+		MathContext mc = MathContext.DECIMAL128;
+		BigDecimal t = days.divide(BigDecimal.valueOf(36525), mc);
+		BigDecimal t2 = t.multiply(t, mc);
+		BigDecimal deg = new BigDecimal("280.46061837")
+				.add(new BigDecimal("360.98564736629").multiply(days, mc))
+				.add(new BigDecimal("0.000387933").multiply(t2, mc))
+				.subtract(t2.multiply(t, mc).divide(BigDecimal.valueOf(38710000), mc));
+		return Utils.normalizeDegrees(deg.remainder(BigDecimal.valueOf(360)).doubleValue());
+	}
+	
 }
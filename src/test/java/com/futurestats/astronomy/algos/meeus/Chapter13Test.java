@@ -1,11 +1,15 @@
 package com.futurestats.astronomy.algos.meeus;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import com.futurestats.astronomy.algos.meeus.Structs.EclipticalCoordinate;
 import com.futurestats.astronomy.algos.meeus.Structs.EquatorialCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.GalacticCoordinate;
 import com.futurestats.astronomy.algos.meeus.Structs.HorizontalCoordinate;
 
 /**
@@ -21,6 +25,111 @@ public class Chapter13Test {
 		example13b();
 	}
 	
+	@Test
+	public void testBatch() {
+		int n = 10000;
+		double epsilon = 23.4392911;
+		double [] alpha = new double[n];
+		double [] delta = new double[n];
+		Random random = new Random(13);
+		for (int i=0; i<n; i++) {
+			alpha[i] = random.nextDouble() * 360;
+			delta[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+		
+		double [] lambda = new double[n];
+		double [] beta = new double[n];
+		Chapter13.equatorialToEclipticParallel(alpha, delta, epsilon, lambda, beta);
+		
+		double [] alpha2 = new double[n];
+		double [] delta2 = new double[n];
+		Chapter13.eclipticToEquatorialParallel(lambda, beta, epsilon, alpha2, delta2);
+		
+		for (int i=0; i<n; i++) {
+			EclipticalCoordinate y = Chapter13.equatorialToEcliptic(new EquatorialCoordinate(alpha[i], delta[i]), epsilon);
+			assertEquals(y.longitude, lambda[i], 1e-9);
+			assertEquals(y.latitude, beta[i], 1e-9);
+			
+			EquatorialCoordinate x = Chapter13.eclipticToEquatorial(y, epsilon);
+			assertEquals(x.rightAscension, alpha2[i], 1e-9);
+			assertEquals(x.declination, delta2[i], 1e-9);
+		}
+		
+		//in place
+		Chapter13.equatorialToEcliptic(alpha, delta, epsilon, alpha, delta);
+		assertArrayEquals(lambda, alpha);
+		assertArrayEquals(beta, delta);
+	}
+	
+	@Test
+	public void testGalactic() {
+		
+		//exercise in chapter 13: Nova Serpentis 1978 (B1950.0)
+		EquatorialCoordinate nova = new EquatorialCoordinate(
+				Utils.hmsToDegrees(17, 48, 59.74), Utils.dmsToDegrees(-14, -43, -8.2));
+		GalacticCoordinate g = Chapter13.equatorialToGalactic(nova);
+		assertEquals(12.9593, g.longitude, 1e-4);
+		assertEquals(6.0463, g.latitude, 1e-4);
+		
+		EquatorialCoordinate back = Chapter13.galacticToEquatorial(g);
+		assertEquals(nova.rightAscension, back.rightAscension, 1e-9);
+		assertEquals(nova.declination, back.declination, 1e-9);
+		
+		//J2000: galactic center and north galactic pole
+		GalacticCoordinate center = Chapter13.equatorialToGalacticJ2000(new EquatorialCoordinate(266.40499, -28.93617));
+		assertEquals(0, Math.min(center.longitude, 360 - center.longitude), 1e-4);
+		assertEquals(0, center.latitude, 1e-4);
+		GalacticCoordinate pole = Chapter13.equatorialToGalacticJ2000(new EquatorialCoordinate(192.85948, 27.12825));
+		assertEquals(90, pole.latitude, 1e-4);
+		EquatorialCoordinate pole2 = Chapter13.galacticToEquatorialJ2000(new GalacticCoordinate(0, 90));
+		assertEquals(192.85948, pole2.rightAscension, 1e-4);
+		assertEquals(27.12825, pole2.declination, 1e-4);
+		
+		//batch vs scalar for both equinoxes
+		int n = 10000;
+		double [] alpha = new double[n];
+		double [] delta = new double[n];
+		Random random = new Random(1950);
+		for (int i=0; i<n; i++) {
+			alpha[i] = random.nextDouble() * 360;
+			delta[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+		double [] l = new double[n];
+		double [] b = new double[n];
+		double [] alpha2 = new double[n];
+		double [] delta2 = new double[n];
+		
+		Chapter13.equatorialToGalacticParallel(Chapter13.galacticMatrixB1950(), alpha, delta, l, b);
+		Chapter13.galacticToEquatorialParallel(Chapter13.galacticMatrixB1950(), l, b, alpha2, delta2);
+		for (int i=0; i<n; i++) {
+			GalacticCoordinate y = Chapter13.equatorialToGalactic(new EquatorialCoordinate(alpha[i], delta[i]));
+			assertEquals(0, angleDiff(y.longitude, l[i]) * Math.cos(Math.toRadians(b[i])), 1e-9);
+			assertEquals(y.latitude, b[i], 1e-9);
+			assertEquals(0, angleDiff(alpha[i], alpha2[i]) * Math.cos(Math.toRadians(delta[i])), 1e-9);
+			assertEquals(delta[i], delta2[i], 1e-9);
+		}
+		
+		Chapter13.equatorialToGalactic(Chapter13.galacticMatrixJ2000(), alpha, delta, l, b);
+		for (int i=0; i<n; i++) {
+			GalacticCoordinate y = Chapter13.equatorialToGalacticJ2000(new EquatorialCoordinate(alpha[i], delta[i]));
+			assertEquals(y.longitude, l[i]);
+			assertEquals(y.latitude, b[i]);
+		}
+		
+		//the transposed batch kernel matches the scalar inverse
+		Chapter13.galacticToEquatorial(Chapter13.galacticMatrixJ2000(), l, b, alpha2, delta2);
+		for (int i=0; i<n; i++) {
+			EquatorialCoordinate y = Chapter13.galacticToEquatorialJ2000(new GalacticCoordinate(l[i], b[i]));
+			assertEquals(y.rightAscension, alpha2[i]);
+			assertEquals(y.declination, delta2[i]);
+		}
+	}
+	
+	private static double angleDiff(double a, double b) {
+		double diff = Math.abs(a - b) % 360;
+		return Math.min(diff, 360 - diff);
+	}
+	
 	public void example13a() {
 		double alpha = 116.328942;
 		double delta = 28.026183;
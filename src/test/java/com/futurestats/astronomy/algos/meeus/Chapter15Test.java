@@ -0,0 +1,123 @@
+package com.futurestats.astronomy.algos.meeus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Structs.EquatorialCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.HorizontalCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.RiseTransitSet;
+
+public class Chapter15Test {
+
+	/**
+	 * Example 15.a: Venus at Boston on 1988 March 20.  The book's first 
+	 * approximations (m0 = 0.81965, m1 = 0.51817, m2 = 0.12113) are divided
+	 * by 360 instead of the sidereal rate, which is what the correction for
+	 * sidereal time converges to for a fixed object.
+	 */
+	@Test
+	public void testExample() {
+		double latitude = 42.3333;
+		double longitude = -71.0833;
+		double theta0 = 177.74208;
+		EquatorialCoordinate venus = new EquatorialCoordinate(41.73129, 18.44092);
+		
+		assertEquals(-0.3178735, Chapter15.cosHourAngle(latitude, venus.declination, Chapter15.STANDARD_ALTITUDE_STARS), 1e-6);
+		
+		RiseTransitSet m = Chapter15.riseTransitSet(venus, theta0, latitude, longitude, Chapter15.STANDARD_ALTITUDE_STARS);
+		double scale = 360 / Chapter15.SIDEREAL_RATE;
+		assertEquals(0.81965 * scale, m.transit, 1e-5);
+		assertEquals(0.51817 * scale, m.rise, 1e-5);
+		assertEquals(0.12113 * scale, m.set, 1e-5);
+		assertEquals(Chapter15.RISES_AND_SETS, m.status);
+	}
+	
+	/**
+	 * At the computed times the object should be on the meridian or at the
+	 * standard altitude.
+	 */
+	@Test
+	public void testAltitudes() {
+		double jd0 = Chapter7.julianDateFor(2022, 8, 5);
+		double theta0 = Chapter12.gmst(jd0);
+		double latitude = 39.1;
+		double longitude = -84.5;
+		double h0 = Chapter15.STANDARD_ALTITUDE_STARS;
+		
+		Random random = new Random(15);
+		for (int i=0; i<200; i++) {
+			EquatorialCoordinate coord = new EquatorialCoordinate(random.nextDouble() * 360, random.nextDouble() * 100 - 50);
+			RiseTransitSet m = Chapter15.riseTransitSet(coord, theta0, latitude, longitude, h0);
+			assertTrue(m.transit >= 0 && m.transit < 1);
+			
+			HorizontalCoordinate transit = Chapter13.equatorialToHorizontal(coord, Chapter12.gmst(jd0 + m.transit) + longitude, latitude);
+			assertEquals(90 - Math.abs(latitude - coord.declination), transit.altitude, 1e-6);
+			
+			if (m.status == Chapter15.RISES_AND_SETS) {
+				HorizontalCoordinate rise = Chapter13.equatorialToHorizontal(coord, Chapter12.gmst(jd0 + m.rise) + longitude, latitude);
+				HorizontalCoordinate set = Chapter13.equatorialToHorizontal(coord, Chapter12.gmst(jd0 + m.set) + longitude, latitude);
+				assertEquals(h0, rise.altitude, 1e-6);
+				assertEquals(h0, set.altitude, 1e-6);
+				//rising in the east (negative azimuth from the South), setting in the west
+				assertTrue(rise.azimuth < 0);
+				assertTrue(set.azimuth > 0);
+			}
+		}
+	}
+	
+	@Test
+	public void testCircumpolar() {
+		double latitude = 50;
+		EquatorialCoordinate polaris = new EquatorialCoordinate(37.95, 89.26);
+		EquatorialCoordinate canopus = new EquatorialCoordinate(95.99, -52.70);
+		
+		RiseTransitSet m = Chapter15.riseTransitSet(polaris, 100, latitude, 0, Chapter15.STANDARD_ALTITUDE_STARS);
+		assertEquals(Chapter15.CIRCUMPOLAR, m.status);
+		assertTrue(Double.isNaN(m.rise) && Double.isNaN(m.set));
+		assertFalse(Double.isNaN(m.transit));
+		
+		m = Chapter15.riseTransitSet(canopus, 100, latitude, 0, Chapter15.STANDARD_ALTITUDE_STARS);
+		assertEquals(Chapter15.NEVER_RISES, m.status);
+		assertTrue(Double.isNaN(m.rise) && Double.isNaN(m.set));
+	}
+	
+	@Test
+	public void testBatch() {
+		double theta0 = 123.4;
+		double latitude = -33.9;
+		double longitude = 18.4;
+		double h0 = Chapter15.STANDARD_ALTITUDE_STARS;
+		
+		int count = 20000;
+		double [] alpha = new double[count];
+		double [] delta = new double[count];
+		Random random = new Random(15);
+		for (int i=0; i<count; i++) {
+			alpha[i] = random.nextDouble() * 360;
+			delta[i] = random.nextDouble() * 180 - 90;
+		}
+		
+		double [] transit = new double[count];
+		double [] rise = new double[count];
+		double [] set = new double[count];
+		int [] status = new int[count];
+		Chapter15.riseTransitSetParallel(alpha, delta, theta0, latitude, longitude, h0, transit, rise, set, status);
+		
+		for (int i=0; i<count; i++) {
+			RiseTransitSet m = Chapter15.riseTransitSet(new EquatorialCoordinate(alpha[i], delta[i]), theta0, latitude, longitude, h0);
+			assertEquals(m.status, status[i]);
+			assertEquals(m.transit, transit[i], 1e-12);
+			if (m.status == Chapter15.RISES_AND_SETS) {
+				assertEquals(m.rise, rise[i], 1e-12);
+				assertEquals(m.set, set[i], 1e-12);
+			}
+			else {
+				assertTrue(Double.isNaN(rise[i]) && Double.isNaN(set[i]));
+			}
+		}
+	}
+	
+}
@@ -3,6 +3,9 @@ package com.futurestats.astronomy.algos.meeus;
 import com.futurestats.astronomy.algos.meeus.Structs.EquatorialCoordinate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +40,40 @@ public class Chapter21Test {
 		System.out.println(zero_now);
 	}
 	
+	@Test
+	public void testMatrix() {
+		double jd0 = Utils.JD_J2000;
+		double jd = Chapter7.julianDateFor(2028, 11, 13.19);
+		double [] matrix = Chapter21.precessionMatrix(jd0, jd);
+		
+		int n = 1000;
+		double [] ra = new double[n];
+		double [] dec = new double[n];
+		Random random = new Random(21);
+		for (int i=0; i<n; i++) {
+			ra[i] = random.nextDouble() * 360;
+			dec[i] = random.nextDouble() * 178 - 89;
+		}
+		
+		double [] raOut = new double[n];
+		double [] decOut = new double[n];
+		Chapter21.adjustParallel(matrix, ra, dec, raOut, decOut);
+		
+		for (int i=0; i<n; i++) {
+			EquatorialCoordinate expected = Chapter21.adjust(new EquatorialCoordinate(ra[i], dec[i]), jd0, jd);
+			assertEquals(0, Utils.normalizeDegrees(expected.rightAscension - raOut[i] + 180) - 180, 1e-9);
+			assertEquals(expected.declination, decOut[i], 1e-9);
+			assertTrue(raOut[i] >= 0 && raOut[i] < 360);
+			
+			EquatorialCoordinate scalar = Chapter21.adjust(new EquatorialCoordinate(ra[i], dec[i]), matrix);
+			assertEquals(raOut[i], scalar.rightAscension);
+			assertEquals(decOut[i], scalar.declination);
+		}
+		
+		//a tiny negative angle must not become 360
+		assertEquals(0.0, Chapter21.rightAscension(-1e-15));
+		assertEquals(359.5, Chapter21.rightAscension(-0.5));
+		assertEquals(12.0, Chapter21.rightAscension(12.0));
+	}
+	
 }
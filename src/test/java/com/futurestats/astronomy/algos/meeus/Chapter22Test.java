@@ -18,9 +18,32 @@ public class Chapter22Test {
 		double epsilon0 = Chapter22.meanObliquityOfEcliptic(jde);
 		assertEquals(Utils.dmsToDegrees(23, 26, 27.407), epsilon0, 1e-6);
 		
-		Nutation nutation = Chapter22.nutationApprox(jde);
-		System.out.println(nutation);
-		//TODO: the rest of this example
+		Nutation nutation = Chapter22.nutation(jde);
+		assertEquals(-3.788, nutation.longitude, 0.001);
+		assertEquals(9.443, nutation.obliquity, 0.001);
+		
+		double epsilon = epsilon0 + nutation.obliquity / 3600;
+		assertEquals(Utils.dmsToDegrees(23, 26, 36.850), epsilon, 1e-6);
+		
+		//the approximation is good to 0.5" and 0.1"
+		Nutation approx = Chapter22.nutationApprox(jde);
+		assertEquals(nutation.longitude, approx.longitude, 0.5);
+		assertEquals(nutation.obliquity, approx.obliquity, 0.1);
+	}
+	
+	/**
+	 * With the default (EXACT) trig backend the series gives exactly the
+	 * values it always has.
+	 */
+	@Test
+	public void testExactValues() {
+		Nutation nutation = Chapter22.nutation(2415020.5);
+		assertEquals(17.426152952109224, nutation.longitude);
+		assertEquals(-2.2925336832586765, nutation.obliquity);
+		
+		nutation = Chapter22.nutation(2460000.5);
+		assertEquals(-9.275428602540416, nutation.longitude);
+		assertEquals(7.736783564907031, nutation.obliquity);
 	}
 	
 }
@@ -1,5 +1,6 @@
 package com.futurestats.astronomy.algos.meeus;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
@@ -43,4 +44,64 @@ public class Chapter7Test {
 		assertEquals(day, date.day, 1e-6);
 	}
 	
+	/**
+	 * The batch and parallel conversions must give exactly the same values
+	 * as the scalar method, including around the Julian/Gregorian switch.
+	 */
+	@Test
+	public void testBatch() {
+		int n = 100000;
+		int [] year = new int[n];
+		int [] month = new int[n];
+		double [] day = new double[n];
+		double [] expected = new double[n];
+		
+		for (int i=0; i<n; i++) {
+			year[i] = (i % 2 == 0) ? 1582 : -4712 + (i * 7) % 7000;
+			month[i] = 1 + (i % 12);
+			day[i] = 1 + (i % 28) + (i % 10) / 10.0;
+			expected[i] = Chapter7.julianDateFor(year[i], month[i], day[i]);
+		}
+		
+		double [] jd = new double[n];
+		Chapter7.julianDateFor(year, month, day, jd);
+		assertArrayEquals(expected, jd);
+		
+		double [] jdParallel = new double[n];
+		Chapter7.julianDateForParallel(year, month, day, jdParallel);
+		assertArrayEquals(expected, jdParallel);
+	}
+	
+	/**
+	 * The bulk decoders must give exactly the same values as the scalar
+	 * method.
+	 */
+	@Test
+	public void testBatchToCalendar() {
+		int n = 100000;
+		double [] jd = new double[n];
+		for (int i=0; i<n; i++)
+			jd[i] = (i % 2 == 0) ? 2299160.5 + (i % 20) - 10 : (i * 37.3) % 2500000;
+		
+		int [] year = new int[n];
+		int [] month = new int[n];
+		double [] day = new double[n];
+		Chapter7.julianDateToCalendar(jd, year, month, day);
+		
+		int [] yearParallel = new int[n];
+		int [] monthParallel = new int[n];
+		double [] dayParallel = new double[n];
+		Chapter7.julianDateToCalendarParallel(jd, yearParallel, monthParallel, dayParallel);
+		
+		for (int i=0; i<n; i++) {
+			Structs.AstronomicalDate expected = Chapter7.julianDateToCalendar(jd[i]);
+			assertEquals(expected.year, year[i]);
+			assertEquals(expected.month, month[i]);
+			assertEquals(expected.day, day[i]);
+			assertEquals(expected.year, yearParallel[i]);
+			assertEquals(expected.month, monthParallel[i]);
+			assertEquals(expected.day, dayParallel[i]);
+		}
+	}
+	
 }
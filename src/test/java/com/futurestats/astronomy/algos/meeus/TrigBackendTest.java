@@ -0,0 +1,128 @@
+package com.futurestats.astronomy.algos.meeus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.algos.meeus.Structs.EclipticalCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.EquatorialCoordinate;
+import com.futurestats.astronomy.algos.meeus.Structs.Nutation;
+
+public class TrigBackendTest {
+
+	@Test
+	public void testErrorBounds() {
+		checkErrors(TrigBackend.EXACT, 0, 0);
+		checkErrors(TrigBackend.STRICT, 1e-15, 1e-13);
+		checkErrors(TrigBackend.FAST, FastTrig.MAX_SIN_ERROR, FastTrig.MAX_INVERSE_ERROR);
+	}
+	
+	private void checkErrors(TrigBackend trig, double maxSinError, double maxInverseError) {
+		Random random = new Random(18);
+		double [] sincos = new double[2];
+		double sinError = 0;
+		double inverseError = 0;
+		
+		for (int i=0; i<200000; i++) {
+			double deg = (random.nextDouble() * 2 - 1) * ((i % 2 == 0) ? 360 : 36000);
+			
+			//allow for rounding of large arguments (see MAX_SIN_ERROR)
+			double scale = 1 + Math.abs(deg) * 5e-3;
+			sinError = Math.max(sinError, Math.abs(trig.sin(deg) - Math.sin(deg * TrigDegrees.DEG_TO_RAD)) / scale);
+			sinError = Math.max(sinError, Math.abs(trig.cos(deg) - Math.cos(deg * TrigDegrees.DEG_TO_RAD)) / scale);
+			
+			trig.sincos(deg, sincos);
+			assertEquals(trig.sin(deg), sincos[0]);
+			assertEquals(trig.cos(deg), sincos[1]);
+			
+			double x = random.nextDouble() * 2 - 1;
+			double y = random.nextDouble() * 2 - 1;
+			inverseError = Math.max(inverseError, Math.abs(trig.asin(x) - Math.asin(x) / TrigDegrees.DEG_TO_RAD));
+			inverseError = Math.max(inverseError, Math.abs(trig.acos(x) - Math.acos(x) / TrigDegrees.DEG_TO_RAD));
+			inverseError = Math.max(inverseError, Math.abs(trig.atan(x / y) - Math.atan(x / y) / TrigDegrees.DEG_TO_RAD));
+			inverseError = Math.max(inverseError, Math.abs(trig.atan2(y, x) - Math.atan2(y, x) / TrigDegrees.DEG_TO_RAD));
+		}
+		
+		assertTrue(sinError <= maxSinError, trig + " sin/cos error " + sinError);
+		assertTrue(inverseError <= maxInverseError, trig + " inverse error " + inverseError);
+		
+		//special values
+		assertEquals(90, trig.asin(1), 1e-13);
+		assertEquals(180, trig.acos(-1), 1e-13);
+		assertEquals(180, trig.atan2(0, -1), 1e-13);
+		assertEquals(0, trig.atan2(0, 0));
+		assertEquals(-90, trig.atan(Double.NEGATIVE_INFINITY), 1e-13);
+		assertTrue(Double.isNaN(trig.asin(1.5)));
+		assertTrue(Double.isNaN(trig.sin(Double.NaN)));
+	}
+	
+	/**
+	 * The random samples above can miss the worst case of FAST, so sweep
+	 * +/- 360 degrees densely and probe closely around the midpoints
+	 * between table entries, where the remainder is largest.
+	 */
+	@Test
+	public void testFastSinErrorDense() {
+		TrigBackend trig = TrigBackend.FAST;
+		double error = 0;
+		
+		for (int i=-3600000; i<=3600000; i++)
+			error = Math.max(error, sinCosError(trig, i * 1e-4));
+		
+		double step = 360.0 / FastTrig.SIN_SIZE;
+		for (int k=-FastTrig.SIN_SIZE; k<FastTrig.SIN_SIZE; k++) {
+			for (int j=-50; j<=50; j++)
+				error = Math.max(error, sinCosError(trig, (k + 0.5) * step + j * 1e-6));
+		}
+		
+		assertTrue(error <= FastTrig.MAX_SIN_ERROR, "sin/cos error " + error);
+	}
+	
+	private static double sinCosError(TrigBackend trig, double deg) {
+		double rad = deg * TrigDegrees.DEG_TO_RAD;
+		return Math.max(
+				Math.abs(trig.sin(deg) - Math.sin(rad)),
+				Math.abs(trig.cos(deg) - Math.cos(rad)));
+	}
+	
+	@Test
+	public void testForName() {
+		assertSame(TrigBackend.EXACT, TrigBackend.forName("exact"));
+		assertSame(TrigBackend.STRICT, TrigBackend.forName("Strict"));
+		assertSame(TrigBackend.FAST, TrigBackend.forName(" FAST "));
+		assertThrows(IllegalArgumentException.class, () -> TrigBackend.forName("slow"));
+	}
+	
+	/**
+	 * The chapters pick up the backend through TrigDegrees.
+	 */
+	@Test
+	public void testSwitch() {
+		EquatorialCoordinate x = new EquatorialCoordinate(116.328942, 28.026183);
+		TrigBackend original = TrigDegrees.getBackend();
+		
+		EclipticalCoordinate exact = Chapter13.equatorialToEcliptic(x, Chapter13.EPSILON_J2000);
+		Nutation exactNutation = Chapter22.nutation(2446895.5);
+		try {
+			TrigDegrees.setBackend(TrigBackend.FAST);
+			assertSame(TrigBackend.FAST, TrigDegrees.getBackend());
+			
+			EclipticalCoordinate fast = Chapter13.equatorialToEcliptic(x, Chapter13.EPSILON_J2000);
+			assertEquals(exact.longitude, fast.longitude, 1e-12);
+			assertEquals(exact.latitude, fast.latitude, 1e-12);
+			
+			Nutation fastNutation = Chapter22.nutation(2446895.5);
+			assertEquals(exactNutation.longitude, fastNutation.longitude, 1e-12);
+			assertEquals(exactNutation.obliquity, fastNutation.obliquity, 1e-12);
+		}
+		finally {
+			TrigDegrees.setBackend(original);
+		}
+	}
+	
+}
@@ -0,0 +1,113 @@
+package com.futurestats.astronomy.angles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AngleFormatTest {
+
+	@Test
+	public void testFormat() {
+		double dec = 12 + 34/60.0 + 56.7/3600;
+		double ra = (12 + 34/60.0 + 56.7/3600) * 15;
+		
+		assertEquals("+12d 34' 56.7\"", AngleFormat.toDmsString(dec, 1));
+		assertEquals("-12d 34' 56.700\"", AngleFormat.toDmsString(-dec, 3));
+		assertEquals("+12d 34' 57\"", AngleFormat.toDmsString(dec, 0));
+		assertEquals("12h 34m 56.7s", AngleFormat.toHmsString(ra, 1));
+		assertEquals("-12h 34m 56.70s", AngleFormat.toHmsString(-ra, 2));
+		assertEquals("+120d 15' 12.5\"", Angle.fromDms(120, 15, 12.5).toDmsString(1));
+		assertEquals("13h 30m 00.000s", Hours.of(13.5).toHmsString(3));
+		
+		//rounding carries into the minutes (and degrees)
+		assertEquals("+0d 01' 00.000\"", AngleFormat.toDmsString(59.99996 / 3600, 3));
+		assertEquals("+1d 00' 00.0\"", AngleFormat.toDmsString(1 - 0.01 / 3600, 1));
+		assertEquals("24h 00m 00s", AngleFormat.toHmsString(359.99999, 0));
+		
+		//values that round to zero don't get a minus sign
+		assertEquals("+0d 00' 00.0\"", AngleFormat.toDmsString(-1e-9, 1));
+		assertEquals("+0d 00' 00.000000001\"", AngleFormat.toDmsString(1e-9 / 3600, 9));
+		
+		assertThrows(IllegalArgumentException.class, () -> AngleFormat.toDmsString(Double.NaN, 1));
+		assertThrows(IllegalArgumentException.class, () -> AngleFormat.toDmsString(1, 10));
+		assertEquals("+2500000000000d 00' 00\"", AngleFormat.toDmsString(2.5e12, 0));
+	}
+	
+	@Test
+	public void testBuffers() throws IOException {
+		AngleFormat format = new AngleFormat(2);
+		
+		StringBuilder s = new StringBuilder("dec=");
+		format.appendDms(s, -45.5).append(", ra=");
+		format.appendHms(s, 187.5);
+		assertEquals("dec=-45d 30' 00.00\", ra=12h 30m 00.00s", s.toString());
+		
+		CharBuffer chars = CharBuffer.allocate(64);
+		format.putDms(chars, -45.5).put(' ');
+		format.putHms(chars, 187.5);
+		chars.flip();
+		assertEquals("-45d 30' 00.00\" 12h 30m 00.00s", chars.toString());
+		
+		StringWriter writer = new StringWriter();
+		format.appendDms((Appendable)writer, -45.5);
+		assertEquals("-45d 30' 00.00\"", writer.toString());
+		
+		ByteBuffer bytes = ByteBuffer.allocate(64);
+		format.putDms(bytes, -45.5).put((byte)' ');
+		format.putHms(bytes, 187.5);
+		assertEquals("-45d 30' 00.00\" 12h 30m 00.00s", 
+				new String(bytes.array(), 0, bytes.position(), StandardCharsets.US_ASCII));
+		
+		assertEquals(-45.5, AngleFormat.parseDms(bytes, 0, 15));
+		assertEquals(187.5, AngleFormat.parseHms(bytes, 16, bytes.position()));
+		
+		assertThrows(IllegalArgumentException.class, () -> new AngleFormat(-1));
+	}
+	
+	@Test
+	public void testParse() {
+		assertEquals(12 + 34/60.0 + 56.7/3600, AngleFormat.parseDms("+12d 34' 56.7\""));
+		assertEquals(-(12 + 34/60.0 + 56.7/3600), AngleFormat.parseDms("- 12d 34' 56.7"));
+		assertEquals(12 + 34/60.0 + 56.7/3600, AngleFormat.parseDms("  12\u00b0 34' 56.7\"  "));
+		assertEquals((12 + 34/60.0 + 56.7/3600) * 15, AngleFormat.parseHms("12h 34m 56.7s"));
+		assertEquals(-(1/60.0) * 15, AngleFormat.parseHms("-0h 1m 0s"));
+		assertEquals(1e-13 / 3600, AngleFormat.parseDms("+ 0d 0' 1.0E-13\""), 1e-30);
+		
+		//the output of Angle.toDmsString() and toHmsString()
+		Angle angle = Angle.fromDms(120, 15, 12.5);
+		assertEquals(angle.degreesValue(), AngleFormat.parseDms(angle.toDmsString()), 1e-12);
+		assertEquals(angle.degreesValue(), AngleFormat.parseHms(angle.toHmsString()), 1e-12);
+		
+		assertThrows(IllegalArgumentException.class, () -> AngleFormat.parseDms("12h 34m 56.7s"));
+		assertThrows(IllegalArgumentException.class, () -> AngleFormat.parseDms("12d 34'"));
+		assertThrows(IllegalArgumentException.class, () -> AngleFormat.parseHms("12h 34m 56.7s x"));
+		assertThrows(IllegalArgumentException.class, () -> AngleFormat.parseHms(""));
+	}
+	
+	@Test
+	public void testRoundTrip() {
+		Random random = new Random(19);
+		AngleFormat format = new AngleFormat(6);
+		StringBuilder s = new StringBuilder();
+		for (int i=0; i<100000; i++) {
+			double deg = random.nextDouble() * 180 - 90;
+			s.setLength(0);
+			format.appendDms(s, deg);
+			assertEquals(deg, AngleFormat.parseDms(s), 0.5e-6 / 3600 + 1e-12);
+			
+			double ra = random.nextDouble() * 360;
+			s.setLength(0);
+			format.appendHms(s, ra);
+			assertEquals(ra, AngleFormat.parseHms(s), 15 * 0.5e-6 / 3600 + 1e-12);
+		}
+	}
+	
+}
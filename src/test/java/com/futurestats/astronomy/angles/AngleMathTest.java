@@ -0,0 +1,74 @@
+package com.futurestats.astronomy.angles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AngleMathTest {
+
+	/**
+	 * The primitive functions must give exactly the same results as the
+	 * Angle objects.
+	 */
+	@Test
+	public void testSameAsAngles() {
+		Random random = new Random(17);
+		for (int i=0; i<10000; i++) {
+			double x = random.nextDouble() * 2000 - 1000;
+			
+			Degrees deg = Degrees.of(x);
+			assertEquals(deg.toRadians().value(), AngleMath.degreesToRadians(x));
+			assertEquals(deg.toHours().value(), AngleMath.degreesToHours(x));
+			assertEquals(deg.toRadians().value(), deg.radiansValue());
+			assertEquals(deg.toHours().value(), deg.hoursValue());
+			assertEquals(deg.normalize().value(), AngleMath.normalizeDegrees(x));
+			assertEquals(Math.sin(deg.toRadians().value()), AngleMath.sinDegrees(x));
+			
+			Radians rad = Radians.of(x / 100);
+			assertEquals(rad.toDegrees().value(), AngleMath.radiansToDegrees(x / 100));
+			assertEquals(rad.toHours().value(), AngleMath.radiansToHours(x / 100));
+			assertEquals(rad.normalize().value(), AngleMath.normalizeRadians(x / 100));
+			
+			Hours hours = Hours.of(x / 10);
+			assertEquals(hours.toDegrees().value(), AngleMath.hoursToDegrees(x / 10));
+			assertEquals(hours.toRadians().value(), AngleMath.hoursToRadians(x / 10));
+			assertEquals(hours.normalize().value(), AngleMath.normalizeHours(x / 10));
+			assertEquals(hours.toDegrees().value(), hours.degreesValue());
+		}
+		
+		assertEquals(120.25347222222222, Angle.fromDms(120, 15, 12.5).degreesValue(), 1e-12);
+		assertEquals(13.5, Angle.fromHms(13, 30, 0).hoursValue());
+		assertEquals(30, AngleMath.asinDegrees(0.5), 1e-12);
+		assertEquals(135, AngleMath.atan2Degrees(1, -1), 1e-12);
+	}
+	
+	@Test
+	public void testNormalizeInRange() {
+		Degrees deg = Degrees.of(123);
+		assertSame(deg, deg.normalize());
+		assertEquals(350, Degrees.of(-10).normalize().value());
+	}
+	
+	@Test
+	public void testMutableAngle() {
+		MutableAngle angle = new MutableAngle();
+		
+		//same result as the Angle objects
+		Angle expected = Degrees.of(300).add(Hours.of(5)).normalize();
+		angle.set(300).add(Hours.of(5)).normalize();
+		assertEquals(expected.degreesValue(), angle.degrees());
+		assertEquals(expected.toHours().value(), angle.hours());
+		assertEquals(expected.sin(), angle.sin());
+		
+		//reused
+		angle.setHours(6).subtract(Radians.of(Math.PI));
+		assertEquals(-90, angle.degrees(), 1e-12);
+		assertEquals(270, angle.normalize().degrees(), 1e-12);
+		assertEquals(270, angle.toAngle().value(), 1e-12);
+		assertEquals(1, angle.setRadians(Math.PI / 2).sin(), 1e-15);
+	}
+	
+}
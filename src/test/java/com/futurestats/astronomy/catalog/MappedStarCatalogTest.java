@@ -0,0 +1,112 @@
+package com.futurestats.astronomy.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class MappedStarCatalogTest {
+
+	@Test
+	public void testWriteAndRead() throws IOException {
+		int n = 100001;	//odd count exercises the padding
+		StarCatalogWriter writer = new StarCatalogWriter(16);
+		for (int i=0; i<n; i++)
+			writer.add(1000L + i, (i * 0.0036) % 360, (i % 181) - 90.0, i * 0.0001f, i * 0.5f, -i * 0.25f);
+		assertEquals(n, writer.size());
+		
+		Path file = Files.createTempFile("stars", ".cat");
+		try {
+			writer.write(file);
+			assertEquals(StarCatalogFormat.fileSize(n), Files.size(file));
+			assertEquals(0, Files.size(file) % 8);
+			
+			try (MappedStarCatalog catalog = MappedStarCatalog.open(file)) {
+				assertEquals(n, catalog.size());
+				for (int i=0; i<n; i+=97) {
+					assertEquals(1000L + i, catalog.getId(i));
+					assertEquals((i * 0.0036) % 360, catalog.getRightAscension(i));
+					assertEquals((i % 181) - 90.0, catalog.getDeclination(i));
+					assertEquals(i * 0.0001f, catalog.getMagnitude(i));
+					assertEquals(i * 0.5f, catalog.getProperMotionRa(i));
+					assertEquals(-i * 0.25f, catalog.getProperMotionDec(i));
+				}
+				
+				assertEquals(n - 1, catalog.indexOf(1000L + n - 1));
+				assertEquals(-1, catalog.indexOf(5));
+				assertEquals(catalog.getDeclination(7), 
+						catalog.getCoordinate(7).getDeclination().toDegrees().value(), 1e-12);
+				
+				double [] ra = new double[10];
+				catalog.readRightAscensions(500, ra, 2, 8);
+				for (int i=0; i<8; i++)
+					assertEquals(catalog.getRightAscension(500 + i), ra[i + 2]);
+				
+				long [] ids = new long[3];
+				catalog.readIds(n - 3, ids, 0, 3);
+				assertArrayEquals(new long [] {n + 997L, n + 998L, n + 999L}, ids);
+			}
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	public void testCsv() throws IOException {
+		String csv = "HIP, Name, RA, Dec, Mag, pmRA, pmDec\n"
+				+ "32349,Sirius,101.28715533,-16.71611586,-1.44,-546.01,-1223.07\n"
+				+ "\n"
+				+ "91262,Vega,279.23473479,38.78368896,0.03,,\n";
+		
+		//'HIP' isn't one of the expected names
+		assertThrows(IOException.class, () -> StarCatalogWriter.fromCsv(new BufferedReader(new StringReader(csv))));
+		
+		StarCatalogWriter writer = StarCatalogWriter.fromCsv(new BufferedReader(new StringReader(csv.replace("HIP", "id"))));
+		assertEquals(2, writer.size());
+		
+		Path file = Files.createTempFile("stars", ".cat");
+		try {
+			writer.write(file);
+			try (MappedStarCatalog catalog = MappedStarCatalog.open(file)) {
+				assertEquals(32349, catalog.getId(0));
+				assertEquals(-16.71611586, catalog.getDeclination(0));
+				assertEquals(-1223.07f, catalog.getProperMotionDec(0));
+				assertEquals(0.03f, catalog.getMagnitude(1));
+				assertEquals(0f, catalog.getProperMotionRa(1));
+			}
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+	
+	@Test
+	public void testInvalidFile() throws IOException {
+		Path file = Files.createTempFile("stars", ".cat");
+		try {
+			Files.write(file, new byte[64]);
+			assertThrows(IOException.class, () -> MappedStarCatalog.open(file));
+			
+			//a header for more rows than a column can map
+			ByteBuffer header = ByteBuffer.allocate(StarCatalogFormat.HEADER_SIZE).order(StarCatalogFormat.BYTE_ORDER);
+			header.putInt(StarCatalogFormat.MAGIC).putInt(StarCatalogFormat.VERSION).putLong(StarCatalogFormat.MAX_ROWS + 1L);
+			Files.write(file, header.array());
+			IOException e = assertThrows(IOException.class, () -> MappedStarCatalog.open(file));
+			assertTrue(e.getMessage().contains("too large"), e.getMessage());
+			
+			assertThrows(IllegalArgumentException.class, () -> StarCatalogWriter.write(file, 
+					StarCatalogFormat.MAX_ROWS + 1, new long[0], new double[0], new double[0], new float[0], null, null));
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+	
+}
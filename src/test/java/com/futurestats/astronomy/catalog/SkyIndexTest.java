@@ -0,0 +1,136 @@
+package com.futurestats.astronomy.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.futurestats.astronomy.EquatorialCoordinate;
+import com.futurestats.astronomy.angles.Degrees;
+
+public class SkyIndexTest {
+
+	static final int N = 50000;
+	
+	double [] ra = new double[N];
+	double [] dec = new double[N];
+	
+	public SkyIndexTest() {
+		Random random = new Random(14);
+		for (int i=0; i<N; i++) {
+			ra[i] = random.nextDouble() * 360;
+			dec[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+		//points on face/pixel boundaries and the poles
+		ra[0] = 45; dec[0] = 0;
+		ra[1] = 0; dec[1] = 90;
+		ra[2] = 135; dec[2] = -90;
+		ra[3] = 0; dec[3] = 35.26438968;
+	}
+	
+	@Test
+	public void testPixels() {
+		assertEquals(0, SkyIndex.pixelFor(0, 0, 0));
+		assertEquals(1, SkyIndex.pixelFor(90, 0, 0));
+		assertEquals(4, SkyIndex.pixelFor(0, 90, 0));
+		assertEquals(5, SkyIndex.pixelFor(0, -90, 0));
+		
+		//hierarchical ids
+		for (int i=0; i<1000; i++) {
+			int fine = SkyIndex.pixelFor(ra[i], dec[i], 10);
+			assertEquals(SkyIndex.pixelFor(ra[i], dec[i], 7), fine >> 6);
+		}
+		
+		for (int v=0; v<1024; v+=37)
+			assertEquals(v, SkyIndex.compact(SkyIndex.spread(v)));
+		
+		assertEquals(0, SkyIndex.levelFor(100));
+		assertTrue(SkyIndex.levelFor(2500000) <= SkyIndex.MAX_LEVEL);
+	}
+	
+	@Test
+	public void testConeSearch() {
+		for (int level : new int [] {0, 3, SkyIndex.levelFor(N), SkyIndex.MAX_LEVEL}) {
+			SkyIndex index = SkyIndex.build(ra, dec, level);
+			assertEquals(N, index.size());
+			
+			double [][] cones = {
+				{10, 20, 1}, {359.9, 0, 2.5}, {0, 89.5, 3}, {200, -90, 10}, 
+				{45, 0, 0.01}, {123, 45, 60}, {0, 0, 180}, {300, -30, 0}
+			};
+			for (double [] cone : cones)
+				assertArrayEquals(bruteForceCone(cone[0], cone[1], cone[2]), 
+						sorted(index.coneSearch(cone[0], cone[1], cone[2])), 
+						"level " + level + " cone " + Arrays.toString(cone));
+		}
+	}
+	
+	@Test
+	public void testBoxSearch() {
+		SkyIndex index = SkyIndex.build(ra, dec);
+		
+		double [][] boxes = {
+			{10, 20, -5, 5}, {350, 10, 30, 40}, {0, 360, 80, 90}, {100, 101, -90, -85},
+			{0, 359.99, -1, 1}, {270, 90, -20, 20}, {5, 5, -90, 90}
+		};
+		for (double [] box : boxes)
+			assertArrayEquals(bruteForceBox(box[0], box[1], box[2], box[3]), 
+					sorted(index.boxSearch(box[0], box[1], box[2], box[3])), 
+					"box " + Arrays.toString(box));
+	}
+	
+	@Test
+	public void testCatalog() {
+		SkyIndex index = SkyIndex.build(ra, dec);
+		int [] rows = index.coneSearch(EquatorialCoordinate.fromDegrees(10, 20), Degrees.of(1));
+		assertArrayEquals(bruteForceCone(10, 20, 1), sorted(rows));
+		
+		int [] count = new int[1];
+		assertEquals(rows.length, index.coneSearch(10, 20, 1, row -> count[0]++));
+		assertEquals(rows.length, count[0]);
+		
+		assertThrows(IllegalArgumentException.class, () -> SkyIndex.build(ra, dec, SkyIndex.MAX_LEVEL + 1));
+	}
+	
+	int [] bruteForceCone(double ra0, double dec0, double radius) {
+		double [] c = vector(ra0, dec0);
+		double minDot = Math.cos(Math.toRadians(radius));
+		return Arrays.stream(range()).filter(i -> {
+			double [] v = vector(ra[i], dec[i]);
+			return v[0] * c[0] + v[1] * c[1] + v[2] * c[2] >= minDot;
+		}).toArray();
+	}
+	
+	int [] bruteForceBox(double raMin, double raMax, double decMin, double decMax) {
+		return Arrays.stream(range()).filter(i -> {
+			double [] v = vector(ra[i], dec[i]);
+			double r = Math.toDegrees(Math.atan2(v[1], v[0]));
+			if (r < 0)
+				r += 360;
+			boolean raOk = (raMin <= raMax) ? (r >= raMin && r <= raMax) : (r >= raMin || r <= raMax);
+			return raOk && v[2] >= Math.sin(Math.toRadians(decMin)) && v[2] <= Math.sin(Math.toRadians(decMax));
+		}).toArray();
+	}
+	
+	int [] range() {
+		int [] rows = new int[N];
+		Arrays.setAll(rows, i -> i);
+		return rows;
+	}
+	
+	static double [] vector(double ra, double dec) {
+		double alpha = ra * SkyIndex.DEG_TO_RAD;
+		double delta = dec * SkyIndex.DEG_TO_RAD;
+		double cos_delta = Math.cos(delta);
+		return new double [] {cos_delta * Math.cos(alpha), cos_delta * Math.sin(alpha), Math.sin(delta)};
+	}
+	
+	static int [] sorted(int [] values) {
+		int [] result = values.clone();
+		Arrays.sort(result);
+		return result;
+	}
+	
+}